@@ -51,6 +51,8 @@ public class QProduct extends EntityPathBase<Product> {
 
     public final StringPath texture = createString("texture");
 
+    public final StringPath thumbnailUrl = createString("thumbnailUrl");
+
     //inherited
     public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
 
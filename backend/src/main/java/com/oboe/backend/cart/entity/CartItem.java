@@ -1,6 +1,7 @@
 package com.oboe.backend.cart.entity;
 
 import com.oboe.backend.common.domain.BaseTimeEntity;
+import com.oboe.backend.common.domain.IdGenerators;
 import com.oboe.backend.product.entity.Product;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.math.BigDecimal;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -28,7 +30,10 @@ public class CartItem extends BaseTimeEntity {
 
   // 고유 식별자
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "cart_item_id")
+  @TableGenerator(name = "cart_item_id", table = IdGenerators.TABLE,
+      pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+      pkColumnValue = "cart_items", allocationSize = IdGenerators.ALLOCATION_SIZE)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
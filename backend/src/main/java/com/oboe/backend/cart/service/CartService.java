@@ -12,6 +12,7 @@ import com.oboe.backend.common.exception.CustomException;
 import com.oboe.backend.common.exception.ErrorCode;
 import com.oboe.backend.common.service.TokenProcessor;
 import com.oboe.backend.product.entity.Product;
+import com.oboe.backend.product.event.ProductAddedToCartEvent;
 import com.oboe.backend.product.repository.ProductRepository;
 import com.oboe.backend.user.entity.User;
 import com.oboe.backend.user.repository.UserRepository;
@@ -19,6 +20,7 @@ import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +35,7 @@ public class CartService {
   private final ProductRepository productRepository;
   private final UserRepository userRepository;
   private final TokenProcessor tokenProcessor;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 사용자의 장바구니 조회
@@ -86,6 +89,9 @@ public class CartService {
     cart.addCartItem(cartItem);
     cartRepository.save(cart);
 
+    // 트렌딩 점수 반영 (커밋 후)
+    eventPublisher.publishEvent(new ProductAddedToCartEvent(product.getId()));
+
     log.info("상품 {}이(가) 장바구니에 추가되었습니다. 사용자 ID: {}, 수량: {}",
         product.getName(), userId, request.getQuantity());
 
@@ -0,0 +1,92 @@
+package com.oboe.backend.common.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 크기 제한 + TTL 만료를 지원하는 인메모리 LRU 캐시
+ * - 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거
+ * - 만료된 항목은 조회 시점에 제거
+ */
+public class BoundedTtlCache<K, V> {
+
+  private final int maxSize;
+  private final long ttlNanos;
+  private final LinkedHashMap<K, Entry<V>> entries;
+
+  public BoundedTtlCache(int maxSize, Duration ttl) {
+    this.maxSize = maxSize;
+    this.ttlNanos = ttl.toNanos();
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        return size() > BoundedTtlCache.this.maxSize;
+      }
+    };
+  }
+
+  /**
+   * 캐시 조회 (없거나 만료되었으면 null)
+   */
+  public synchronized V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.isExpired(System.nanoTime())) {
+      entries.remove(key);
+      return null;
+    }
+    return entry.value;
+  }
+
+  /**
+   * 캐시 조회, 없으면 loader 결과를 저장 후 반환
+   * - loader 는 락 밖에서 실행 (느린 DB 조회가 다른 키 조회를 막지 않도록)
+   */
+  public V get(K key, Supplier<V> loader) {
+    V cached = get(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    V loaded = loader.get();
+    if (loaded != null) {
+      put(key, loaded);
+    }
+    return loaded;
+  }
+
+  public synchronized void put(K key, V value) {
+    entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+  }
+
+  public synchronized void remove(K key) {
+    entries.remove(key);
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private static class Entry<V> {
+
+    private final V value;
+    private final long expiresAt;
+
+    private Entry(V value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired(long now) {
+      return now - expiresAt > 0;
+    }
+  }
+}
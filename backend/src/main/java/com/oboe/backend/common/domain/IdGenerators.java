@@ -0,0 +1,19 @@
+package com.oboe.backend.common.domain;
+
+/**
+ * 테이블 기반 pooled ID 생성기 공통 설정
+ * - id_generators 테이블에 엔티티(테이블)별 행을 두고 인스턴스마다 ALLOCATION_SIZE 개씩 블록으로 할당
+ * - 블록 안의 ID 는 메모리에서 발급하므로 INSERT 마다 생성 키를 읽을 필요가 없어 JDBC 배치 INSERT 가능
+ *   (IDENTITY 는 hibernate.jdbc.batch_size 설정이 있어도 INSERT 를 한 건씩 실행)
+ * - 기존 테이블 전환: db/scripts/002_add_id_generators.sql
+ */
+public final class IdGenerators {
+
+  public static final String TABLE = "id_generators";
+  public static final String PK_COLUMN = "sequence_name";
+  public static final String VALUE_COLUMN = "next_val";
+  public static final int ALLOCATION_SIZE = 50;
+
+  private IdGenerators() {
+  }
+}
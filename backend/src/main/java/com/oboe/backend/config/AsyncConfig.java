@@ -0,0 +1,34 @@
+package com.oboe.backend.config;
+
+import java.util.concurrent.Callable;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 비동기 응답 설정
+ * - 요청 속성 TIMEOUT_ATTRIBUTE 에 타임아웃(ms)을 지정한 요청만 기본 비동기 타임아웃 대신 해당 값 사용
+ *   (상품 내보내기처럼 오래 걸리는 StreamingResponseBody 응답용, 나머지 요청은 기본값 유지)
+ */
+@Configuration
+public class AsyncConfig implements WebMvcConfigurer {
+
+  public static final String TIMEOUT_ATTRIBUTE = AsyncConfig.class.getName() + ".TIMEOUT";
+
+  @Override
+  public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+    configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+      @Override
+      public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        Object timeout = request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (timeout instanceof Long millis && request instanceof AsyncWebRequest asyncRequest) {
+          asyncRequest.setTimeout(millis);
+        }
+      }
+    });
+  }
+}
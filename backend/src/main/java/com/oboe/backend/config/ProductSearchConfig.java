@@ -0,0 +1,18 @@
+package com.oboe.backend.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "product.search")
+@Getter
+@Setter
+public class ProductSearchConfig {
+
+  // 브랜드 별칭 -> 대표 브랜드 (편집 거리로 찾을 수 없는 한글 표기 등)
+  private Map<String, String> brandAliases = new HashMap<>();
+}
@@ -1,6 +1,10 @@
 package com.oboe.backend.config;
 
+import com.oboe.backend.product.cache.ProductDetailCache;
+import com.oboe.backend.product.cache.ProductSearchResultCache;
+import com.oboe.backend.product.search.ProductIndexCoordinator;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -8,6 +12,8 @@ import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -53,4 +59,37 @@ public class RedisConfig {
     return template;
   }
 
+  /**
+   * 상품 Pub/Sub 메시지 구독 (다중 인스턴스 L1 캐시/인메모리 인덱스 동기화)
+   * - 구독 연결과 디스패치 스레드를 공유하도록 컨테이너 하나에 채널별 리스너 등록
+   * - 채널별 pubsub-enabled 가 false 인 리스너는 등록하지 않음, 모두 false 면 컨테이너 미생성
+   */
+  @Bean
+  @ConditionalOnExpression("${product.cache.detail.pubsub-enabled:true}"
+      + " or ${product.search.index-pubsub-enabled:true}"
+      + " or ${product.cache.search.pubsub-enabled:true}")
+  public RedisMessageListenerContainer productListenerContainer(
+      ProductDetailCache productDetailCache,
+      ProductIndexCoordinator productIndexCoordinator,
+      ProductSearchResultCache productSearchResultCache,
+      @Value("${product.cache.detail.pubsub-enabled:true}") boolean detailPubSubEnabled,
+      @Value("${product.search.index-pubsub-enabled:true}") boolean indexPubSubEnabled,
+      @Value("${product.cache.search.pubsub-enabled:true}") boolean searchPubSubEnabled) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory());
+    if (detailPubSubEnabled) {
+      container.addMessageListener(productDetailCache,
+          new ChannelTopic(ProductDetailCache.INVALIDATION_CHANNEL));
+    }
+    if (indexPubSubEnabled) {
+      container.addMessageListener(productIndexCoordinator,
+          new ChannelTopic(ProductIndexCoordinator.CHANGE_CHANNEL));
+    }
+    if (searchPubSubEnabled) {
+      container.addMessageListener(productSearchResultCache,
+          new ChannelTopic(ProductSearchResultCache.INVALIDATION_CHANNEL));
+    }
+    return container;
+  }
+
 }
@@ -53,7 +53,9 @@ public class SecurityConfig {
             // Swagger UI 접근 허용
             .requestMatchers("/swagger-ui/**", "/swagger-ui.html").permitAll()
             .requestMatchers("/api-docs/**", "/v3/api-docs/**").permitAll()
-            .requestMatchers("/actuator/**").permitAll()
+            // Actuator: 헬스 체크만 공개, 메트릭 등 나머지는 ADMIN 만
+            .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+            .requestMatchers("/actuator/**").hasRole("ADMIN")
             // Product API 권한 설정
             .requestMatchers("/api/products/**").authenticated() // 모든 Product API는 인증 필요
             .anyRequest().authenticated()
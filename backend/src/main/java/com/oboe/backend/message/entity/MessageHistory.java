@@ -1,11 +1,13 @@
 package com.oboe.backend.message.entity;
 
+import com.oboe.backend.common.domain.IdGenerators;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,7 +27,10 @@ public class MessageHistory {
 
   //고유 식별자
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "message_id")
+  @TableGenerator(name = "message_id", table = IdGenerators.TABLE,
+      pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+      pkColumnValue = "messages", allocationSize = IdGenerators.ALLOCATION_SIZE)
   private Long id;
 
   @Column(nullable = false)
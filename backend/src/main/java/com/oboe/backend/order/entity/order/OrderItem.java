@@ -1,6 +1,7 @@
 package com.oboe.backend.order.entity.order;
 
 import com.oboe.backend.common.domain.BaseTimeEntity;
+import com.oboe.backend.common.domain.IdGenerators;
 import com.oboe.backend.product.entity.Product;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,6 +14,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.math.BigDecimal;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -29,7 +31,10 @@ import lombok.NoArgsConstructor;
 public class OrderItem extends BaseTimeEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_item_id")
+  @TableGenerator(name = "order_item_id", table = IdGenerators.TABLE,
+      pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+      pkColumnValue = "order_items", allocationSize = IdGenerators.ALLOCATION_SIZE)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -1,6 +1,7 @@
 package com.oboe.backend.order.entity.order;
 
 import com.oboe.backend.common.domain.BaseTimeEntity;
+import com.oboe.backend.common.domain.IdGenerators;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -12,6 +13,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,7 +29,10 @@ import lombok.NoArgsConstructor;
 public class OrderStatusHistory extends BaseTimeEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_status_history_id")
+  @TableGenerator(name = "order_status_history_id", table = IdGenerators.TABLE,
+      pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+      pkColumnValue = "order_status_history", allocationSize = IdGenerators.ALLOCATION_SIZE)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
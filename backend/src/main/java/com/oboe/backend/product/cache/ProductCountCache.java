@@ -0,0 +1,70 @@
+package com.oboe.backend.product.cache;
+
+import com.oboe.backend.common.cache.BoundedTtlCache;
+import com.oboe.backend.product.event.ProductCategoryChangedEvent;
+import com.oboe.backend.product.event.ProductChangedEvent;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 검색 총 개수 캐시
+ * - 페이지를 넘길 때마다 같은 조건의 count 쿼리가 반복되는 것을 방지
+ * - 키: 정규화된 검색 조건 (ProductSearchSpec.filterKey, 페이지 번호/크기와 정렬 제외)
+ * - 짧은 TTL + 상품 변경 시 전체 무효화
+ */
+@Component
+@Slf4j
+public class ProductCountCache {
+
+  private static final int MAX_SIZE = 1_000;
+  private static final Duration TTL = Duration.ofSeconds(30);
+
+  private final BoundedTtlCache<String, Long> cache = new BoundedTtlCache<>(MAX_SIZE, TTL);
+
+  // 무효화 세대 - count 조회 중 무효화가 일어나면 이전 결과를 저장하지 않음
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * 캐시된 총 개수 조회, 없으면 counter 로 계산 후 저장
+   */
+  public long getCount(String key, LongSupplier counter) {
+    Long cached = cache.get(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    long startGeneration = generation.get();
+    long count = counter.getAsLong();
+    if (generation.get() == startGeneration) {
+      cache.put(key, count);
+    }
+    return count;
+  }
+
+  /**
+   * 상품 변경 커밋 후 전체 무효화
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    invalidateAll();
+  }
+
+  /**
+   * 카테고리 변경 시 전체 무효화 (카테고리 필터의 하위 카테고리 범위가 바뀜)
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onCategoryChanged(ProductCategoryChangedEvent event) {
+    invalidateAll();
+  }
+
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    cache.clear();
+    log.debug("상품 count 캐시 무효화");
+  }
+}
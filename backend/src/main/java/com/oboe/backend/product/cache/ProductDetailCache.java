@@ -0,0 +1,246 @@
+package com.oboe.backend.product.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oboe.backend.common.cache.BoundedTtlCache;
+import com.oboe.backend.product.dto.response.ProductResponse;
+import com.oboe.backend.product.event.ProductCategoryChangedEvent;
+import com.oboe.backend.product.event.ProductChangedEvent;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 상세 2단계 캐시
+ * - L1: 인스턴스 메모리 (크기 제한 + 짧은 TTL)
+ * - L2: Redis (ProductResponse JSON)
+ * - 상품 수정/삭제/이미지 변경 커밋 후 무효화하고, Redis Pub/Sub 으로 다른 인스턴스의 L1 도 무효화
+ * - 카테고리 변경 시 전체 무효화 (응답에 카테고리명 포함) - L2 키 버전을 올려 이전 키는 TTL 로 만료
+ * - 무효화 시 L2 에 짧은 TTL 의 톰스톤을 남기고 L2 저장은 키가 없을 때만 (SET NX) 수행하여
+ *   무효화 전에 DB 에서 읽은 값이 다른 인스턴스의 무효화 이후 L2 에 저장되는 것을 방지
+ * - 조회수는 계속 바뀌므로 캐시 값을 쓰지 않고 조회 시 최신 값으로 덮어씀 (ProductService)
+ * - Redis 장애 시 캐시 없이 DB 조회로 동작
+ */
+@Component
+@Slf4j
+public class ProductDetailCache implements MessageListener {
+
+  public static final String INVALIDATION_CHANNEL = "product:detail:invalidate";
+  private static final String KEY_PREFIX = "product:detail:";
+  private static final String VERSION_KEY = "product:detail:version";
+  static final String TOMBSTONE = "__evicted__";
+  static final String INVALIDATE_ALL = "*";
+
+  private final BoundedTtlCache<Long, ProductResponse> localCache;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final Duration redisTtl;
+  private final Duration tombstoneTtl;
+  private final boolean redisEnabled;
+  private final boolean pubSubEnabled;
+
+  // 무효화 세대 - 조회 중 무효화가 일어나면 이전 결과를 L1/L2 에 저장하지 않음
+  private final AtomicLong generation = new AtomicLong();
+
+  // L2 키 버전 (카테고리 변경 시 증가) - null 이면 Redis 에서 다시 읽음
+  private volatile String version;
+
+  public ProductDetailCache(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper,
+      @Value("${product.cache.detail.local-max-size:1000}") int localMaxSize,
+      @Value("${product.cache.detail.local-ttl-seconds:60}") long localTtlSeconds,
+      @Value("${product.cache.detail.redis-ttl-seconds:600}") long redisTtlSeconds,
+      @Value("${product.cache.detail.tombstone-ttl-seconds:5}") long tombstoneTtlSeconds,
+      @Value("${product.cache.detail.redis-enabled:true}") boolean redisEnabled,
+      @Value("${product.cache.detail.pubsub-enabled:true}") boolean pubSubEnabled) {
+    this.localCache = new BoundedTtlCache<>(localMaxSize, Duration.ofSeconds(localTtlSeconds));
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+    this.tombstoneTtl = Duration.ofSeconds(tombstoneTtlSeconds);
+    this.redisEnabled = redisEnabled;
+    this.pubSubEnabled = pubSubEnabled;
+  }
+
+  /**
+   * 캐시 조회 (L1 -> L2 -> loader 순서), loader 결과는 L1/L2 에 저장
+   *
+   * @param loader 캐시에 없을 때 DB 에서 조회 (없는 상품이면 null)
+   */
+  public ProductResponse get(Long productId, Supplier<ProductResponse> loader) {
+    ProductResponse cached = localCache.get(productId);
+    if (cached != null) {
+      return cached;
+    }
+
+    long startGeneration = generation.get();
+
+    ProductResponse stored = readFromRedis(productId);
+    if (stored != null) {
+      putLocal(productId, stored, startGeneration);
+      return stored;
+    }
+
+    ProductResponse loaded = loader.get();
+    if (loaded != null && generation.get() == startGeneration) {
+      localCache.put(productId, loaded);
+      writeToRedis(productId, loaded);
+    }
+    return loaded;
+  }
+
+  /**
+   * 상품 변경 커밋 후 무효화
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    evict(event.getProductId());
+  }
+
+  /**
+   * 카테고리 변경 커밋 후 전체 무효화 (카테고리명이 바뀌어도 상품 변경 이벤트는 발생하지 않음)
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onCategoryChanged(ProductCategoryChangedEvent event) {
+    evictAll();
+  }
+
+  /**
+   * L1 에서 제거, L2 는 톰스톤으로 교체하고 다른 인스턴스에 무효화 메시지 발행
+   */
+  public void evict(Long productId) {
+    evictLocal(productId);
+
+    if (redisEnabled) {
+      try {
+        redisTemplate.opsForValue().set(key(productId), TOMBSTONE, tombstoneTtl);
+      } catch (Exception e) {
+        log.warn("상품 상세 Redis 캐시 삭제 실패: ID={}, 오류={}", productId, e.getMessage());
+      }
+    }
+
+    if (pubSubEnabled) {
+      try {
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, productId.toString());
+      } catch (Exception e) {
+        log.warn("상품 상세 캐시 무효화 메시지 발행 실패: ID={}, 오류={}", productId, e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 전체 무효화 - L2 키 버전을 올리고 L1 을 비운 뒤 다른 인스턴스에 전체 무효화 메시지 발행
+   */
+  public void evictAll() {
+    if (redisEnabled) {
+      try {
+        redisTemplate.opsForValue().increment(VERSION_KEY);
+      } catch (Exception e) {
+        log.warn("상품 상세 Redis 캐시 버전 증가 실패: 오류={}", e.getMessage());
+      }
+    }
+    evictAllLocal();
+
+    if (pubSubEnabled) {
+      try {
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, INVALIDATE_ALL);
+      } catch (Exception e) {
+        log.warn("상품 상세 캐시 전체 무효화 메시지 발행 실패: 오류={}", e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 다른 인스턴스에서 발행한 무효화 메시지 수신 (L1 만 제거, 전체 무효화면 L2 키 버전도 다시 읽음)
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    if (INVALIDATE_ALL.equals(body)) {
+      evictAllLocal();
+      return;
+    }
+    try {
+      evictLocal(Long.valueOf(body));
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 상품 상세 캐시 무효화 메시지: {}", body);
+    }
+  }
+
+  // ===== Private Helper Methods =====
+
+  private void evictLocal(Long productId) {
+    generation.incrementAndGet();
+    localCache.remove(productId);
+    log.debug("상품 상세 캐시 무효화: ID={}", productId);
+  }
+
+  private void evictAllLocal() {
+    generation.incrementAndGet();
+    version = null;
+    localCache.clear();
+    log.debug("상품 상세 캐시 전체 무효화");
+  }
+
+  private void putLocal(Long productId, ProductResponse response, long startGeneration) {
+    if (generation.get() == startGeneration) {
+      localCache.put(productId, response);
+    }
+  }
+
+  private ProductResponse readFromRedis(Long productId) {
+    if (!redisEnabled) {
+      return null;
+    }
+
+    try {
+      Object value = redisTemplate.opsForValue().get(key(productId));
+      if (value == null || TOMBSTONE.equals(value.toString())) {
+        return null;
+      }
+      return objectMapper.readValue(value.toString(), ProductResponse.class);
+    } catch (Exception e) {
+      log.warn("상품 상세 Redis 캐시 조회 실패: ID={}, 오류={}", productId, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * 키가 없을 때만 저장 (톰스톤이 남아 있으면 무효화 직후이므로 저장하지 않음)
+   */
+  private void writeToRedis(Long productId, ProductResponse response) {
+    if (!redisEnabled) {
+      return;
+    }
+
+    try {
+      redisTemplate.opsForValue().setIfAbsent(key(productId),
+          objectMapper.writeValueAsString(response), redisTtl);
+    } catch (Exception e) {
+      log.warn("상품 상세 Redis 캐시 저장 실패: ID={}, 오류={}", productId, e.getMessage());
+    }
+  }
+
+  /**
+   * L2 키 (product:detail:{버전}:{상품 ID})
+   */
+  private String key(Long productId) {
+    String current = version;
+    if (current == null) {
+      long startGeneration = generation.get();
+      Object value = redisTemplate.opsForValue().get(VERSION_KEY);
+      current = value != null ? value.toString() : "0";
+      if (generation.get() == startGeneration) {
+        version = current;
+      }
+    }
+    return KEY_PREFIX + current + ":" + productId;
+  }
+}
@@ -0,0 +1,167 @@
+package com.oboe.backend.product.cache;
+
+import com.oboe.backend.common.cache.BoundedTtlCache;
+import com.oboe.backend.product.dto.request.ProductSearchRequest;
+import com.oboe.backend.product.dto.request.ProductSortType;
+import com.oboe.backend.product.dto.response.ProductListResponse;
+import com.oboe.backend.product.event.ProductCategoryChangedEvent;
+import com.oboe.backend.product.event.ProductChangedEvent;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 목록 검색 결과 캐시
+ * - 키: 카탈로그 버전 + 정규화된 검색 조건 (검색어 소문자/공백 제거, 필드 순서 고정) + 페이지
+ * - 값: 현재 페이지의 상품 ID 목록과 총 개수 (목록 응답은 적중 시 ID 로 단건 쿼리 조회)
+ * - 상품/카테고리 변경 커밋 후 카탈로그 버전만 올려 무효화 (O(1), 키 탐색 없음)
+ * - 버전은 인스턴스별 값이므로 Redis Pub/Sub 으로 무효화 메시지를 발행해 다른 인스턴스도 버전 증가
+ * - 이전 버전 항목은 다시 조회되지 않고 LRU/TTL 로 정리됨
+ * - 조회수 변화로 인한 조회순 정렬 변화는 TTL 만큼 늦게 반영
+ */
+@Component
+@Slf4j
+public class ProductSearchResultCache implements MessageListener {
+
+  public static final String INVALIDATION_CHANNEL = "product:search:invalidate";
+
+  private final BoundedTtlCache<String, CachedPage> cache;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final boolean pubSubEnabled;
+
+  // 카탈로그 버전 - 상품/카테고리 변경 커밋마다 증가
+  private final AtomicLong catalogVersion = new AtomicLong();
+
+  public ProductSearchResultCache(RedisTemplate<String, Object> redisTemplate,
+      @Value("${product.cache.search.max-size:2000}") int maxSize,
+      @Value("${product.cache.search.ttl-seconds:30}") long ttlSeconds,
+      @Value("${product.cache.search.pubsub-enabled:true}") boolean pubSubEnabled) {
+    this.cache = new BoundedTtlCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    this.redisTemplate = redisTemplate;
+    this.pubSubEnabled = pubSubEnabled;
+  }
+
+  /**
+   * 캐시된 검색 결과 조회, 없으면 loader 로 조회 후 ID 목록과 총 개수 저장
+   *
+   * @param contentLoader 캐시 적중 시 ID 목록 순서대로 목록 응답 조회
+   */
+  public Page<ProductListResponse> get(ProductSearchRequest request, Pageable pageable,
+      Supplier<Page<ProductListResponse>> loader,
+      Function<List<Long>, List<ProductListResponse>> contentLoader) {
+    long version = catalogVersion.get();
+    String key = version + ":" + searchKey(request, pageable);
+
+    CachedPage cached = cache.get(key);
+    if (cached != null) {
+      List<ProductListResponse> content = cached.productIds.isEmpty()
+          ? List.of()
+          : contentLoader.apply(cached.productIds);
+      return new PageImpl<>(content, pageable, cached.total);
+    }
+
+    // 조회 중 버전이 바뀌면 이전 버전 키로 저장되어 다시 조회되지 않음
+    Page<ProductListResponse> page = loader.get();
+    List<Long> productIds = page.getContent().stream().map(ProductListResponse::getId).toList();
+    cache.put(key, new CachedPage(productIds, page.getTotalElements()));
+    return page;
+  }
+
+  /**
+   * 카탈로그 버전 증가 (이 인스턴스에 캐시된 모든 검색 결과 무효화)
+   */
+  public void bumpVersion() {
+    long version = catalogVersion.incrementAndGet();
+    log.debug("상품 검색 결과 캐시 버전 증가: {}", version);
+  }
+
+  /**
+   * 버전 증가 후 다른 인스턴스에 무효화 메시지 발행
+   */
+  public void invalidate() {
+    bumpVersion();
+
+    if (pubSubEnabled) {
+      try {
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, "catalog");
+      } catch (Exception e) {
+        log.warn("상품 검색 결과 캐시 무효화 메시지 발행 실패: 오류={}", e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 상품 생성/수정/삭제 커밋 후 무효화
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    invalidate();
+  }
+
+  /**
+   * 카테고리 변경 시 무효화 (카테고리 필터의 하위 카테고리 범위가 바뀜)
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onCategoryChanged(ProductCategoryChangedEvent event) {
+    invalidate();
+  }
+
+  /**
+   * 다른 인스턴스에서 발행한 무효화 메시지 수신 (자신이 발행한 메시지면 한 번 더 증가할 뿐 무해)
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    bumpVersion();
+  }
+
+  /**
+   * 정규화된 검색 조건 키 (같은 결과를 내는 요청은 같은 키)
+   * - 검색어는 대소문자 무시 비교이므로 소문자/공백 제거, 가격은 소수점 표기 통일
+   */
+  static String searchKey(ProductSearchRequest request, Pageable pageable) {
+    return "k=" + normalize(request.getKeyword())
+        + "|s=" + (request.getStatus() != null ? request.getStatus().name() : "")
+        + "|c=" + (request.getCategoryId() != null ? request.getCategoryId() : "")
+        + "|b=" + (request.getBrand() != null ? request.getBrand() : "")
+        + "|cd=" + (request.getCondition() != null ? request.getCondition() : "")
+        + "|p=" + price(request.getMinPrice()) + "~" + price(request.getMaxPrice())
+        + "|o=" + ProductSortType.from(request.getSortBy()).name()
+        + "|pg=" + pageable.getPageNumber() + "x" + pageable.getPageSize();
+  }
+
+  // ===== Private Helper Methods =====
+
+  private static String normalize(String value) {
+    return value != null ? value.trim().toLowerCase(Locale.ROOT) : "";
+  }
+
+  private static String price(BigDecimal price) {
+    return price != null ? price.stripTrailingZeros().toPlainString() : "";
+  }
+
+  private static final class CachedPage {
+
+    private final List<Long> productIds;
+    private final long total;
+
+    private CachedPage(List<Long> productIds, long total) {
+      this.productIds = productIds;
+      this.total = total;
+    }
+  }
+}
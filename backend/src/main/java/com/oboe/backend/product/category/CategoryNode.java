@@ -0,0 +1,28 @@
+package com.oboe.backend.product.category;
+
+import java.util.List;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 카테고리 트리 스냅샷의 노드 (불변)
+ * - 루트부터 자신까지의 경로와 자신을 포함한 하위 카테고리 ID 를 미리 계산
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class CategoryNode {
+
+  private final Long id;
+  private final String name;
+  private final Integer level;
+  private final Integer sortOrder;
+  private final String description;
+  private final Long parentId;
+  private final List<Long> pathIds; // 루트 -> 자신 순서
+  private final List<Long> childIds; // 정렬 순서 (sortOrder, ID)
+  private final Set<Long> subtreeIds; // 자신 포함 모든 하위 카테고리 ID
+}
@@ -0,0 +1,26 @@
+package com.oboe.backend.product.category;
+
+import com.oboe.backend.product.entity.ProductCategory;
+import com.oboe.backend.product.event.ProductCategoryChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * ProductCategory 엔티티 변경 감지 리스너
+ * - 카테고리 저장 경로와 무관하게 변경 이벤트 발행 (Hibernate 가 Spring 빈으로 생성)
+ */
+@RequiredArgsConstructor
+public class ProductCategoryChangeListener {
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  public void onCategoryChanged(ProductCategory category) {
+    eventPublisher.publishEvent(new ProductCategoryChangedEvent(category.getId()));
+  }
+}
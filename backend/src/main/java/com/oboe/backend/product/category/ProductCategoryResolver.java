@@ -0,0 +1,113 @@
+package com.oboe.backend.product.category;
+
+import com.oboe.backend.common.exception.CustomException;
+import com.oboe.backend.common.exception.ErrorCode;
+import com.oboe.backend.product.entity.ProductCategory;
+import com.oboe.backend.product.event.ProductCategoryChangedEvent;
+import com.oboe.backend.product.repository.ProductCategoryRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품에 연결할 카테고리 조회 (카테고리 ID -> 엔티티 인메모리 맵)
+ * - 첫 조회 시 전체 카테고리를 한 번 읽어 보관, 이후 상품 생성/수정마다 DB 조회 없음
+ * - 맵에 없는 ID 만 findAllById 로 한 번에 조회 (다른 인스턴스에서 추가된 카테고리)
+ * - 존재하지 않는 ID 는 모아서 한 번에 예외로 보고
+ * - 카테고리 변경 커밋 후 맵을 비워 다음 조회 시 다시 읽음
+ * - 보관한 엔티티는 준영속 상태이므로 연관관계 연결과 기본 필드 읽기에만 사용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCategoryResolver {
+
+  private final ProductCategoryRepository productCategoryRepository;
+
+  // null 이면 아직 읽지 않았거나 무효화된 상태, 맵은 불변이며 갱신 시 참조만 교체
+  private volatile Map<Long, ProductCategory> categories;
+
+  // 무효화 횟수 - 읽는 도중 무효화되면 읽은 맵을 보관하지 않음
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * 카테고리 ID 목록으로 카테고리 조회
+   *
+   * @throws CustomException 존재하지 않는 카테고리가 있으면 누락된 ID 전체를 담아 CATEGORY_NOT_FOUND
+   */
+  public Set<ProductCategory> resolve(Collection<Long> categoryIds) {
+    if (categoryIds == null || categoryIds.isEmpty()) {
+      return new HashSet<>();
+    }
+
+    Map<Long, ProductCategory> current = categories();
+    Set<ProductCategory> resolved = new HashSet<>();
+    Set<Long> misses = new TreeSet<>();
+    for (Long categoryId : categoryIds) {
+      ProductCategory category = current.get(categoryId);
+      if (category != null) {
+        resolved.add(category);
+      } else {
+        misses.add(categoryId);
+      }
+    }
+
+    if (!misses.isEmpty()) {
+      Map<Long, ProductCategory> loaded = productCategoryRepository.findAllById(misses).stream()
+          .collect(Collectors.toMap(ProductCategory::getId, category -> category));
+      resolved.addAll(loaded.values());
+      misses.removeAll(loaded.keySet());
+
+      if (!loaded.isEmpty() && categories == current) {
+        Map<Long, ProductCategory> merged = new HashMap<>(current);
+        merged.putAll(loaded);
+        categories = Map.copyOf(merged);
+      }
+      if (!misses.isEmpty()) {
+        throw new CustomException(ErrorCode.CATEGORY_NOT_FOUND, "존재하지 않는 카테고리입니다: "
+            + misses.stream().map(String::valueOf).collect(Collectors.joining(", ")));
+      }
+    }
+    return resolved;
+  }
+
+  /**
+   * 카테고리 변경 커밋 후 무효화
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onCategoryChanged(ProductCategoryChangedEvent event) {
+    invalidate();
+  }
+
+  public void invalidate() {
+    generation.incrementAndGet();
+    categories = null;
+    log.debug("카테고리 맵 무효화");
+  }
+
+  // ===== Private Helper Methods =====
+
+  private Map<Long, ProductCategory> categories() {
+    Map<Long, ProductCategory> current = categories;
+    if (current == null) {
+      long loadedGeneration = generation.get();
+      current = productCategoryRepository.findAll().stream()
+          .collect(Collectors.toUnmodifiableMap(ProductCategory::getId, category -> category));
+      if (generation.get() == loadedGeneration) {
+        categories = current;
+      }
+      log.info("카테고리 맵 구성 완료: 카테고리 {}건", current.size());
+    }
+    return current;
+  }
+}
@@ -0,0 +1,220 @@
+package com.oboe.backend.product.category;
+
+import com.oboe.backend.product.entity.ProductCategory;
+import com.oboe.backend.product.event.ProductCategoryChangedEvent;
+import com.oboe.backend.product.repository.ProductCategoryRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 카테고리 트리 인메모리 스냅샷
+ * - 전체 카테고리를 한 번에 읽어 경로/하위 카테고리 ID 를 미리 계산 (재귀 CTE 조회 대체)
+ * - 카테고리 변경 커밋 후 재구성, 다른 인스턴스의 변경은 주기적 재구성으로 반영
+ * - 스냅샷은 불변이며 재구성 시 참조만 교체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCategoryTree {
+
+  private static final Comparator<CategoryNode> NODE_ORDER = Comparator
+      .comparing(CategoryNode::getSortOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+      .thenComparing(CategoryNode::getId);
+
+  private final ProductCategoryRepository productCategoryRepository;
+
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+  /**
+   * 기동 시 구성 (카테고리명을 참조하는 상품 인덱스보다 먼저 실행)
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void onApplicationReady() {
+    refresh();
+  }
+
+  /**
+   * 카테고리 변경 커밋 후 재구성
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onCategoryChanged(ProductCategoryChangedEvent event) {
+    refresh();
+  }
+
+  /**
+   * 다른 인스턴스에서 변경된 카테고리 반영
+   */
+  @Scheduled(fixedDelayString = "${product.category.refresh-interval-ms:600000}",
+      initialDelayString = "${product.category.refresh-interval-ms:600000}")
+  public void refresh() {
+    rebuild(productCategoryRepository.findAll());
+  }
+
+  /**
+   * 카테고리 목록으로 스냅샷 재구성
+   */
+  public void rebuild(Collection<ProductCategory> categories) {
+    Map<Long, Long> parentIds = new HashMap<>();
+    Map<Long, List<Long>> childIds = new HashMap<>();
+    Map<Long, ProductCategory> categoryMap = new HashMap<>();
+
+    for (ProductCategory category : categories) {
+      Long parentId = category.getParent() != null ? category.getParent().getId() : null;
+      categoryMap.put(category.getId(), category);
+      parentIds.put(category.getId(), parentId);
+    }
+    for (ProductCategory category : categories) {
+      Long parentId = parentIds.get(category.getId());
+      if (parentId != null && categoryMap.containsKey(parentId)) {
+        childIds.computeIfAbsent(parentId, key -> new ArrayList<>()).add(category.getId());
+      }
+    }
+
+    Map<Long, CategoryNode> nodes = new HashMap<>();
+    for (ProductCategory category : categories) {
+      List<Long> children = childIds.getOrDefault(category.getId(), List.of()).stream()
+          .map(categoryMap::get)
+          .sorted(Comparator.comparing(ProductCategory::getSortOrder,
+                  Comparator.nullsLast(Comparator.naturalOrder()))
+              .thenComparing(ProductCategory::getId))
+          .map(ProductCategory::getId)
+          .toList();
+
+      nodes.put(category.getId(), CategoryNode.builder()
+          .id(category.getId())
+          .name(category.getName())
+          .level(category.getLevel())
+          .sortOrder(category.getSortOrder())
+          .description(category.getDescription())
+          .parentId(parentIds.get(category.getId()))
+          .pathIds(path(category.getId(), parentIds, categoryMap))
+          .childIds(children)
+          .subtreeIds(subtree(category.getId(), childIds))
+          .build());
+    }
+
+    List<Long> rootIds = nodes.values().stream()
+        .filter(node -> node.getParentId() == null || !nodes.containsKey(node.getParentId()))
+        .sorted(NODE_ORDER)
+        .map(CategoryNode::getId)
+        .toList();
+
+    snapshot = new Snapshot(Collections.unmodifiableMap(nodes), rootIds);
+    log.info("카테고리 트리 구성 완료: 카테고리 {}건, 최상위 {}건", nodes.size(), rootIds.size());
+  }
+
+  /**
+   * 카테고리와 모든 하위 카테고리 ID (트리에 없는 ID 면 자신만 반환)
+   */
+  public Set<Long> getSubtreeIds(Long categoryId) {
+    CategoryNode node = snapshot.nodes.get(categoryId);
+    return node != null ? node.getSubtreeIds() : Set.of(categoryId);
+  }
+
+  /**
+   * 루트부터 해당 카테고리까지의 ID 경로 (트리에 없는 ID 면 자신만 반환)
+   */
+  public List<Long> getPathIds(Long categoryId) {
+    CategoryNode node = snapshot.nodes.get(categoryId);
+    return node != null ? node.getPathIds() : List.of(categoryId);
+  }
+
+  /**
+   * 루트부터 해당 카테고리까지의 경로 (브레드크럼)
+   */
+  public List<CategoryNode> getBreadcrumbs(Long categoryId) {
+    Snapshot current = snapshot;
+    CategoryNode node = current.nodes.get(categoryId);
+    if (node == null) {
+      return List.of();
+    }
+    return node.getPathIds().stream().map(current.nodes::get).toList();
+  }
+
+  public List<CategoryNode> getRoots() {
+    Snapshot current = snapshot;
+    return current.rootIds.stream().map(current.nodes::get).toList();
+  }
+
+  public List<CategoryNode> getChildren(Long categoryId) {
+    Snapshot current = snapshot;
+    CategoryNode node = current.nodes.get(categoryId);
+    if (node == null) {
+      return List.of();
+    }
+    return node.getChildIds().stream().map(current.nodes::get).toList();
+  }
+
+  /**
+   * 카테고리 노드 (없으면 null)
+   */
+  public CategoryNode getNode(Long categoryId) {
+    return snapshot.nodes.get(categoryId);
+  }
+
+  public boolean contains(Long categoryId) {
+    return snapshot.nodes.containsKey(categoryId);
+  }
+
+  // ===== Private Helper Methods =====
+
+  /**
+   * 루트 -> 자신 경로 (순환 참조 데이터가 있어도 종료되도록 방문 체크)
+   */
+  private List<Long> path(Long categoryId, Map<Long, Long> parentIds,
+      Map<Long, ProductCategory> categoryMap) {
+    LinkedHashSet<Long> visited = new LinkedHashSet<>();
+    Long current = categoryId;
+    while (current != null && categoryMap.containsKey(current) && visited.add(current)) {
+      current = parentIds.get(current);
+    }
+
+    List<Long> path = new ArrayList<>(visited);
+    Collections.reverse(path);
+    return List.copyOf(path);
+  }
+
+  private Set<Long> subtree(Long categoryId, Map<Long, List<Long>> childIds) {
+    Set<Long> subtree = new HashSet<>();
+    List<Long> stack = new ArrayList<>(List.of(categoryId));
+    while (!stack.isEmpty()) {
+      Long current = stack.remove(stack.size() - 1);
+      if (subtree.add(current)) {
+        stack.addAll(childIds.getOrDefault(current, List.of()));
+      }
+    }
+    return Set.copyOf(subtree);
+  }
+
+  private static class Snapshot {
+
+    private static final Snapshot EMPTY = new Snapshot(Map.of(), List.of());
+
+    private final Map<Long, CategoryNode> nodes;
+    private final List<Long> rootIds;
+
+    private Snapshot(Map<Long, CategoryNode> nodes, List<Long> rootIds) {
+      this.nodes = nodes;
+      this.rootIds = rootIds;
+    }
+  }
+}
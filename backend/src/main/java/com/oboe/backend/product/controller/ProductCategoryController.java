@@ -0,0 +1,72 @@
+package com.oboe.backend.product.controller;
+
+import com.oboe.backend.common.dto.ResponseDto;
+import com.oboe.backend.product.dto.response.CategoryTreeResponse;
+import com.oboe.backend.product.dto.response.ProductCategoryResponse;
+import com.oboe.backend.product.service.ProductCategoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/categories")
+@RequiredArgsConstructor
+@Tag(name = "Category", description = "상품 카테고리 관련 API")
+@Slf4j
+public class ProductCategoryController {
+
+  private final ProductCategoryService productCategoryService;
+
+  @GetMapping
+  @Operation(summary = "카테고리 트리 조회", description = "내비게이션 메뉴용 전체 카테고리 트리를 조회합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "카테고리 트리 조회 성공"),
+      @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+  })
+  public ResponseEntity<ResponseDto<List<CategoryTreeResponse>>> getCategoryTree() {
+
+    List<CategoryTreeResponse> response = productCategoryService.getCategoryTree();
+
+    return ResponseEntity.ok(ResponseDto.success("카테고리 트리를 성공적으로 조회했습니다.", response));
+  }
+
+  @GetMapping("/{categoryId}")
+  @Operation(summary = "하위 카테고리 트리 조회", description = "특정 카테고리와 그 하위 카테고리 트리를 조회합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "하위 카테고리 트리 조회 성공"),
+      @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음"),
+      @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+  })
+  public ResponseEntity<ResponseDto<CategoryTreeResponse>> getCategorySubtree(
+      @Parameter(description = "카테고리 ID") @PathVariable Long categoryId) {
+
+    CategoryTreeResponse response = productCategoryService.getCategorySubtree(categoryId);
+
+    return ResponseEntity.ok(ResponseDto.success("하위 카테고리 트리를 성공적으로 조회했습니다.", response));
+  }
+
+  @GetMapping("/{categoryId}/breadcrumbs")
+  @Operation(summary = "카테고리 경로 조회", description = "최상위 카테고리부터 해당 카테고리까지의 경로(브레드크럼)를 조회합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "카테고리 경로 조회 성공"),
+      @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음"),
+      @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+  })
+  public ResponseEntity<ResponseDto<List<ProductCategoryResponse>>> getBreadcrumbs(
+      @Parameter(description = "카테고리 ID") @PathVariable Long categoryId) {
+
+    List<ProductCategoryResponse> response = productCategoryService.getBreadcrumbs(categoryId);
+
+    return ResponseEntity.ok(ResponseDto.success("카테고리 경로를 성공적으로 조회했습니다.", response));
+  }
+}
@@ -1,23 +1,40 @@
 package com.oboe.backend.product.controller;
 
 import com.oboe.backend.common.dto.ResponseDto;
+import com.oboe.backend.config.AsyncConfig;
+import com.oboe.backend.product.dto.request.ProductBatchRequest;
 import com.oboe.backend.product.dto.request.ProductCreateRequest;
+import com.oboe.backend.product.dto.request.ProductExportFormat;
 import com.oboe.backend.product.dto.request.ProductSearchRequest;
 import com.oboe.backend.product.dto.request.ProductUpdateRequest;
+import com.oboe.backend.product.dto.response.CursorPageResponse;
+import com.oboe.backend.product.dto.response.ProductChangeFeedResponse;
+import com.oboe.backend.product.dto.response.PriceHistogramResponse;
+import com.oboe.backend.product.dto.response.ProductFacetResponse;
+import com.oboe.backend.product.dto.response.ProductImportResponse;
 import com.oboe.backend.product.dto.response.ProductListResponse;
 import com.oboe.backend.product.dto.response.ProductResponse;
+import com.oboe.backend.product.dto.response.SuggestionResponse;
+import com.oboe.backend.product.service.ProductChangeFeedService;
+import com.oboe.backend.product.service.ProductExportService;
+import com.oboe.backend.product.service.ProductImportService;
 import com.oboe.backend.product.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.math.BigDecimal;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -28,7 +45,10 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/products")
@@ -38,6 +58,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProductController {
 
   private final ProductService productService;
+  private final ProductImportService productImportService;
+  private final ProductExportService productExportService;
+  private final ProductChangeFeedService productChangeFeedService;
 
   @PostMapping
   @Operation(summary = "상품 생성", description = "새로운 상품을 생성합니다.")
@@ -59,6 +82,52 @@ public class ProductController {
         .body(ResponseDto.success("상품이 성공적으로 생성되었습니다.", response));
   }
 
+  @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  @Operation(summary = "상품 일괄 등록", description = "NDJSON 파일(한 줄에 상품 생성 요청 JSON 하나)로 상품을 일괄 등록합니다. 행별 등록 결과를 반환합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "일괄 등록 처리 완료 (행별 성공/실패 포함)"),
+      @ApiResponse(responseCode = "400", description = "업로드 파일 없음"),
+      @ApiResponse(responseCode = "401", description = "인증 실패"),
+      @ApiResponse(responseCode = "403", description = "권한 없음 (ADMIN 권한 필요)"),
+      @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+  })
+  public ResponseEntity<ResponseDto<ProductImportResponse>> importProducts(
+      @Parameter(description = "NDJSON 파일 (UTF-8)") @RequestPart("file") MultipartFile file,
+      Authentication authentication) {
+
+    ProductImportResponse response = productImportService.importProducts(file, authentication);
+
+    return ResponseEntity.ok(ResponseDto.success("상품 일괄 등록이 처리되었습니다.", response));
+  }
+
+  @GetMapping("/export")
+  @Operation(summary = "상품 내보내기", description = "INACTIVE 를 제외한 전체 상품을 NDJSON 또는 CSV 로 스트리밍합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "내보내기 스트림 시작"),
+      @ApiResponse(responseCode = "400", description = "지원하지 않는 형식"),
+      @ApiResponse(responseCode = "401", description = "인증 실패"),
+      @ApiResponse(responseCode = "403", description = "권한 없음 (ADMIN 권한 필요)"),
+      @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+  })
+  public ResponseEntity<StreamingResponseBody> exportProducts(
+      @Parameter(description = "형식 (ndjson, csv)") @RequestParam(required = false) String format,
+      Authentication authentication, HttpServletRequest request) {
+
+    ProductExportFormat exportFormat = ProductExportFormat.from(format);
+    StreamingResponseBody body = productExportService.exportProducts(exportFormat, authentication);
+
+    // 스트리밍이 기본 비동기 타임아웃에 끊기지 않도록 내보내기 전용 타임아웃 지정
+    request.setAttribute(AsyncConfig.TIMEOUT_ATTRIBUTE, productExportService.getTimeoutMillis());
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename("products." + exportFormat.getExtension())
+            .build()
+            .toString())
+        .body(body);
+  }
+
   @PutMapping("/{productId}")
   @Operation(summary = "상품 수정", description = "기존 상품 정보를 수정합니다.")
   @ApiResponses(value = {
@@ -100,20 +169,23 @@ public class ProductController {
   }
 
   @GetMapping
-  @Operation(summary = "상품 목록 조회", description = "상품 목록을 조회합니다. 검색어, 필터, 정렬 조건을 지원합니다.")
+  @Operation(summary = "상품 목록 조회", description = "상품 목록을 조회합니다. 검색어, 필터, 정렬 조건을 지원합니다. slice=true 이면 총 개수 없이 다음 페이지 여부만 반환합니다.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공"),
       @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
       @ApiResponse(responseCode = "500", description = "서버 내부 오류")
   })
-  public ResponseEntity<ResponseDto<Page<ProductListResponse>>> getProducts(
+  public ResponseEntity<ResponseDto<Slice<ProductListResponse>>> getProducts(
       @Parameter(description = "검색어 (상품명, 브랜드, 설명)") @RequestParam(required = false) String keyword,
       @Parameter(description = "상품 상태 필터") @RequestParam(required = false) String status,
-      @Parameter(description = "정렬 기준 (latest, oldest, views, price_asc, price_desc)") @RequestParam(required = false) String sortBy,
+      @Parameter(description = "정렬 기준 (latest, oldest, views, price_asc, price_desc, relevance)") @RequestParam(required = false) String sortBy,
       @Parameter(description = "카테고리 ID") @RequestParam(required = false) Long categoryId,
       @Parameter(description = "컨디션 필터") @RequestParam(required = false) String condition,
+      @Parameter(description = "최소 가격 (포함)") @RequestParam(required = false) BigDecimal minPrice,
+      @Parameter(description = "최대 가격 (포함)") @RequestParam(required = false) BigDecimal maxPrice,
       @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-      @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+      @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+      @Parameter(description = "총 개수 생략 여부 (true 면 hasNext 만 반환)") @RequestParam(defaultValue = "false") boolean slice) {
 
     ProductSearchRequest searchRequest = ProductSearchRequest.builder()
         .keyword(keyword)
@@ -122,15 +194,151 @@ public class ProductController {
         .sortBy(sortBy)
         .categoryId(categoryId)
         .condition(condition)
+        .minPrice(minPrice)
+        .maxPrice(maxPrice)
         .page(page)
         .size(size)
         .build();
 
-    Page<ProductListResponse> response = productService.getProducts(searchRequest);
+    Slice<ProductListResponse> response = slice
+        ? productService.getProductSlice(searchRequest)
+        : productService.getProducts(searchRequest);
+
+    return ResponseEntity.ok(ResponseDto.success("상품 목록을 성공적으로 조회했습니다.", response));
+  }
+
+  @GetMapping(params = "cursor")
+  @Operation(summary = "상품 목록 커서 조회", description = "커서 기반으로 상품 목록을 조회합니다. 첫 페이지는 빈 cursor 로 요청하고, 응답의 nextCursor 로 다음 페이지를 요청합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터 또는 커서"),
+      @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+  })
+  public ResponseEntity<ResponseDto<CursorPageResponse<ProductListResponse>>> getProductsByCursor(
+      @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)") @RequestParam String cursor,
+      @Parameter(description = "검색어 (상품명, 브랜드, 설명)") @RequestParam(required = false) String keyword,
+      @Parameter(description = "상품 상태 필터") @RequestParam(required = false) String status,
+      @Parameter(description = "정렬 기준 (latest, oldest, views, price_asc, price_desc)") @RequestParam(required = false) String sortBy,
+      @Parameter(description = "카테고리 ID") @RequestParam(required = false) Long categoryId,
+      @Parameter(description = "컨디션 필터") @RequestParam(required = false) String condition,
+      @Parameter(description = "최소 가격 (포함)") @RequestParam(required = false) BigDecimal minPrice,
+      @Parameter(description = "최대 가격 (포함)") @RequestParam(required = false) BigDecimal maxPrice,
+      @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+
+    ProductSearchRequest searchRequest = ProductSearchRequest.builder()
+        .keyword(keyword)
+        .status(status != null ? com.oboe.backend.product.entity.ProductStatus.valueOf(
+            status.toUpperCase()) : null)
+        .sortBy(sortBy)
+        .categoryId(categoryId)
+        .condition(condition)
+        .minPrice(minPrice)
+        .maxPrice(maxPrice)
+        .size(size)
+        .build();
+
+    CursorPageResponse<ProductListResponse> response = productService.getProductsByCursor(
+        searchRequest, cursor);
 
     return ResponseEntity.ok(ResponseDto.success("상품 목록을 성공적으로 조회했습니다.", response));
   }
 
+  @GetMapping("/facets")
+  @Operation(summary = "상품 패싯 조회", description = "현재 검색 조건에서 브랜드, 컨디션, 상태, 카테고리별 상품 수를 조회합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "상품 패싯 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
+      @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+  })
+  public ResponseEntity<ResponseDto<ProductFacetResponse>> getProductFacets(
+      @Parameter(description = "검색어 (상품명, 브랜드, 설명)") @RequestParam(required = false) String keyword,
+      @Parameter(description = "상품 상태 필터") @RequestParam(required = false) String status,
+      @Parameter(description = "카테고리 ID (하위 카테고리 포함)") @RequestParam(required = false) Long categoryId,
+      @Parameter(description = "브랜드 필터") @RequestParam(required = false) String brand,
+      @Parameter(description = "컨디션 필터") @RequestParam(required = false) String condition,
+      @Parameter(description = "최소 가격 (포함)") @RequestParam(required = false) BigDecimal minPrice,
+      @Parameter(description = "최대 가격 (포함)") @RequestParam(required = false) BigDecimal maxPrice) {
+
+    ProductSearchRequest searchRequest = ProductSearchRequest.builder()
+        .keyword(keyword)
+        .status(status != null ? com.oboe.backend.product.entity.ProductStatus.valueOf(
+            status.toUpperCase()) : null)
+        .categoryId(categoryId)
+        .brand(brand)
+        .condition(condition)
+        .minPrice(minPrice)
+        .maxPrice(maxPrice)
+        .build();
+
+    ProductFacetResponse response = productService.getProductFacets(searchRequest);
+
+    return ResponseEntity.ok(ResponseDto.success("상품 패싯을 성공적으로 조회했습니다.", response));
+  }
+
+  @GetMapping("/price-histogram")
+  @Operation(summary = "상품 가격 히스토그램 조회", description = "가격 범위 슬라이더용으로 현재 검색 조건의 가격 구간별 상품 수를 조회합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "가격 히스토그램 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
+      @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+  })
+  public ResponseEntity<ResponseDto<PriceHistogramResponse>> getPriceHistogram(
+      @Parameter(description = "검색어 (상품명, 브랜드, 설명)") @RequestParam(required = false) String keyword,
+      @Parameter(description = "상품 상태 필터") @RequestParam(required = false) String status,
+      @Parameter(description = "카테고리 ID (하위 카테고리 포함)") @RequestParam(required = false) Long categoryId,
+      @Parameter(description = "브랜드 필터") @RequestParam(required = false) String brand,
+      @Parameter(description = "컨디션 필터") @RequestParam(required = false) String condition,
+      @Parameter(description = "최소 가격 (미지정 시 최저가)") @RequestParam(required = false) BigDecimal minPrice,
+      @Parameter(description = "최대 가격 (미지정 시 최고가)") @RequestParam(required = false) BigDecimal maxPrice,
+      @Parameter(description = "구간 개수 (최대 100)") @RequestParam(defaultValue = "20") int buckets) {
+
+    ProductSearchRequest searchRequest = ProductSearchRequest.builder()
+        .keyword(keyword)
+        .status(status != null ? com.oboe.backend.product.entity.ProductStatus.valueOf(
+            status.toUpperCase()) : null)
+        .categoryId(categoryId)
+        .brand(brand)
+        .condition(condition)
+        .minPrice(minPrice)
+        .maxPrice(maxPrice)
+        .build();
+
+    PriceHistogramResponse response = productService.getPriceHistogram(searchRequest, buckets);
+
+    return ResponseEntity.ok(ResponseDto.success("가격 히스토그램을 성공적으로 조회했습니다.", response));
+  }
+
+  @GetMapping("/suggest")
+  @Operation(summary = "검색어 자동완성", description = "입력한 접두어로 시작하는 상품명, 브랜드, 카테고리명을 인기순으로 조회합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "자동완성 조회 성공"),
+      @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+  })
+  public ResponseEntity<ResponseDto<List<SuggestionResponse>>> suggest(
+      @Parameter(description = "입력 중인 검색어") @RequestParam String q,
+      @Parameter(description = "조회할 제안 개수 (최대 20)") @RequestParam(defaultValue = "10") int limit) {
+
+    List<SuggestionResponse> response = productService.suggest(q, limit);
+
+    return ResponseEntity.ok(ResponseDto.success("자동완성 검색어를 성공적으로 조회했습니다.", response));
+  }
+
+  @GetMapping("/changes")
+  @Operation(summary = "상품 변경 피드", description = "since 토큰 이후 생성/수정/삭제된 상품을 수정 시각 순으로 조회합니다. 삭제된 상품은 상품 정보 없이 DELETED 로 전달되며, 응답의 nextToken 을 다음 요청의 since 로 사용합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "변경 피드 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 변경 토큰"),
+      @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+  })
+  public ResponseEntity<ResponseDto<ProductChangeFeedResponse>> getProductChanges(
+      @Parameter(description = "이전 응답의 nextToken (처음 동기화면 생략)") @RequestParam(required = false) String since,
+      @Parameter(description = "조회할 최대 변경 수 (최대 500)") @RequestParam(defaultValue = "100") int size) {
+
+    ProductChangeFeedResponse response = productChangeFeedService.getChanges(since, size);
+
+    return ResponseEntity.ok(ResponseDto.success("상품 변경 내역을 성공적으로 조회했습니다.", response));
+  }
+
   @GetMapping("/{productId}")
   @Operation(summary = "상품 상세 조회", description = "특정 상품의 상세 정보를 조회합니다. 조회수가 증가합니다.")
   @ApiResponses(value = {
@@ -154,13 +362,28 @@ public class ProductController {
       @ApiResponse(responseCode = "500", description = "서버 내부 오류")
   })
   public ResponseEntity<ResponseDto<List<ProductListResponse>>> getPopularProducts(
-      @Parameter(description = "조회할 상품 개수") @RequestParam(defaultValue = "10") int limit) {
+      @Parameter(description = "조회할 상품 개수 (1~100)") @RequestParam(defaultValue = "10") int limit) {
 
     List<ProductListResponse> response = productService.getPopularProducts(limit);
 
     return ResponseEntity.ok(ResponseDto.success("인기 상품 목록을 성공적으로 조회했습니다.", response));
   }
 
+  @GetMapping("/trending")
+  @Operation(summary = "트렌딩 상품 조회", description = "최근 조회, 장바구니 담기, 구매가 많은 상품 목록을 조회합니다. (시간이 지날수록 점수 감소)")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "트렌딩 상품 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
+      @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+  })
+  public ResponseEntity<ResponseDto<List<ProductListResponse>>> getTrendingProducts(
+      @Parameter(description = "조회할 상품 개수 (1~100)") @RequestParam(defaultValue = "10") int limit) {
+
+    List<ProductListResponse> response = productService.getTrendingProducts(limit);
+
+    return ResponseEntity.ok(ResponseDto.success("트렌딩 상품 목록을 성공적으로 조회했습니다.", response));
+  }
+
   @GetMapping("/latest")
   @Operation(summary = "최신 상품 조회", description = "최신 등록 상품 목록을 조회합니다.")
   @ApiResponses(value = {
@@ -176,5 +399,20 @@ public class ProductController {
     return ResponseEntity.ok(ResponseDto.success("최신 상품 목록을 성공적으로 조회했습니다.", response));
   }
 
+  @PostMapping("/batch")
+  @Operation(summary = "상품 일괄 조회", description = "상품 ID 목록(최대 200개)으로 상품 목록 정보를 한 번에 조회합니다. 요청 순서를 유지하며 존재하지 않거나 삭제된 상품은 제외됩니다. 조회수는 증가하지 않습니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "상품 일괄 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "ID 목록이 비었거나 200개 초과"),
+      @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+  })
+  public ResponseEntity<ResponseDto<List<ProductListResponse>>> getProductsByIds(
+      @Valid @RequestBody ProductBatchRequest request) {
+
+    List<ProductListResponse> response = productService.getProductsByIds(request.getProductIds());
+
+    return ResponseEntity.ok(ResponseDto.success("상품 목록을 성공적으로 조회했습니다.", response));
+  }
+
 
 }
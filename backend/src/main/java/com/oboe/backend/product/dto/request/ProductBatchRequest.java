@@ -0,0 +1,22 @@
+package com.oboe.backend.product.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ProductBatchRequest {
+
+  @NotEmpty(message = "상품 ID 목록은 필수입니다.")
+  @Size(max = 200, message = "한 번에 최대 200개 상품까지 조회할 수 있습니다.")
+  private List<@NotNull(message = "상품 ID 는 null 일 수 없습니다.") Long> productIds; // 응답 순서 기준
+}
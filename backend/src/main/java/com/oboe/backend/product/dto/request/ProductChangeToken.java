@@ -0,0 +1,56 @@
+package com.oboe.backend.product.dto.request;
+
+import com.oboe.backend.common.exception.CustomException;
+import com.oboe.backend.common.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 변경 피드 위치
+ * - 마지막으로 전달한 변경의 (수정 시각, ID) 튜플을 Base64 문자열로 인코딩
+ * - (updated_at, id) 순으로 단조 증가하므로 토큰 이후 조회는 인덱스 범위 조회
+ * - ex) 2025-01-01T10:00:00.123456|42
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductChangeToken {
+
+  private static final String DELIMITER = "|";
+
+  private final LocalDateTime updatedAt;
+  private final Long id;
+
+  public static ProductChangeToken of(LocalDateTime updatedAt, Long id) {
+    return new ProductChangeToken(updatedAt, id);
+  }
+
+  /**
+   * 토큰 문자열 해석 (없으면 null - 처음부터 조회)
+   */
+  public static ProductChangeToken decode(String token) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
+
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = decoded.split("\\|", -1);
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("잘못된 토큰 형식");
+      }
+      return new ProductChangeToken(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+    } catch (RuntimeException e) {
+      throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "올바르지 않은 변경 토큰입니다: " + token);
+    }
+  }
+
+  public String encode() {
+    String raw = updatedAt + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
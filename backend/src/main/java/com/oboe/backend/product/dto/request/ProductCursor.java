@@ -0,0 +1,110 @@
+package com.oboe.backend.product.dto.request;
+
+import com.oboe.backend.common.exception.CustomException;
+import com.oboe.backend.common.exception.ErrorCode;
+import com.oboe.backend.product.dto.response.ProductListResponse;
+import com.oboe.backend.product.entity.Product;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커서(seek) 페이징 위치
+ * - 마지막으로 조회한 상품의 (정렬값, ID) 튜플을 Base64 문자열로 인코딩
+ * - ex) LATEST|2025-01-01T10:00:00.123456|42
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductCursor {
+
+  private static final String DELIMITER = "|";
+
+  private final ProductSortType sortType;
+  private final String sortKey;
+  private final Long id;
+
+  /**
+   * 마지막 상품 기준 커서 생성
+   */
+  public static ProductCursor of(ProductSortType sortType, Product product) {
+    String sortKey = switch (sortType) {
+      case LATEST, OLDEST, RELEVANCE -> product.getCreatedAt().toString();
+      case VIEWS -> String.valueOf(product.getViews());
+      case PRICE_ASC, PRICE_DESC -> product.getPrice().toPlainString();
+    };
+    return new ProductCursor(sortType, sortKey, product.getId());
+  }
+
+  /**
+   * 목록 응답의 마지막 상품으로 커서 생성
+   */
+  public static ProductCursor of(ProductSortType sortType, ProductListResponse product) {
+    String sortKey = switch (sortType) {
+      case LATEST, OLDEST, RELEVANCE -> product.getCreatedAt().toString();
+      case VIEWS -> String.valueOf(product.getViews());
+      case PRICE_ASC, PRICE_DESC -> product.getPrice().toPlainString();
+    };
+    return new ProductCursor(sortType, sortKey, product.getId());
+  }
+
+
+  /**
+   * 커서 문자열 해석
+   *
+   * @param cursor 인코딩된 커서
+   * @param sortType 요청 정렬 기준 (커서 생성 시 정렬 기준과 같아야 함)
+   */
+  public static ProductCursor decode(String cursor, ProductSortType sortType) {
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = decoded.split("\\|", -1);
+      if (parts.length != 3) {
+        throw new IllegalArgumentException("잘못된 커서 형식");
+      }
+
+      ProductCursor productCursor = new ProductCursor(ProductSortType.valueOf(parts[0]), parts[1],
+          Long.valueOf(parts[2]));
+      if (productCursor.sortType != sortType) {
+        throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "커서의 정렬 기준이 요청과 일치하지 않습니다.");
+      }
+
+      // 정렬값 형식 검증
+      productCursor.validateSortKey();
+      return productCursor;
+    } catch (CustomException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "올바르지 않은 커서입니다: " + cursor);
+    }
+  }
+
+  public String encode() {
+    String raw = sortType.name() + DELIMITER + sortKey + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return LocalDateTime.parse(sortKey);
+  }
+
+  public Integer getViews() {
+    return Integer.valueOf(sortKey);
+  }
+
+  public BigDecimal getPrice() {
+    return new BigDecimal(sortKey);
+  }
+
+  private void validateSortKey() {
+    switch (sortType) {
+      case LATEST, OLDEST, RELEVANCE -> getCreatedAt();
+      case VIEWS -> getViews();
+      case PRICE_ASC, PRICE_DESC -> getPrice();
+    }
+  }
+}
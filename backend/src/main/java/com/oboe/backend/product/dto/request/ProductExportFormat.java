@@ -0,0 +1,36 @@
+package com.oboe.backend.product.dto.request;
+
+import com.oboe.backend.common.exception.CustomException;
+import com.oboe.backend.common.exception.ErrorCode;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+@Getter
+public enum ProductExportFormat {
+  NDJSON("application/x-ndjson", "ndjson"), // 한 줄에 JSON 하나
+  CSV("text/csv", "csv"); // 첫 줄 헤더
+
+  private final String contentType;
+  private final String extension;
+
+  ProductExportFormat(String contentType, String extension) {
+    this.contentType = contentType;
+    this.extension = extension;
+  }
+
+  /**
+   * format 파라미터 변환 (없으면 NDJSON)
+   */
+  public static ProductExportFormat from(String format) {
+    if (!StringUtils.hasText(format)) {
+      return NDJSON;
+    }
+
+    return switch (format.toLowerCase()) {
+      case "ndjson" -> NDJSON;
+      case "csv" -> CSV;
+      default -> throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+          "지원하지 않는 내보내기 형식입니다: " + format);
+    };
+  }
+}
@@ -1,6 +1,7 @@
 package com.oboe.backend.product.dto.request;
 
 import com.oboe.backend.product.entity.ProductStatus;
+import java.math.BigDecimal;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,14 +11,14 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Builder
+@Builder(toBuilder = true)
 public class ProductSearchRequest {
 
   private String keyword; // 검색어 (상품명, 브랜드, 설명에서 검색)
 
   private ProductStatus status; // 상품 상태 필터
 
-  private String sortBy; // 정렬 기준: "latest"(최신순), "oldest"(오래된순), "views"(조회순)
+  private String sortBy; // 정렬 기준: "latest"(최신순), "oldest"(오래된순), "views"(조회순), "relevance"(관련도순)
 
   private Long categoryId; // 카테고리 필터
 
@@ -25,6 +26,10 @@ public class ProductSearchRequest {
 
   private String condition; // 컨디션 필터
 
+  private BigDecimal minPrice; // 최소 가격 (포함)
+
+  private BigDecimal maxPrice; // 최대 가격 (포함)
+
   private Integer page; // 페이지 번호 (0부터 시작)
 
   private Integer size; // 페이지 크기 (기본 20)
@@ -0,0 +1,41 @@
+package com.oboe.backend.product.dto.request;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * 상품 목록 정렬 기준
+ * - 동일 정렬 값은 상품 ID 로 순서를 고정 (커서 페이징의 (정렬값, ID) 튜플)
+ */
+public enum ProductSortType {
+  LATEST, // 최신순
+  OLDEST, // 오래된순
+  VIEWS, // 조회순
+  PRICE_ASC, // 낮은 가격순
+  PRICE_DESC, // 높은 가격순
+  RELEVANCE; // 검색어 관련도순 (인메모리 검색 인덱스 전용, 검색어가 없으면 최신순)
+
+  /**
+   * sortBy 파라미터 변환 (알 수 없는 값은 최신순)
+   */
+  public static ProductSortType from(String sortBy) {
+    if (!StringUtils.hasText(sortBy)) {
+      return LATEST;
+    }
+
+    return switch (sortBy.toLowerCase()) {
+      case "oldest" -> OLDEST;
+      case "views" -> VIEWS;
+      case "price_asc" -> PRICE_ASC;
+      case "price_desc" -> PRICE_DESC;
+      case "relevance" -> RELEVANCE;
+      default -> LATEST;
+    };
+  }
+
+  /**
+   * 오름차순 정렬 여부 (ID 타이브레이크 방향도 동일)
+   */
+  public boolean isAscending() {
+    return this == OLDEST || this == PRICE_ASC;
+  }
+}
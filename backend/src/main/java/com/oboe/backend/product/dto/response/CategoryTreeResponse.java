@@ -0,0 +1,21 @@
+package com.oboe.backend.product.dto.response;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class CategoryTreeResponse {
+
+  private Long id;
+  private String name;
+  private Integer level;
+  private String description;
+  private List<CategoryTreeResponse> children; // 하위 카테고리 (정렬 순서)
+}
@@ -0,0 +1,20 @@
+package com.oboe.backend.product.dto.response;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class CursorPageResponse<T> {
+
+  private List<T> content; // 조회 결과
+  private int size; // 요청 페이지 크기
+  private boolean hasNext; // 다음 페이지 존재 여부
+  private String nextCursor; // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+}
@@ -0,0 +1,18 @@
+package com.oboe.backend.product.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class FacetCountResponse {
+
+  private String value; // 필터 값 (브랜드명, 컨디션, 상태, 카테고리 ID)
+  private String label; // 표시 이름
+  private int count; // 해당 값 선택 시 상품 수
+}
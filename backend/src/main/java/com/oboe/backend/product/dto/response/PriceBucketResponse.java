@@ -0,0 +1,19 @@
+package com.oboe.backend.product.dto.response;
+
+import java.math.BigDecimal;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class PriceBucketResponse {
+
+  private BigDecimal from; // 구간 시작 가격 (포함)
+  private BigDecimal to; // 구간 끝 가격 (미포함)
+  private int count; // 구간 내 상품 수
+}
@@ -0,0 +1,21 @@
+package com.oboe.backend.product.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class PriceHistogramResponse {
+
+  private BigDecimal minPrice; // 슬라이더 최저가
+  private BigDecimal maxPrice; // 슬라이더 최고가
+  private int totalCount; // 범위 내 상품 수
+  private List<PriceBucketResponse> buckets;
+}
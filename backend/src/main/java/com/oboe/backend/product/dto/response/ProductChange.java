@@ -0,0 +1,23 @@
+package com.oboe.backend.product.dto.response;
+
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 변경 피드 항목 (상품별 최신 상태만 전달)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ProductChange {
+
+  private Long productId;
+  private ProductChangeType type;
+  private LocalDateTime changedAt; // 상품 수정 시각 (updated_at)
+  private ProductListResponse product; // 변경 후 상품 (삭제면 null)
+}
@@ -0,0 +1,19 @@
+package com.oboe.backend.product.dto.response;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ProductChangeFeedResponse {
+
+  private List<ProductChange> changes; // (수정 시각, ID) 순 변경 목록
+  private boolean hasMore; // 바로 이어서 조회할 변경이 더 있는지 여부
+  private String nextToken; // 다음 요청의 since 로 전달할 토큰 (변경이 없으면 요청 토큰 그대로)
+}
@@ -0,0 +1,7 @@
+package com.oboe.backend.product.dto.response;
+
+public enum ProductChangeType {
+  CREATED, // 토큰 위치 이후 등록됨 (클라이언트가 처음 받는 상품)
+  UPDATED, // 토큰 위치 이전에 등록된 상품이 수정됨
+  DELETED // 삭제됨 (INACTIVE, 톰스톤)
+}
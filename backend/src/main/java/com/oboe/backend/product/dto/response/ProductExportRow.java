@@ -0,0 +1,37 @@
+package com.oboe.backend.product.dto.response;
+
+import com.oboe.backend.product.entity.Condition;
+import com.oboe.backend.product.entity.ProductStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 내보내기 행 (products 테이블 컬럼 프로젝션, 연관 엔티티 미포함)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ProductExportRow {
+
+  private Long id;
+  private String name;
+  private String sku;
+  private BigDecimal price;
+  private Integer stockQuantity;
+  private ProductStatus productStatus;
+  private String brand;
+  private String yearOfRelease;
+  private String size;
+  private String texture;
+  private Condition condition;
+  private Integer views;
+  private String thumbnailUrl; // 대표 이미지 URL
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.oboe.backend.product.dto.response;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ProductFacetResponse {
+
+  private int totalCount; // 현재 필터 적용 결과 수
+  private List<FacetCountResponse> brands;
+  private List<FacetCountResponse> conditions;
+  private List<FacetCountResponse> statuses;
+  private List<FacetCountResponse> categories;
+}
@@ -0,0 +1,20 @@
+package com.oboe.backend.product.dto.response;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ProductImportResponse {
+
+  private int totalCount; // 처리한 행 수 (빈 줄 제외)
+  private int successCount; // 등록된 상품 수
+  private int failureCount; // 실패한 행 수
+  private List<ProductImportRowResult> results; // 행별 결과 (줄 번호 순)
+}
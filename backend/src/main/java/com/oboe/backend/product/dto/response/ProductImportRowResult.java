@@ -0,0 +1,20 @@
+package com.oboe.backend.product.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ProductImportRowResult {
+
+  private int line; // 업로드 파일의 줄 번호 (1부터 시작)
+  private boolean success; // 등록 성공 여부
+  private Long productId; // 생성된 상품 ID (실패 시 null)
+  private String name; // 상품명 (파싱 실패 시 null)
+  private String message; // 실패 사유
+}
@@ -0,0 +1,18 @@
+package com.oboe.backend.product.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class SuggestionResponse {
+
+  private String text; // 제안 검색어
+  private String type; // PRODUCT, BRAND, CATEGORY
+  private long weight; // 인기도
+}
@@ -2,6 +2,7 @@ package com.oboe.backend.product.entity;
 
 
 import com.oboe.backend.common.domain.BaseTimeEntity;
+import com.oboe.backend.common.domain.IdGenerators;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,15 +11,18 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -27,7 +31,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+    @Index(name = "idx_products_updated_at_id", columnList = "updated_at, id") // 변경 피드 조회
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -36,7 +42,10 @@ public class Product extends BaseTimeEntity {
 
   // 고유 식별자
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "product_id")
+  @TableGenerator(name = "product_id", table = IdGenerators.TABLE,
+      pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+      pkColumnValue = "products", allocationSize = IdGenerators.ALLOCATION_SIZE)
   private Long id;
 
   @Column(nullable = false, length = 200)
@@ -81,6 +90,9 @@ public class Product extends BaseTimeEntity {
 
   private Integer views; // 조회수
 
+  @Column(length = 512)
+  private String thumbnailUrl; // 대표 이미지 URL (목록 조회용, product_images 에서 비정규화)
+
   /**
    * 조회수 1 증가
    */
@@ -140,6 +152,26 @@ public class Product extends BaseTimeEntity {
     }
   }
 
+  /**
+   * 대표 이미지 URL 갱신
+   * - 썸네일로 지정된 이미지, 없으면 첫 번째 이미지
+   * - 상품 이미지를 저장/변경할 때마다 호출하여 product_images 와 동기화
+   *
+   * @return 대표 이미지 URL 변경 여부
+   */
+  public boolean refreshThumbnailUrl(List<ProductImage> images) {
+    String newThumbnailUrl = images.stream()
+        .filter(ProductImage::isThumbnail)
+        .findFirst()
+        .or(() -> images.stream().findFirst())
+        .map(ProductImage::getImageUrl)
+        .orElse(null);
+
+    boolean changed = !Objects.equals(this.thumbnailUrl, newThumbnailUrl);
+    this.thumbnailUrl = newThumbnailUrl;
+    return changed;
+  }
+
   /**
    * 상품 상태 변경
    */
@@ -1,9 +1,11 @@
 package com.oboe.backend.product.entity;
 
 import com.oboe.backend.common.domain.BaseTimeEntity;
+import com.oboe.backend.product.category.ProductCategoryChangeListener;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -23,6 +25,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "product_categories")
+@EntityListeners(ProductCategoryChangeListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
@@ -1,6 +1,7 @@
 package com.oboe.backend.product.entity;
 
 import com.oboe.backend.common.domain.BaseTimeEntity;
+import com.oboe.backend.common.domain.IdGenerators;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -10,6 +11,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,7 +28,10 @@ import lombok.NoArgsConstructor;
 public class ProductImage extends BaseTimeEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "product_image_id")
+  @TableGenerator(name = "product_image_id", table = IdGenerators.TABLE,
+      pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+      pkColumnValue = "product_images", allocationSize = IdGenerators.ALLOCATION_SIZE)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -41,4 +47,16 @@ public class ProductImage extends BaseTimeEntity {
 
   @Builder.Default
   private boolean thumbnail = false;
-}
\ No newline at end of file
+
+  /**
+   * 정렬 순서/썸네일 여부 변경
+   *
+   * @return 변경 여부
+   */
+  public boolean updateDisplay(Integer sortOrder, boolean thumbnail) {
+    boolean changed = !Objects.equals(this.sortOrder, sortOrder) || this.thumbnail != thumbnail;
+    this.sortOrder = sortOrder;
+    this.thumbnail = thumbnail;
+    return changed;
+  }
+}
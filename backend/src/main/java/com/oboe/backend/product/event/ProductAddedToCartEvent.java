@@ -0,0 +1,15 @@
+package com.oboe.backend.product.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품이 장바구니에 담긴 후 발행되는 이벤트
+ * - 트렌딩 점수 반영용 (커밋 후 처리)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductAddedToCartEvent {
+
+  private final Long productId;
+}
@@ -0,0 +1,15 @@
+package com.oboe.backend.product.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 카테고리 생성/수정/삭제 시 발행되는 이벤트
+ * - 인메모리 카테고리 트리 재구성용
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductCategoryChangedEvent {
+
+  private final Long categoryId;
+}
@@ -0,0 +1,20 @@
+package com.oboe.backend.product.event;
+
+import com.oboe.backend.product.search.ProductDocument;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 생성/수정/삭제 이벤트
+ * - 트랜잭션 커밋 이후 인메모리 인덱스 갱신에 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+
+  private final ProductDocument document; // 변경 시점의 상품 스냅샷
+
+  public Long getProductId() {
+    return document.getId();
+  }
+}
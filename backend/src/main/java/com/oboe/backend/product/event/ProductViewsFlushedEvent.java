@@ -0,0 +1,16 @@
+package com.oboe.backend.product.event;
+
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 누적 조회수가 DB 에 반영된 후 발행되는 이벤트
+ * - 조회수 기반 인메모리 랭킹 갱신용
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductViewsFlushedEvent {
+
+  private final Map<Long, Long> viewDeltas; // 상품 ID -> 반영된 조회수 증가량
+}
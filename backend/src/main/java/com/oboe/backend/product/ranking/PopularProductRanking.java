@@ -0,0 +1,187 @@
+package com.oboe.backend.product.ranking;
+
+import com.oboe.backend.product.event.ProductViewsFlushedEvent;
+import com.oboe.backend.product.repository.ProductRepository;
+import com.oboe.backend.product.search.ProductDocument;
+import com.oboe.backend.product.search.ProductIndex;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회수 기준 인기 상품 랭킹 (인메모리, 증분 갱신)
+ * - 기동 시 DB 에서 재구성하고, 상품 변경/조회수 반영 이벤트로 증분 갱신
+ * - 조회수 반영 이벤트는 자신이 반영한 증가분만 전달되므로 여러 인스턴스에서는 순위가 서로 어긋남
+ *   -> 주기적으로 DB 조회수 Top N 을 다시 읽어 맞춤 (조회수 증가분을 Pub/Sub 으로 전파하지 않고
+ *      DB 를 기준으로 수렴, 메시지 유실/중복과 무관하며 비용은 주기마다 쿼리 한 번)
+ * - INACTIVE, SOLD_OUT 상품은 랭킹에서 제외
+ * - 정렬 기준은 조회수 내림차순, 동일하면 ID 내림차순 (DB 인기 상품 조회와 동일)
+ */
+@Component
+@Slf4j
+public class PopularProductRanking implements ProductIndex {
+
+  private static final int RESYNC_SIZE = 100; // 인기 상품 조회 최대 개수와 동일
+
+  private static final Comparator<ProductDocument> RANKING_ORDER = Comparator
+      .comparingInt(ProductDocument::getViews)
+      .thenComparing(ProductDocument::getId)
+      .reversed();
+
+  private final ProductRepository productRepository;
+  private final Map<Long, ProductDocument> documents = new HashMap<>();
+  private final TreeSet<ProductDocument> ranking = new TreeSet<>(RANKING_ORDER);
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private volatile boolean ready = false;
+
+  public PopularProductRanking(ProductRepository productRepository) {
+    this.productRepository = productRepository;
+  }
+
+  @Override
+  public void rebuild(Collection<ProductDocument> documents) {
+    lock.writeLock().lock();
+    try {
+      this.documents.clear();
+      this.ranking.clear();
+      for (ProductDocument document : documents) {
+        if (document.isListable()) {
+          addDocument(document);
+        }
+      }
+      ready = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    log.info("인기 상품 랭킹 구성 완료: 상품 {}건", this.documents.size());
+  }
+
+  @Override
+  public void index(ProductDocument document) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(document.getId());
+      if (document.isListable()) {
+        addDocument(document);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void remove(Long productId) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(productId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * DB 에 반영된 조회수 증가분을 랭킹에 적용
+   */
+  @EventListener
+  public void onViewsFlushed(ProductViewsFlushedEvent event) {
+    lock.writeLock().lock();
+    try {
+      event.getViewDeltas().forEach((productId, delta) -> {
+        ProductDocument previous = removeDocument(productId);
+        if (previous != null) {
+          int views = (int) Math.min(Integer.MAX_VALUE, previous.getViews() + delta);
+          addDocument(previous.toBuilder().views(views).build());
+        }
+      });
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 다른 인스턴스에서 반영한 조회수를 DB 에서 다시 읽어 상위 랭킹을 맞춤
+   * - 로컬 조회수는 DB 반영 후에만 증가하므로 DB 값보다 클 수 없음 -> 둘 중 큰 값 사용
+   *   (조회와 로컬 반영이 겹쳐도 방금 적용한 증가분을 되돌리지 않음)
+   * - 모든 상품의 로컬 조회수가 DB 값 이하이므로 DB Top N 만 맞추면 상위 N 개 순위가 DB 와 일치
+   */
+  @Scheduled(fixedDelayString = "${product.popular.resync-interval-ms:300000}",
+      initialDelayString = "${product.popular.resync-interval-ms:300000}")
+  public void resync() {
+    if (!ready) {
+      return;
+    }
+    applyViews(productRepository.findTopListableViews(RESYNC_SIZE));
+  }
+
+  void applyViews(Map<Long, Integer> views) {
+    lock.writeLock().lock();
+    try {
+      views.forEach((productId, count) -> {
+        ProductDocument previous = documents.get(productId);
+        if (previous != null && previous.getViews() < count) {
+          removeDocument(productId);
+          addDocument(previous.toBuilder().views(count).build());
+        }
+      });
+    } finally {
+      lock.writeLock().unlock();
+    }
+    log.debug("인기 상품 랭킹 DB 조회수 동기화: 상품 {}건", views.size());
+  }
+
+  /**
+   * 랭킹 구성 완료 여부 (기동 직후에는 DB 조회로 대체)
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * 상위 limit 개 상품 (limit 이 0 이하면 빈 목록)
+   */
+  public List<ProductDocument> getTop(int limit) {
+    if (limit <= 0) {
+      return List.of();
+    }
+
+    lock.readLock().lock();
+    try {
+      List<ProductDocument> top = new ArrayList<>(Math.min(limit, ranking.size()));
+      for (ProductDocument document : ranking) {
+        if (top.size() >= limit) {
+          break;
+        }
+        top.add(document);
+      }
+      return top;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // ===== Private Helper Methods =====
+
+  private void addDocument(ProductDocument document) {
+    documents.put(document.getId(), document);
+    ranking.add(document);
+  }
+
+  private ProductDocument removeDocument(Long productId) {
+    ProductDocument previous = documents.remove(productId);
+    if (previous != null) {
+      ranking.remove(previous);
+    }
+    return previous;
+  }
+}
@@ -0,0 +1,17 @@
+package com.oboe.backend.product.ranking;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 트렌딩 점수에 반영되는 사용자 행동과 가중치
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrendSignal {
+  VIEW(1.0), // 상세 조회
+  CART_ADD(5.0), // 장바구니 담기
+  PURCHASE(20.0); // 구매
+
+  private final double weight;
+}
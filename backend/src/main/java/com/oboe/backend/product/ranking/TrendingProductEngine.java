@@ -0,0 +1,185 @@
+package com.oboe.backend.product.ranking;
+
+import com.oboe.backend.product.event.ProductAddedToCartEvent;
+import com.oboe.backend.product.event.ProductViewsFlushedEvent;
+import com.oboe.backend.product.search.ProductDocument;
+import com.oboe.backend.product.search.ProductIndex;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 시간 감쇠 트렌딩 상품 엔진 (인메모리)
+ * - 조회/장바구니/구매 신호를 분 단위 버킷에 누적
+ * - 주기적으로 버킷을 지수 감쇠 점수에 합산하고 순위 스냅샷을 교체 (조회는 스냅샷만 읽음)
+ * - 상품 변경은 문서만 교체하고 정렬하지 않음 (일괄 등록 시 상품마다 전체 정렬 방지)
+ * - INACTIVE, SOLD_OUT 상품은 순위에서 제외
+ */
+@Component
+@Slf4j
+public class TrendingProductEngine implements ProductIndex {
+
+  private static final double MIN_SCORE = 0.01; // 이보다 작아진 점수는 제거
+
+  private final Map<Long, ProductDocument> documents = new ConcurrentHashMap<>();
+  private final Map<Long, Double> scores = new HashMap<>(); // merge 시에만 접근 (synchronized)
+  private final Set<Long> removedIds = ConcurrentHashMap.newKeySet(); // 다음 merge 에서 점수 제거
+  private final double halfLifeMillis;
+  private final int maxSize;
+
+  private volatile Map<Long, DoubleAdder> currentBucket = new ConcurrentHashMap<>();
+  private volatile List<Long> snapshot = List.of(); // 점수 순 상품 ID
+  private long lastMergedAt = System.currentTimeMillis();
+
+  public TrendingProductEngine(
+      @Value("${product.trending.half-life-minutes:360}") long halfLifeMinutes,
+      @Value("${product.trending.max-size:100}") int maxSize) {
+    this.halfLifeMillis = halfLifeMinutes * 60_000.0;
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public synchronized void rebuild(Collection<ProductDocument> documents) {
+    this.documents.clear();
+    for (ProductDocument document : documents) {
+      if (document.isListable()) {
+        this.documents.put(document.getId(), document);
+      }
+    }
+    refreshSnapshot();
+  }
+
+  /**
+   * 상품 문서만 교체 (정렬은 merge 에서 수행, 조회 시 제외된 상품은 건너뜀)
+   */
+  @Override
+  public void index(ProductDocument document) {
+    if (document.isListable()) {
+      documents.put(document.getId(), document);
+    } else {
+      documents.remove(document.getId());
+    }
+  }
+
+  /**
+   * 상품 문서 제거, 점수는 다음 merge 에서 정리
+   */
+  @Override
+  public void remove(Long productId) {
+    documents.remove(productId);
+    removedIds.add(productId);
+  }
+
+  /**
+   * 행동 신호 기록 (현재 분 버킷에 누적)
+   */
+  public void record(Long productId, TrendSignal signal) {
+    record(productId, signal, 1);
+  }
+
+  public void record(Long productId, TrendSignal signal, long count) {
+    currentBucket.computeIfAbsent(productId, id -> new DoubleAdder())
+        .add(signal.getWeight() * count);
+  }
+
+  /**
+   * 조회수는 Write-Behind 집계기가 DB 에 반영한 증가분으로 기록
+   */
+  @EventListener
+  public void onViewsFlushed(ProductViewsFlushedEvent event) {
+    event.getViewDeltas().forEach((productId, delta) -> record(productId, TrendSignal.VIEW, delta));
+  }
+
+  /**
+   * 장바구니 담기는 커밋 후 기록 (롤백된 담기는 반영되지 않음)
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProductAddedToCart(ProductAddedToCartEvent event) {
+    record(event.getProductId(), TrendSignal.CART_ADD);
+  }
+
+  /**
+   * 현재 버킷을 감쇠 점수에 합산하고 순위 스냅샷 교체 (1분 주기)
+   */
+  @Scheduled(fixedDelayString = "${product.trending.merge-interval-ms:60000}")
+  public void merge() {
+    merge(System.currentTimeMillis());
+  }
+
+  synchronized void merge(long now) {
+    Map<Long, DoubleAdder> bucket = currentBucket;
+    currentBucket = new ConcurrentHashMap<>();
+
+    // 지난 합산 이후 경과 시간만큼 기존 점수 감쇠 (반감기 기준)
+    double decay = Math.pow(0.5, Math.max(0, now - lastMergedAt) / halfLifeMillis);
+    lastMergedAt = now;
+
+    for (Iterator<Long> removed = removedIds.iterator(); removed.hasNext(); ) {
+      scores.remove(removed.next());
+      removed.remove();
+    }
+
+    Iterator<Map.Entry<Long, Double>> iterator = scores.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Long, Double> entry = iterator.next();
+      double decayed = entry.getValue() * decay;
+      if (decayed < MIN_SCORE) {
+        iterator.remove();
+      } else {
+        entry.setValue(decayed);
+      }
+    }
+    bucket.forEach((productId, adder) -> scores.merge(productId, adder.sum(), Double::sum));
+
+    refreshSnapshot();
+    log.debug("트렌딩 점수 합산 완료: 신호 상품 {}건, 점수 보유 상품 {}건", bucket.size(), scores.size());
+  }
+
+  /**
+   * 트렌딩 상위 limit 개 상품 (스냅샷 조회)
+   * - 스냅샷 이후 판매완료/삭제된 상품은 제외하고 최신 문서로 반환
+   */
+  public List<ProductDocument> getTop(int limit) {
+    if (limit <= 0) {
+      return List.of();
+    }
+    List<Long> current = snapshot;
+    List<ProductDocument> top = new ArrayList<>(Math.min(limit, current.size()));
+    for (Long productId : current) {
+      ProductDocument document = documents.get(productId);
+      if (document != null) {
+        top.add(document);
+        if (top.size() == limit) {
+          break;
+        }
+      }
+    }
+    return top;
+  }
+
+  // ===== Private Helper Methods =====
+
+  private void refreshSnapshot() {
+    snapshot = scores.entrySet().stream()
+        .filter(entry -> documents.containsKey(entry.getKey()))
+        .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+            .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+        .limit(maxSize)
+        .map(Map.Entry::getKey)
+        .toList();
+  }
+}
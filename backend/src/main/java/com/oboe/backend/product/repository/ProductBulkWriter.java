@@ -0,0 +1,161 @@
+package com.oboe.backend.product.repository;
+
+import com.oboe.backend.product.dto.request.ProductCreateRequest;
+import com.oboe.backend.product.dto.request.ProductImageRequest;
+import com.oboe.backend.product.entity.Product;
+import com.oboe.backend.product.entity.ProductImage;
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 상품 일괄 등록용 JDBC 배치 저장소
+ * - 엔티티 매핑/변경 감지를 거치지 않고 products, product_categories, product_images 를 JDBC 배치로 직접 저장
+ * - ID 는 엔티티와 같은 pooled ID 생성기에서 미리 발급 (JPA 로 저장하는 상품과 ID 가 겹치지 않음)
+ * - 호출 측 트랜잭션에 참여 (JPA 트랜잭션과 같은 커넥션 사용)
+ * - condition 은 MySQL 예약어이므로 컬럼명을 역따옴표로 감쌈
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductBulkWriter {
+
+  private static final String INSERT_PRODUCT = "INSERT INTO products (id, name, description, "
+      + "sku, price, stock_quantity, product_status, brand, year_of_release, size, texture, "
+      + "`condition`, views, thumbnail_url, created_at, updated_at) "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?)";
+  private static final String INSERT_PRODUCT_CATEGORY =
+      "INSERT INTO product_categories (product_id, category_id) VALUES (?, ?)";
+  private static final String INSERT_PRODUCT_IMAGE = "INSERT INTO product_images (id, "
+      + "product_id, image_url, sort_order, thumbnail, created_at, updated_at) "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final EntityManager entityManager;
+
+  /**
+   * 상품/카테고리 연결/이미지 일괄 저장
+   *
+   * @param createdAt 생성/수정 시각 (호출 측에서 인덱스 문서에도 같은 값 사용)
+   * @return 요청 순서대로 생성된 상품 ID
+   */
+  public List<Long> insertAll(List<ProductCreateRequest> requests, LocalDateTime createdAt) {
+    if (requests.isEmpty()) {
+      return List.of();
+    }
+
+    Timestamp now = Timestamp.valueOf(createdAt);
+    List<Long> productIds = allocateIds(Product.class, requests.size());
+    insertProducts(productIds, requests, now);
+
+    List<Object[]> categoryRows = new ArrayList<>();
+    List<Object[]> imageRows = new ArrayList<>();
+    for (int i = 0; i < requests.size(); i++) {
+      ProductCreateRequest request = requests.get(i);
+      Long productId = productIds.get(i);
+      if (request.getCategoryIds() != null) {
+        for (Long categoryId : request.getCategoryIds()) {
+          categoryRows.add(new Object[]{productId, categoryId});
+        }
+      }
+      if (request.getImages() != null) {
+        for (ProductImageRequest image : request.getImages()) {
+          imageRows.add(new Object[]{null, productId, image.getImageUrl(),
+              image.getSortOrder() != null ? image.getSortOrder() : 0, image.isThumbnail(), now,
+              now});
+        }
+      }
+    }
+
+    if (!categoryRows.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_PRODUCT_CATEGORY, categoryRows);
+    }
+    if (!imageRows.isEmpty()) {
+      List<Long> imageIds = allocateIds(ProductImage.class, imageRows.size());
+      for (int i = 0; i < imageRows.size(); i++) {
+        imageRows.get(i)[0] = imageIds.get(i);
+      }
+      jdbcTemplate.batchUpdate(INSERT_PRODUCT_IMAGE, imageRows);
+    }
+    return productIds;
+  }
+
+  // ===== Private Helper Methods =====
+
+  private void insertProducts(List<Long> productIds, List<ProductCreateRequest> requests,
+      Timestamp now) {
+    jdbcTemplate.batchUpdate(INSERT_PRODUCT, new BatchPreparedStatementSetter() {
+      @Override
+      public void setValues(PreparedStatement ps, int i) throws SQLException {
+        ProductCreateRequest request = requests.get(i);
+        ps.setLong(1, productIds.get(i));
+        ps.setString(2, request.getName());
+        ps.setString(3, request.getDescription());
+        ps.setString(4, request.getSku());
+        ps.setBigDecimal(5, request.getPrice());
+        ps.setInt(6, request.getStockQuantity());
+        ps.setString(7, request.getProductStatus().name());
+        ps.setString(8, request.getBrand());
+        ps.setString(9, request.getYearOfRelease());
+        ps.setString(10, request.getSize());
+        ps.setString(11, request.getTexture());
+        if (request.getCondition() != null) {
+          ps.setString(12, request.getCondition().name());
+        } else {
+          ps.setNull(12, Types.VARCHAR);
+        }
+        ps.setString(13, thumbnailUrl(request.getImages()));
+        ps.setTimestamp(14, now);
+        ps.setTimestamp(15, now);
+      }
+
+      @Override
+      public int getBatchSize() {
+        return requests.size();
+      }
+    });
+  }
+
+  /**
+   * 엔티티의 ID 생성기에서 count 개 발급 (pooled 블록 안에서는 DB 조회 없음)
+   */
+  private List<Long> allocateIds(Class<?> entityType, int count) {
+    SharedSessionContractImplementor session =
+        entityManager.unwrap(SharedSessionContractImplementor.class);
+    BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory()
+        .getMappingMetamodel()
+        .getEntityDescriptor(entityType)
+        .getGenerator();
+
+    List<Long> ids = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      ids.add(((Number) generator.generate(session, null, null, EventType.INSERT)).longValue());
+    }
+    return ids;
+  }
+
+  /**
+   * 대표 이미지 URL (thumbnail 지정 이미지, 없으면 첫 이미지) - Product.refreshThumbnailUrl 과 같은 규칙
+   */
+  public static String thumbnailUrl(List<ProductImageRequest> images) {
+    if (images == null || images.isEmpty()) {
+      return null;
+    }
+    return images.stream()
+        .filter(ProductImageRequest::isThumbnail)
+        .findFirst()
+        .orElse(images.get(0))
+        .getImageUrl();
+  }
+}
@@ -34,6 +34,15 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
   @Query("SELECT p FROM Product p WHERE p.id = :id AND p.productStatus != 'INACTIVE'")
   Optional<Product> findByIdExcludingInactive(@Param("id") Long id);
 
+  /**
+   * 조회수만 조회 (상세 캐시 응답에 최신 조회수를 덮어쓰기 위한 PK 단건 조회)
+   *
+   * @param id 상품 ID
+   * @return DB 에 반영된 조회수 (Optional)
+   */
+  @Query("SELECT COALESCE(p.views, 0) FROM Product p WHERE p.id = :id")
+  Optional<Integer> findViewsById(@Param("id") Long id);
+
   /**
    * 상품 상태별 조회
    *
@@ -132,4 +141,21 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
    */
   @Query("SELECT p FROM Product p WHERE p.productStatus != 'INACTIVE' ORDER BY p.createdAt DESC")
   List<Product> findLatestProductsExcludingInactive(Pageable pageable);
+
+  /**
+   * 인메모리 인덱스 구성을 위한 전체 상품 조회 (INACTIVE 제외, 카테고리 포함)
+   *
+   * @return 활성 상품 목록
+   */
+  @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.categories WHERE p.productStatus != 'INACTIVE'")
+  List<Product> findAllForIndexing();
+
+  /**
+   * 인메모리 인덱스 단건 갱신을 위한 상품 조회 (카테고리 포함, INACTIVE 포함)
+   *
+   * @param productId 상품 ID
+   * @return 상품 (없으면 empty)
+   */
+  @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.categories WHERE p.id = :productId")
+  Optional<Product> findForIndexingById(@Param("productId") Long productId);
 }
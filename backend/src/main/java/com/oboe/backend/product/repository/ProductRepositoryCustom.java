@@ -1,25 +1,81 @@
 package com.oboe.backend.product.repository;
 
+import com.oboe.backend.product.dto.request.ProductChangeToken;
+import com.oboe.backend.product.dto.request.ProductCursor;
 import com.oboe.backend.product.dto.request.ProductSearchRequest;
-import com.oboe.backend.product.entity.Product;
+import com.oboe.backend.product.dto.response.ProductChange;
+import com.oboe.backend.product.dto.response.ProductExportRow;
+import com.oboe.backend.product.dto.response.ProductListResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface ProductRepositoryCustom {
 
   /**
-   * 복합 검색 조건으로 상품 검색 - 검색어 (상품명, 설명, 브랜드) - 상품 상태 필터 - 카테고리 필터 - 브랜드 필터 - 컨디션 필터 - 정렬 조건 (최신순,
-   * 오래된순, 조회순)
+   * 상품 검색 (INACTIVE 제외) - 검색어 (상품명, 설명, 브랜드), 상품 상태, 카테고리, 브랜드, 컨디션, 가격 범위 필터와 정렬
+   * - 조건이 없으면 전체 조회, 조건 조합과 관계없이 ProductSearchCompiler 로 생성한 단일 쿼리 사용
+   * - 목록 컬럼만 프로젝션 (엔티티/컬렉션 로딩 없음)
    */
-  Page<Product> searchProducts(ProductSearchRequest searchRequest, Pageable pageable);
+  Page<ProductListResponse> search(ProductSearchRequest searchRequest, Pageable pageable);
 
   /**
-   * 키워드로만 검색 (상품명, 설명, 브랜드에서 검색)
+   * ID 목록 순서대로 상품 목록 응답 조회 (INACTIVE 제외, 목록 컬럼만 프로젝션)
+   * - 엔티티/컬렉션을 로딩하지 않고 단일 쿼리로 조회 (썸네일은 thumbnail_url 컬럼 사용)
+   * - 조회되지 않거나 INACTIVE 인 ID 는 결과에서 제외 (캐시/인덱스가 삭제를 늦게 반영해도 노출되지 않음)
    */
-  Page<Product> searchByKeyword(String keyword, Pageable pageable);
+  List<ProductListResponse> findListResponsesByIdInOrder(List<Long> productIds);
 
   /**
-   * 필터 조건으로만 검색 (키워드 없이)
+   * 조회수 Top N 상품 목록 응답 조회 (INACTIVE 제외, 목록 컬럼만 프로젝션)
    */
-  Page<Product> searchByFilters(ProductSearchRequest searchRequest, Pageable pageable);
+  List<ProductListResponse> findPopularListResponses(int limit);
+
+  /**
+   * 조회수 Top N 상품의 ID -> 조회수 (INACTIVE, SOLD_OUT 제외, 조회수 내림차순)
+   * - 인메모리 인기 랭킹을 DB 조회수로 주기적으로 맞추는 용도
+   */
+  Map<Long, Integer> findTopListableViews(int limit);
+
+  /**
+   * 최신 상품 목록 응답 조회 (INACTIVE 제외, 목록 컬럼만 프로젝션)
+   */
+  List<ProductListResponse> findLatestListResponses(int limit);
+
+  /**
+   * 복합 검색 (총 개수 없이 다음 페이지 존재 여부만 반환)
+   * - count 쿼리를 생략하여 페이지 이동 비용 절감, 목록 컬럼만 프로젝션
+   */
+  Slice<ProductListResponse> searchProductSlice(ProductSearchRequest searchRequest, Pageable pageable);
+
+  /**
+   * 커서(seek) 방식 검색 - (정렬값, ID) 가 커서 이후인 상품을 limit 개 조회
+   * - OFFSET 없이 인덱스 범위 조회로 처리되어 깊은 페이지도 일정한 비용
+   *
+   * @param cursor 마지막으로 조회한 위치 (첫 페이지면 null)
+   */
+  List<ProductListResponse> searchProductsAfter(ProductSearchRequest searchRequest, ProductCursor cursor,
+      int limit);
+
+  /**
+   * 내보내기용 전체 상품 순회 (INACTIVE 제외, ID 순)
+   * - 전방향/읽기 전용 결과셋을 fetchSize 로 읽어 행마다 consumer 호출 (결과를 모아두지 않음)
+   * - MySQL 은 fetchSize 가 Integer.MIN_VALUE 일 때 이 문장만 한 행씩 스트리밍
+   * - 호출 측 트랜잭션 안에서 호출해야 함
+   *
+   * @return 순회한 행 수
+   */
+  long scrollExportRows(int fetchSize, Consumer<ProductExportRow> consumer);
+
+  /**
+   * 변경 피드 조회 - (수정 시각, ID) 가 토큰 이후이고 수정 시각이 until 이하인 상품을 limit 개 조회
+   * - INACTIVE 상품은 삭제(톰스톤)로 포함, (updated_at, id) 인덱스 범위 조회
+   *
+   * @param since 마지막으로 전달한 위치 (처음부터면 null)
+   */
+  List<ProductChange> findChangesAfter(ProductChangeToken since, LocalDateTime until, int limit);
 }
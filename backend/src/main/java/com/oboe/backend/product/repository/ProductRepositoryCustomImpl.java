@@ -1,194 +1,343 @@
 package com.oboe.backend.product.repository;
 
 import static com.oboe.backend.product.entity.QProduct.product;
-import static com.oboe.backend.product.entity.QProductCategory.productCategory;
 
+import com.oboe.backend.product.cache.ProductCountCache;
+import com.oboe.backend.product.dto.request.ProductChangeToken;
+import com.oboe.backend.product.dto.request.ProductCursor;
 import com.oboe.backend.product.dto.request.ProductSearchRequest;
-import com.oboe.backend.product.entity.Product;
+import com.oboe.backend.product.dto.request.ProductSortType;
+import com.oboe.backend.product.dto.response.ProductChange;
+import com.oboe.backend.product.dto.response.ProductChangeType;
+import com.oboe.backend.product.dto.response.ProductExportRow;
+import com.oboe.backend.product.dto.response.ProductListResponse;
+import com.oboe.backend.product.entity.Condition;
 import com.oboe.backend.product.entity.ProductStatus;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
-import org.springframework.util.StringUtils;
 
 @Repository
 @RequiredArgsConstructor
 public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
 
+  // 내보내기 조회 - 스크롤 시 QueryDSL 결과 변환기를 거치지 않도록 JPQL 로 컬럼 배열을 직접 조회
+  private static final String EXPORT_QUERY = "SELECT p.id, p.name, p.sku, p.price, "
+      + "p.stockQuantity, p.productStatus, p.brand, p.yearOfRelease, p.size, p.texture, "
+      + "p.condition, p.views, p.thumbnailUrl, p.createdAt, p.updatedAt "
+      + "FROM Product p WHERE p.productStatus <> :inactive ORDER BY p.id";
+
   private final JPAQueryFactory queryFactory;
+  private final EntityManager entityManager;
+  private final ProductCountCache productCountCache;
+  private final ProductSearchCompiler productSearchCompiler;
 
   @Override
-  public Page<Product> searchProducts(ProductSearchRequest searchRequest, Pageable pageable) {
-    BooleanBuilder builder = new BooleanBuilder();
-
-    // 기본 조건: INACTIVE 상태 제외
-    builder.and(product.productStatus.ne(ProductStatus.INACTIVE));
-
-    // 키워드 검색 (상품명, 설명, 브랜드)
-    if (StringUtils.hasText(searchRequest.getKeyword())) {
-      BooleanBuilder keywordBuilder = new BooleanBuilder();
-      keywordBuilder.or(product.name.containsIgnoreCase(searchRequest.getKeyword()))
-          .or(product.description.containsIgnoreCase(searchRequest.getKeyword()))
-          .or(product.brand.containsIgnoreCase(searchRequest.getKeyword()));
-      builder.and(keywordBuilder);
-    }
-
-    // 상품 상태 필터
-    if (searchRequest.getStatus() != null) {
-      builder.and(product.productStatus.eq(searchRequest.getStatus()));
-    }
-
-    // 카테고리 필터
-    if (searchRequest.getCategoryId() != null) {
-      builder.and(product.categories.any().id.eq(searchRequest.getCategoryId()));
-    }
-
-    // 브랜드 필터
-    if (StringUtils.hasText(searchRequest.getBrand())) {
-      builder.and(product.brand.eq(searchRequest.getBrand()));
+  public Page<ProductListResponse> search(ProductSearchRequest searchRequest,
+      Pageable pageable) {
+    ProductSearchSpec spec = productSearchCompiler.normalize(searchRequest);
+    if (spec.isMatchesNothing()) {
+      return Page.empty(pageable);
     }
+    BooleanBuilder builder = productSearchCompiler.where(spec);
 
-    // 컨디션 필터
-    if (StringUtils.hasText(searchRequest.getCondition())) {
-      builder.and(product.condition.stringValue().eq(searchRequest.getCondition()));
-    }
-
-    // 기본 쿼리 생성
-    JPAQuery<Product> query = queryFactory
-        .selectFrom(product)
-        .leftJoin(product.categories, productCategory).fetchJoin()
+    // 목록 컬럼만 프로젝션 - 엔티티/컬렉션을 로딩하지 않아 DB 에서 바로 LIMIT 적용
+    List<ProductListResponse> content = selectListColumns()
         .where(builder)
-        .distinct();
-
-    // 정렬 조건 적용
-    OrderSpecifier<?> orderSpecifier = getOrderSpecifier(searchRequest.getSortBy());
-    if (orderSpecifier != null) {
-      query.orderBy(orderSpecifier);
-    }
-
-    // 페이징 적용
-    List<Product> products = query
+        .orderBy(productSearchCompiler.orderBy(spec))
         .offset(pageable.getOffset())
         .limit(pageable.getPageSize())
-        .fetch();
+        .fetch()
+        .stream()
+        .map(this::toListResponse)
+        .collect(Collectors.toList());
 
-    // 총 개수 조회
-    long total = queryFactory
+    // 총 개수 조회 (동일 조건 캐시)
+    long total = productCountCache.getCount(spec.filterKey(), () -> queryFactory
         .selectFrom(product)
         .where(builder)
-        .fetchCount();
+        .fetchCount());
 
-    return new PageImpl<>(products, pageable, total);
+    return new PageImpl<>(content, pageable, total);
   }
 
   @Override
-  public Page<Product> searchByKeyword(String keyword, Pageable pageable) {
-    BooleanBuilder builder = new BooleanBuilder();
-
-    // 기본 조건: INACTIVE 상태 제외
-    builder.and(product.productStatus.ne(ProductStatus.INACTIVE));
-
-    // 키워드 검색
-    if (StringUtils.hasText(keyword)) {
-      BooleanBuilder keywordBuilder = new BooleanBuilder();
-      keywordBuilder.or(product.name.containsIgnoreCase(keyword))
-          .or(product.description.containsIgnoreCase(keyword))
-          .or(product.brand.containsIgnoreCase(keyword));
-      builder.and(keywordBuilder);
+  public List<ProductListResponse> findListResponsesByIdInOrder(List<Long> productIds) {
+    if (productIds.isEmpty()) {
+      return List.of();
     }
 
-    JPAQuery<Product> query = queryFactory
-        .selectFrom(product)
-        .where(builder)
-        .orderBy(product.createdAt.desc()); // 기본 정렬: 최신순
-
-    List<Product> products = query
-        .offset(pageable.getOffset())
-        .limit(pageable.getPageSize())
-        .fetch();
-
-    long total = queryFactory
-        .selectFrom(product)
-        .where(builder)
-        .fetchCount();
+    List<ProductListResponse> responses = selectListColumns()
+        .where(product.id.in(productIds),
+            product.productStatus.ne(ProductStatus.INACTIVE))
+        .fetch()
+        .stream()
+        .map(this::toListResponse)
+        .collect(Collectors.toList());
+
+    // ID 목록 순서 복원
+    Map<Long, ProductListResponse> responseMap = responses.stream()
+        .collect(Collectors.toMap(ProductListResponse::getId, Function.identity()));
+
+    return productIds.stream()
+        .map(responseMap::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
 
-    return new PageImpl<>(products, pageable, total);
+  @Override
+  public List<ProductListResponse> findPopularListResponses(int limit) {
+    return selectListColumns()
+        .where(product.productStatus.ne(ProductStatus.INACTIVE))
+        .orderBy(ProductSearchCompiler.orderSpecifiers(ProductSortType.VIEWS))
+        .limit(limit)
+        .fetch()
+        .stream()
+        .map(this::toListResponse)
+        .collect(Collectors.toList());
   }
 
   @Override
-  public Page<Product> searchByFilters(ProductSearchRequest searchRequest, Pageable pageable) {
-    BooleanBuilder builder = new BooleanBuilder();
+  public Map<Long, Integer> findTopListableViews(int limit) {
+    NumberExpression<Integer> viewCount = product.views.coalesce(0);
+    Map<Long, Integer> views = new LinkedHashMap<>();
+    queryFactory
+        .select(product.id, viewCount)
+        .from(product)
+        .where(product.productStatus.notIn(ProductStatus.INACTIVE, ProductStatus.SOLD_OUT))
+        .orderBy(ProductSearchCompiler.orderSpecifiers(ProductSortType.VIEWS))
+        .limit(limit)
+        .fetch()
+        .forEach(tuple -> views.put(tuple.get(product.id), tuple.get(viewCount)));
+    return views;
+  }
 
-    // 기본 조건: INACTIVE 상태 제외
-    builder.and(product.productStatus.ne(ProductStatus.INACTIVE));
+  @Override
+  public List<ProductListResponse> findLatestListResponses(int limit) {
+    return selectListColumns()
+        .where(product.productStatus.ne(ProductStatus.INACTIVE))
+        .orderBy(ProductSearchCompiler.orderSpecifiers(ProductSortType.LATEST))
+        .limit(limit)
+        .fetch()
+        .stream()
+        .map(this::toListResponse)
+        .collect(Collectors.toList());
+  }
 
-    // 상품 상태 필터
-    if (searchRequest.getStatus() != null) {
-      builder.and(product.productStatus.eq(searchRequest.getStatus()));
+  @Override
+  public List<ProductListResponse> searchProductsAfter(ProductSearchRequest searchRequest,
+      ProductCursor cursor, int limit) {
+    ProductSearchSpec spec = productSearchCompiler.normalize(searchRequest);
+    if (spec.isMatchesNothing()) {
+      return List.of();
     }
+    BooleanBuilder builder = productSearchCompiler.where(spec);
 
-    // 카테고리 필터
-    if (searchRequest.getCategoryId() != null) {
-      builder.and(product.categories.any().id.eq(searchRequest.getCategoryId()));
+    // 커서 이후 조건
+    if (cursor != null) {
+      builder.and(afterCursor(cursor));
     }
 
-    // 브랜드 필터
-    if (StringUtils.hasText(searchRequest.getBrand())) {
-      builder.and(product.brand.eq(searchRequest.getBrand()));
+    return selectListColumns()
+        .where(builder)
+        .orderBy(productSearchCompiler.orderBy(spec))
+        .limit(limit)
+        .fetch()
+        .stream()
+        .map(this::toListResponse)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public Slice<ProductListResponse> searchProductSlice(ProductSearchRequest searchRequest,
+      Pageable pageable) {
+    ProductSearchSpec spec = productSearchCompiler.normalize(searchRequest);
+    if (spec.isMatchesNothing()) {
+      return new SliceImpl<>(List.of(), pageable, false);
     }
+    BooleanBuilder builder = productSearchCompiler.where(spec);
 
-    // 컨디션 필터
-    if (StringUtils.hasText(searchRequest.getCondition())) {
-      builder.and(product.condition.stringValue().eq(searchRequest.getCondition()));
+    // count 쿼리 없이 size + 1 개를 조회해 다음 페이지 존재 여부만 판단
+    List<ProductListResponse> content = selectListColumns()
+        .where(builder)
+        .orderBy(productSearchCompiler.orderBy(spec))
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize() + 1L)
+        .fetch()
+        .stream()
+        .map(this::toListResponse)
+        .collect(Collectors.toList());
+
+    boolean hasNext = content.size() > pageable.getPageSize();
+    if (hasNext) {
+      content = content.subList(0, pageable.getPageSize());
     }
 
-    JPAQuery<Product> query = queryFactory
-        .selectFrom(product)
-        .where(builder);
-
-    // 정렬 조건 적용
-    OrderSpecifier<?> orderSpecifier = getOrderSpecifier(searchRequest.getSortBy());
-    if (orderSpecifier != null) {
-      query.orderBy(orderSpecifier);
-    } else {
-      query.orderBy(product.createdAt.desc()); // 기본 정렬: 최신순
+    return new SliceImpl<>(content, pageable, hasNext);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public long scrollExportRows(int fetchSize, Consumer<ProductExportRow> consumer) {
+    Query<Object[]> query = entityManager.createQuery(EXPORT_QUERY, Object[].class)
+        .setParameter("inactive", ProductStatus.INACTIVE)
+        .unwrap(Query.class);
+
+    // 스칼라 프로젝션이라 영속성 컨텍스트에 엔티티가 쌓이지 않음
+    long count = 0;
+    try (ScrollableResults<Object[]> rows = query
+        .setFetchSize(fetchSize)
+        .setReadOnly(true)
+        .scroll(ScrollMode.FORWARD_ONLY)) {
+      while (rows.next()) {
+        consumer.accept(toExportRow(rows.get()));
+        count++;
+      }
     }
+    return count;
+  }
 
-    List<Product> products = query
-        .offset(pageable.getOffset())
-        .limit(pageable.getPageSize())
-        .fetch();
+  @Override
+  public List<ProductChange> findChangesAfter(ProductChangeToken since, LocalDateTime until,
+      int limit) {
+    BooleanBuilder builder = new BooleanBuilder(product.updatedAt.loe(until));
+    if (since != null) {
+      builder.and(product.updatedAt.gt(since.getUpdatedAt())
+          .or(product.updatedAt.eq(since.getUpdatedAt()).and(product.id.gt(since.getId()))));
+    }
 
-    long total = queryFactory
-        .selectFrom(product)
+    return queryFactory
+        .select(product.id, product.name, product.price, product.productStatus, product.brand,
+            product.condition, product.views, product.thumbnailUrl, product.createdAt,
+            product.updatedAt)
+        .from(product)
         .where(builder)
-        .fetchCount();
+        .orderBy(product.updatedAt.asc(), product.id.asc())
+        .limit(limit)
+        .fetch()
+        .stream()
+        .map(tuple -> toChange(tuple, since))
+        .collect(Collectors.toList());
+  }
 
-    return new PageImpl<>(products, pageable, total);
+  /**
+   * 커서 이후 조건: (정렬값, ID) 튜플 비교
+   * - 내림차순: sortKey < :key OR (sortKey = :key AND id < :id)
+   * - 오름차순: sortKey > :key OR (sortKey = :key AND id > :id)
+   */
+  private BooleanExpression afterCursor(ProductCursor cursor) {
+    Long id = cursor.getId();
+
+    return switch (cursor.getSortType()) {
+      case LATEST, RELEVANCE -> product.createdAt.lt(cursor.getCreatedAt())
+          .or(product.createdAt.eq(cursor.getCreatedAt()).and(product.id.lt(id)));
+      case OLDEST -> product.createdAt.gt(cursor.getCreatedAt())
+          .or(product.createdAt.eq(cursor.getCreatedAt()).and(product.id.gt(id)));
+      case VIEWS -> product.views.lt(cursor.getViews())
+          .or(product.views.eq(cursor.getViews()).and(product.id.lt(id)));
+      case PRICE_ASC -> product.price.gt(cursor.getPrice())
+          .or(product.price.eq(cursor.getPrice()).and(product.id.gt(id)));
+      case PRICE_DESC -> product.price.lt(cursor.getPrice())
+          .or(product.price.eq(cursor.getPrice()).and(product.id.lt(id)));
+    };
+  }
+
+  /**
+   * 상품 목록 응답 조회 (목록 화면에 필요한 컬럼만 프로젝션)
+   */
+  private JPAQuery<Tuple> selectListColumns() {
+    return queryFactory
+        .select(product.id, product.name, product.price, product.productStatus, product.brand,
+            product.condition, product.views, product.thumbnailUrl, product.createdAt)
+        .from(product);
+  }
+
+  private ProductListResponse toListResponse(Tuple tuple) {
+    return ProductListResponse.builder()
+        .id(tuple.get(product.id))
+        .name(tuple.get(product.name))
+        .price(tuple.get(product.price))
+        .productStatus(tuple.get(product.productStatus))
+        .brand(tuple.get(product.brand))
+        .condition(tuple.get(product.condition))
+        .views(tuple.get(product.views))
+        .thumbnailImage(tuple.get(product.thumbnailUrl))
+        .createdAt(tuple.get(product.createdAt))
+        .build();
+  }
+
+  private ProductExportRow toExportRow(Object[] row) {
+    return ProductExportRow.builder()
+        .id((Long) row[0])
+        .name((String) row[1])
+        .sku((String) row[2])
+        .price((BigDecimal) row[3])
+        .stockQuantity((Integer) row[4])
+        .productStatus((ProductStatus) row[5])
+        .brand((String) row[6])
+        .yearOfRelease((String) row[7])
+        .size((String) row[8])
+        .texture((String) row[9])
+        .condition((Condition) row[10])
+        .views((Integer) row[11])
+        .thumbnailUrl((String) row[12])
+        .createdAt((LocalDateTime) row[13])
+        .updatedAt((LocalDateTime) row[14])
+        .build();
   }
 
   /**
-   * 정렬 조건에 따른 OrderSpecifier 반환
+   * 변경 피드 항목 변환 (INACTIVE 는 상품 정보 없이 삭제 톰스톤)
+   * - (등록 시각, ID) 가 토큰 위치 이후면 클라이언트가 처음 받는 상품이므로 CREATED
+   *   (등록 직후 썸네일 반영 등으로 updated_at 이 바뀌어도 등록으로 전달)
    */
-  private OrderSpecifier<?> getOrderSpecifier(String sortBy) {
-    if (!StringUtils.hasText(sortBy)) {
-      return product.createdAt.desc(); // 기본값: 최신순
+  private ProductChange toChange(Tuple tuple, ProductChangeToken since) {
+    LocalDateTime updatedAt = tuple.get(product.updatedAt);
+    if (tuple.get(product.productStatus) == ProductStatus.INACTIVE) {
+      return ProductChange.builder()
+          .productId(tuple.get(product.id))
+          .type(ProductChangeType.DELETED)
+          .changedAt(updatedAt)
+          .build();
     }
 
-    return switch (sortBy.toLowerCase()) {
-      case "latest" -> product.createdAt.desc();
-      case "oldest" -> product.createdAt.asc();
-      case "views" -> product.views.desc();
-      case "price_asc" -> product.price.asc();
-      case "price_desc" -> product.price.desc();
-      default -> product.createdAt.desc();
-    };
+    return ProductChange.builder()
+        .productId(tuple.get(product.id))
+        .type(isCreatedAfter(tuple, since) ? ProductChangeType.CREATED : ProductChangeType.UPDATED)
+        .changedAt(updatedAt)
+        .product(toListResponse(tuple))
+        .build();
+  }
+
+  private boolean isCreatedAfter(Tuple tuple, ProductChangeToken since) {
+    if (since == null) {
+      return true;
+    }
+    LocalDateTime createdAt = tuple.get(product.createdAt);
+    return createdAt != null && (createdAt.isAfter(since.getUpdatedAt())
+        || createdAt.isEqual(since.getUpdatedAt()) && tuple.get(product.id) > since.getId());
   }
 }
@@ -0,0 +1,137 @@
+package com.oboe.backend.product.repository;
+
+import static com.oboe.backend.product.entity.QProduct.product;
+
+import com.oboe.backend.product.category.ProductCategoryTree;
+import com.oboe.backend.product.dto.request.ProductSearchRequest;
+import com.oboe.backend.product.dto.request.ProductSortType;
+import com.oboe.backend.product.entity.Condition;
+import com.oboe.backend.product.entity.ProductStatus;
+import com.oboe.backend.product.search.ProductFuzzyIndex;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 상품 검색 쿼리 컴파일러
+ * - ProductSearchRequest 를 정규화된 ProductSearchSpec 으로 변환
+ * - 정규화된 조건으로 조건식을 직접 구성 (동등/범위 비교 먼저, 부분 문자열 검색은 마지막)
+ * - 컬럼을 감싸지 않는 타입 비교만 사용 (컨디션은 enum 직접 비교) 하여 DB 인덱스 사용 가능
+ * - 같은 조건 조합은 항상 같은 JPQL 이 생성되어 Hibernate 쿼리 플랜 캐시를 재사용
+ *   (IN 목록은 값 개수와 관계없이 컬렉션 파라미터 하나)
+ * - IN 목록이 펼쳐지는 SQL 은 값 개수마다 달라지므로 hibernate.query.in_clause_parameter_padding 으로
+ *   파라미터 수를 2의 거듭제곱 단위로 맞춰 생성되는 SQL 종류를 제한 (브랜드 표기, 하위 카테고리 ID)
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductSearchCompiler {
+
+  private final ProductCategoryTree productCategoryTree;
+  private final ProductFuzzyIndex productFuzzyIndex;
+
+  /**
+   * 검색 요청 정규화
+   */
+  public ProductSearchSpec normalize(ProductSearchRequest request) {
+    boolean matchesNothing = false;
+
+    // 목록 조회는 항상 INACTIVE 를 제외하므로 INACTIVE 상태 필터는 결과 없음
+    ProductStatus status = request.getStatus();
+    if (status == ProductStatus.INACTIVE) {
+      matchesNothing = true;
+    }
+
+    Condition condition = null;
+    if (StringUtils.hasText(request.getCondition())) {
+      condition = parseCondition(request.getCondition());
+      matchesNothing |= condition == null;
+    }
+
+    return ProductSearchSpec.builder()
+        .keyword(StringUtils.hasText(request.getKeyword()) ? request.getKeyword().trim() : null)
+        .status(status)
+        .categoryIds(request.getCategoryId() != null
+            ? new TreeSet<>(productCategoryTree.getSubtreeIds(request.getCategoryId()))
+            : null)
+        .brands(StringUtils.hasText(request.getBrand())
+            ? new TreeSet<>(productFuzzyIndex.brandVariants(request.getBrand()))
+            : null)
+        .condition(condition)
+        .minPrice(request.getMinPrice())
+        .maxPrice(request.getMaxPrice())
+        .sortType(ProductSortType.from(request.getSortBy()))
+        .matchesNothing(matchesNothing)
+        .build();
+  }
+
+  /**
+   * 검색 조건식 (동등/범위 비교 먼저, 부분 문자열 검색은 마지막)
+   */
+  public BooleanBuilder where(ProductSearchSpec spec) {
+    BooleanBuilder builder = new BooleanBuilder();
+
+    // 상품 상태: 지정되면 동등 비교, 없으면 INACTIVE 제외
+    if (spec.getStatus() != null) {
+      builder.and(product.productStatus.eq(spec.getStatus()));
+    } else {
+      builder.and(product.productStatus.ne(ProductStatus.INACTIVE));
+    }
+    if (spec.getCondition() != null) {
+      builder.and(product.condition.eq(spec.getCondition()));
+    }
+    if (spec.getBrands() != null) {
+      builder.and(product.brand.in(spec.getBrands()));
+    }
+    if (spec.getMinPrice() != null) {
+      builder.and(product.price.goe(spec.getMinPrice()));
+    }
+    if (spec.getMaxPrice() != null) {
+      builder.and(product.price.loe(spec.getMaxPrice()));
+    }
+    if (spec.getCategoryIds() != null) {
+      builder.and(product.categories.any().id.in(spec.getCategoryIds()));
+    }
+    if (spec.getKeyword() != null) {
+      builder.and(product.name.containsIgnoreCase(spec.getKeyword())
+          .or(product.description.containsIgnoreCase(spec.getKeyword()))
+          .or(product.brand.containsIgnoreCase(spec.getKeyword())));
+    }
+    return builder;
+  }
+
+  /**
+   * 정렬 조건
+   */
+  public OrderSpecifier<?>[] orderBy(ProductSearchSpec spec) {
+    return orderSpecifiers(spec.getSortType());
+  }
+
+  /**
+   * 정렬 조건에 따른 OrderSpecifier 반환
+   * - 정렬값이 같은 경우 ID 로 순서를 고정 (페이지 간 중복/누락 방지)
+   * - 관련도순은 인메모리 검색 인덱스에서만 계산하므로 DB 조회 시 최신순
+   */
+  static OrderSpecifier<?>[] orderSpecifiers(ProductSortType sortType) {
+    return switch (sortType) {
+      case LATEST, RELEVANCE -> new OrderSpecifier<?>[]{product.createdAt.desc(), product.id.desc()};
+      case OLDEST -> new OrderSpecifier<?>[]{product.createdAt.asc(), product.id.asc()};
+      case VIEWS -> new OrderSpecifier<?>[]{product.views.desc(), product.id.desc()};
+      case PRICE_ASC -> new OrderSpecifier<?>[]{product.price.asc(), product.id.asc()};
+      case PRICE_DESC -> new OrderSpecifier<?>[]{product.price.desc(), product.id.desc()};
+    };
+  }
+
+  // ===== Private Helper Methods =====
+
+  private Condition parseCondition(String value) {
+    for (Condition condition : Condition.values()) {
+      if (condition.name().equals(value)) {
+        return condition;
+      }
+    }
+    return null;
+  }
+}
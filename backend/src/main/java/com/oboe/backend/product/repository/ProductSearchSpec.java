@@ -0,0 +1,48 @@
+package com.oboe.backend.product.repository;
+
+import com.oboe.backend.product.dto.request.ProductSortType;
+import com.oboe.backend.product.entity.Condition;
+import com.oboe.backend.product.entity.ProductStatus;
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 정규화된 상품 검색 조건
+ * - 검색어는 앞뒤 공백 제거, 빈 값은 null
+ * - 컨디션은 Condition enum, 카테고리는 하위 카테고리까지 펼친 ID, 브랜드는 같은 브랜드의 표기 전체
+ * - 집합 값은 정렬된 상태로 보관하여 같은 조건이면 같은 키를 가짐
+ * - 존재하지 않는 컨디션, INACTIVE 상태 필터 등 결과가 없는 조건은 matchesNothing
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ProductSearchSpec {
+
+  private final String keyword;
+  private final ProductStatus status;
+  private final Set<Long> categoryIds;
+  private final Set<String> brands;
+  private final Condition condition;
+  private final BigDecimal minPrice;
+  private final BigDecimal maxPrice;
+  private final ProductSortType sortType;
+  private final boolean matchesNothing;
+
+  /**
+   * 조건 값 키 - 결과 집합이 같으면 같은 키 (정렬 제외, count 캐시용)
+   */
+  public String filterKey() {
+    return "k=" + (keyword != null ? keyword.toLowerCase(Locale.ROOT) : "")
+        + "|s=" + (status != null ? status.name() : "")
+        + "|c=" + (categoryIds != null ? categoryIds : "")
+        + "|b=" + (brands != null ? brands : "")
+        + "|cd=" + (condition != null ? condition.name() : "")
+        + "|p=" + (minPrice != null ? minPrice.stripTrailingZeros().toPlainString() : "")
+        + "~" + (maxPrice != null ? maxPrice.stripTrailingZeros().toPlainString() : "");
+  }
+}
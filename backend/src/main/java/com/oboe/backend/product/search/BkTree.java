@@ -0,0 +1,125 @@
+package com.oboe.backend.product.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 편집 거리(Levenshtein) 기반 BK-Tree
+ * - 삼각 부등식으로 탐색 범위를 [d - max, d + max] 간선으로 제한하여 전체 비교 없이 근사 문자열 검색
+ * - 삭제는 지원하지 않음 (호출 측에서 사용 여부를 따로 관리하고 재구성 시 정리)
+ * - 동기화는 호출 측에서 처리
+ */
+class BkTree {
+
+  private Node root;
+  private int size;
+
+  /**
+   * 단어 추가 (이미 있으면 무시)
+   */
+  void add(String word) {
+    if (root == null) {
+      root = new Node(word);
+      size++;
+      return;
+    }
+
+    Node node = root;
+    while (true) {
+      int distance = distance(node.word, word);
+      if (distance == 0) {
+        return;
+      }
+      Node child = node.children.get(distance);
+      if (child == null) {
+        node.children.put(distance, new Node(word));
+        size++;
+        return;
+      }
+      node = child;
+    }
+  }
+
+  /**
+   * 편집 거리가 maxDistance 이하인 단어와 거리
+   */
+  List<Match> search(String word, int maxDistance) {
+    List<Match> matches = new ArrayList<>();
+    if (root == null) {
+      return matches;
+    }
+
+    List<Node> stack = new ArrayList<>();
+    stack.add(root);
+    while (!stack.isEmpty()) {
+      Node node = stack.remove(stack.size() - 1);
+      int distance = distance(node.word, word);
+      if (distance <= maxDistance) {
+        matches.add(new Match(node.word, distance));
+      }
+      for (int edge = Math.max(1, distance - maxDistance); edge <= distance + maxDistance; edge++) {
+        Node child = node.children.get(edge);
+        if (child != null) {
+          stack.add(child);
+        }
+      }
+    }
+    return matches;
+  }
+
+  int size() {
+    return size;
+  }
+
+  void clear() {
+    root = null;
+    size = 0;
+  }
+
+  /**
+   * Levenshtein 편집 거리 (두 행만 사용)
+   */
+  static int distance(String a, String b) {
+    int[] previous = new int[b.length() + 1];
+    int[] current = new int[b.length() + 1];
+    for (int j = 0; j <= b.length(); j++) {
+      previous[j] = j;
+    }
+
+    for (int i = 1; i <= a.length(); i++) {
+      current[0] = i;
+      for (int j = 1; j <= b.length(); j++) {
+        int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+        current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1),
+            previous[j - 1] + cost);
+      }
+      int[] swap = previous;
+      previous = current;
+      current = swap;
+    }
+    return previous[b.length()];
+  }
+
+  static final class Match {
+
+    final String word;
+    final int distance;
+
+    private Match(String word, int distance) {
+      this.word = word;
+      this.distance = distance;
+    }
+  }
+
+  private static final class Node {
+
+    private final String word;
+    private final Map<Integer, Node> children = new HashMap<>();
+
+    private Node(String word) {
+      this.word = word;
+    }
+  }
+}
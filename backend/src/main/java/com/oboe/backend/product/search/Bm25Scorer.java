@@ -0,0 +1,85 @@
+package com.oboe.backend.product.search;
+
+import java.util.Map;
+
+/**
+ * 검색어 관련도 점수 계산 (BM25F + 조회수 가중)
+ * - 상품명/브랜드/설명 필드별 가중치와 길이 정규화를 적용한 단어 빈도를 BM25 포화 함수로 합산
+ * - 단어는 검색 인덱스와 같은 바이그램 단위, 문서 빈도는 역색인 포스팅 크기
+ * - 최종 점수 = BM25F x (1 + 0.1 x ln(1 + 조회수))
+ * - 문서 하나의 점수 계산은 필드 길이에 비례 (검색어 단어 수 x 필드 문자열 탐색)
+ */
+class Bm25Scorer {
+
+  private static final double K1 = 1.2;
+  private static final double B = 0.75;
+  private static final double NAME_WEIGHT = 3.0;
+  private static final double BRAND_WEIGHT = 2.0;
+  private static final double DESCRIPTION_WEIGHT = 1.0;
+  private static final double POPULARITY_WEIGHT = 0.1;
+
+  private final Map<String, Integer> documentFrequencies; // 단어 -> 포함 문서 수
+  private final int documentCount;
+  private final double averageNameLength;
+  private final double averageBrandLength;
+  private final double averageDescriptionLength;
+
+  Bm25Scorer(Map<String, Integer> documentFrequencies, int documentCount,
+      double averageNameLength, double averageBrandLength, double averageDescriptionLength) {
+    this.documentFrequencies = documentFrequencies;
+    this.documentCount = documentCount;
+    this.averageNameLength = averageNameLength;
+    this.averageBrandLength = averageBrandLength;
+    this.averageDescriptionLength = averageDescriptionLength;
+  }
+
+  double score(ProductDocument document) {
+    String name = NgramTokenizer.normalize(document.getName());
+    String brand = NgramTokenizer.normalize(document.getBrand());
+    String description = NgramTokenizer.normalize(document.getDescription());
+
+    // 점수를 매길 단어가 없으면 (초성 검색어 등) 조회수 가중만 반영
+    double score = documentFrequencies.isEmpty() ? 1 : 0;
+    for (Map.Entry<String, Integer> entry : documentFrequencies.entrySet()) {
+      String term = entry.getKey();
+      double frequency = NAME_WEIGHT * normalizedFrequency(name, term, averageNameLength)
+          + BRAND_WEIGHT * normalizedFrequency(brand, term, averageBrandLength)
+          + DESCRIPTION_WEIGHT * normalizedFrequency(description, term, averageDescriptionLength);
+      if (frequency > 0) {
+        score += idf(entry.getValue()) * frequency * (K1 + 1) / (frequency + K1);
+      }
+    }
+    return score * (1 + POPULARITY_WEIGHT * Math.log1p(document.getViews()));
+  }
+
+  // ===== Private Helper Methods =====
+
+  private double idf(int documentFrequency) {
+    return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+  }
+
+  /**
+   * 필드 길이로 정규화한 단어 빈도
+   */
+  private double normalizedFrequency(String text, String term, double averageLength) {
+    int count = count(text, term);
+    if (count == 0) {
+      return 0;
+    }
+    double lengthRatio = averageLength > 0 ? text.length() / averageLength : 1;
+    return count / (1 - B + B * lengthRatio);
+  }
+
+  /**
+   * 겹치는 위치를 포함한 출현 횟수
+   */
+  private int count(String text, String term) {
+    int count = 0;
+    int index = text.indexOf(term);
+    while (index >= 0) {
+      count++;
+      index = text.indexOf(term, index + 1);
+    }
+    return count;
+  }
+}
@@ -0,0 +1,25 @@
+package com.oboe.backend.product.search;
+
+import com.oboe.backend.product.entity.Condition;
+import com.oboe.backend.product.entity.ProductStatus;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 패싯 검색 결과
+ * - 각 패싯의 개수는 해당 패싯을 제외한 나머지 필터를 적용한 결과 기준 (다중 선택 UI 용)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class FacetResult {
+
+  private final int totalCount; // 모든 필터를 적용한 결과 수
+  private final Map<String, Integer> brandCounts;
+  private final Map<Condition, Integer> conditionCounts;
+  private final Map<ProductStatus, Integer> statusCounts;
+  private final Map<Long, Integer> categoryCounts; // 하위 카테고리 포함 개수
+}
@@ -0,0 +1,79 @@
+package com.oboe.backend.product.search;
+
+import java.util.Locale;
+
+/**
+ * 한글 초성 분해 유틸리티
+ * - 완성형 한글 음절(가~힣)을 초성 호환 자모(ㄱ~ㅎ)로 변환, 그 외 문자는 그대로 유지
+ * - ex) "리바이스 501" -> "ㄹㅂㅇㅅ 501"
+ */
+public final class HangulChosung {
+
+  private static final char HANGUL_BEGIN = '가';
+  private static final char HANGUL_END = '힣';
+  private static final int SYLLABLES_PER_CHOSUNG = 21 * 28; // 중성 21 x 종성 28
+  private static final char[] CHOSUNG = {
+      'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+      'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+  };
+
+  private HangulChosung() {
+  }
+
+  /**
+   * 초성 문자열로 변환 (소문자)
+   */
+  public static String extract(String text) {
+    if (text == null) {
+      return "";
+    }
+
+    StringBuilder builder = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+        builder.append(CHOSUNG[(c - HANGUL_BEGIN) / SYLLABLES_PER_CHOSUNG]);
+      } else {
+        builder.append(c);
+      }
+    }
+    return builder.toString().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * 공백을 제거한 초성 문자열 (띄어쓰기와 무관하게 비교)
+   */
+  public static String compact(String text) {
+    String chosung = extract(text);
+    StringBuilder builder = new StringBuilder(chosung.length());
+    for (int i = 0; i < chosung.length(); i++) {
+      if (!Character.isWhitespace(chosung.charAt(i))) {
+        builder.append(chosung.charAt(i));
+      }
+    }
+    return builder.toString();
+  }
+
+  /**
+   * 공백을 제외한 모든 문자가 자음(ㄱ~ㅎ)인 검색어인지 확인
+   */
+  public static boolean isChosungQuery(String keyword) {
+    if (keyword == null || keyword.isBlank()) {
+      return false;
+    }
+    for (int i = 0; i < keyword.length(); i++) {
+      char c = keyword.charAt(i);
+      if (!Character.isWhitespace(c) && (c < 'ㄱ' || c > 'ㅎ')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 텍스트의 초성에 초성 검색어가 포함되는지 확인 (공백 무시)
+   */
+  public static boolean matches(String text, String chosungQuery) {
+    return text != null && compact(text).contains(compact(chosungQuery));
+  }
+}
@@ -0,0 +1,41 @@
+package com.oboe.backend.product.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 문자 단위 바이그램(bigram) 토크나이저
+ * - 띄어쓰기/형태소 분석 없이도 한글 상품명 부분 일치 검색이 가능
+ * - ex) "리바이스 501" -> [리바, 바이, 이스, 50, 01]
+ */
+public final class NgramTokenizer {
+
+  private NgramTokenizer() {
+  }
+
+  /**
+   * 검색용 정규화 (소문자, 앞뒤 공백 제거)
+   */
+  public static String normalize(String text) {
+    return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * 공백을 포함하지 않는 바이그램 집합
+   */
+  public static Set<String> bigrams(String text) {
+    String normalized = normalize(text);
+    Set<String> tokens = new LinkedHashSet<>();
+
+    for (int i = 0; i + 1 < normalized.length(); i++) {
+      char first = normalized.charAt(i);
+      char second = normalized.charAt(i + 1);
+      if (Character.isWhitespace(first) || Character.isWhitespace(second)) {
+        continue;
+      }
+      tokens.add(normalized.substring(i, i + 2));
+    }
+    return tokens;
+  }
+}
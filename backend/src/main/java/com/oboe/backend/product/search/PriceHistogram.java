@@ -0,0 +1,23 @@
+package com.oboe.backend.product.search;
+
+import java.math.BigDecimal;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 가격 히스토그램 결과
+ * - i 번째 구간: [minPrice + i * bucketWidth, minPrice + (i + 1) * bucketWidth)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class PriceHistogram {
+
+  private final BigDecimal minPrice;
+  private final BigDecimal maxPrice;
+  private final int totalCount;
+  private final BigDecimal bucketWidth;
+  private final int[] counts; // 구간별 상품 수
+}
@@ -0,0 +1,162 @@
+package com.oboe.backend.product.search;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품명/브랜드 초성 검색용 인메모리 역색인
+ * - 공백을 제거한 초성 문자열을 바이그램 단위로 색인 ("리바이스" -> ㄹㅂ, ㅂㅇ, ㅇㅅ)
+ * - 바이그램 교집합으로 후보를 구한 뒤 초성 부분 문자열 검증
+ * - INACTIVE 상품은 색인하지 않음
+ */
+@Component
+@Slf4j
+public class ProductChosungIndex implements ProductIndex {
+
+  private final Map<Long, String[]> chosungs = new HashMap<>(); // 상품 ID -> [상품명, 브랜드] 초성
+  private final Map<String, Set<Long>> postings = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private volatile boolean ready = false;
+
+  @Override
+  public void rebuild(Collection<ProductDocument> documents) {
+    lock.writeLock().lock();
+    try {
+      chosungs.clear();
+      postings.clear();
+      for (ProductDocument document : documents) {
+        if (document.isSearchable()) {
+          addDocument(document);
+        }
+      }
+      ready = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    log.info("상품 초성 인덱스 구성 완료: 상품 {}건, 토큰 {}개", chosungs.size(), postings.size());
+  }
+
+  @Override
+  public void index(ProductDocument document) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(document.getId());
+      addDocument(document);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void remove(Long productId) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(productId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 인덱스 구성 완료 여부
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * 상품명 또는 브랜드의 초성에 검색어가 포함되는 상품 ID
+   */
+  public Set<Long> search(String chosungQuery) {
+    String query = HangulChosung.compact(chosungQuery);
+    if (query.isEmpty()) {
+      return Set.of();
+    }
+
+    lock.readLock().lock();
+    try {
+      Set<Long> result = new HashSet<>();
+      for (Long productId : candidates(query)) {
+        String[] values = chosungs.get(productId);
+        if (values[0].contains(query) || values[1].contains(query)) {
+          result.add(productId);
+        }
+      }
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // ===== Private Helper Methods =====
+
+  private void addDocument(ProductDocument document) {
+    String[] values = {HangulChosung.compact(document.getName()),
+        HangulChosung.compact(document.getBrand())};
+    chosungs.put(document.getId(), values);
+    for (String token : tokenize(values)) {
+      postings.computeIfAbsent(token, key -> new HashSet<>()).add(document.getId());
+    }
+  }
+
+  private void removeDocument(Long productId) {
+    String[] previous = chosungs.remove(productId);
+    if (previous == null) {
+      return;
+    }
+
+    for (String token : tokenize(previous)) {
+      Set<Long> ids = postings.get(token);
+      if (ids != null) {
+        ids.remove(productId);
+        if (ids.isEmpty()) {
+          postings.remove(token);
+        }
+      }
+    }
+  }
+
+  private Set<String> tokenize(String[] values) {
+    Set<String> tokens = new HashSet<>();
+    for (String value : values) {
+      tokens.addAll(NgramTokenizer.bigrams(value));
+    }
+    return tokens;
+  }
+
+  /**
+   * 검색어 바이그램 포스팅의 교집합 (한 글자 검색어는 전체 상품)
+   */
+  private Collection<Long> candidates(String query) {
+    Set<String> tokens = NgramTokenizer.bigrams(query);
+    if (tokens.isEmpty()) {
+      return chosungs.keySet();
+    }
+
+    Set<Long> result = null;
+    for (String token : tokens) {
+      Set<Long> ids = postings.get(token);
+      if (ids == null) {
+        return List.of();
+      }
+      if (result == null) {
+        result = new HashSet<>(ids);
+      } else {
+        result.retainAll(ids);
+      }
+      if (result.isEmpty()) {
+        return List.of();
+      }
+    }
+    return result;
+  }
+}
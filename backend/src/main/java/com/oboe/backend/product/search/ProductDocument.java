@@ -0,0 +1,67 @@
+package com.oboe.backend.product.search;
+
+import com.oboe.backend.product.entity.Condition;
+import com.oboe.backend.product.entity.Product;
+import com.oboe.backend.product.entity.ProductCategory;
+import com.oboe.backend.product.entity.ProductStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 인메모리 인덱스에 저장되는 상품 스냅샷 (불변)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(toBuilder = true)
+public class ProductDocument {
+
+  private final Long id;
+  private final String name;
+  private final String description;
+  private final String brand;
+  private final ProductStatus productStatus;
+  private final Condition condition;
+  private final Set<Long> categoryIds;
+  private final BigDecimal price;
+  private final int views;
+  private final String thumbnailUrl;
+  private final LocalDateTime createdAt;
+
+  public static ProductDocument from(Product product) {
+    return ProductDocument.builder()
+        .id(product.getId())
+        .name(product.getName())
+        .description(product.getDescription())
+        .brand(product.getBrand())
+        .productStatus(product.getProductStatus())
+        .condition(product.getCondition())
+        .categoryIds(product.getCategories().stream()
+            .map(ProductCategory::getId)
+            .collect(Collectors.toUnmodifiableSet()))
+        .price(product.getPrice())
+        .views(product.getViews() != null ? product.getViews() : 0)
+        .thumbnailUrl(product.getThumbnailUrl())
+        .createdAt(product.getCreatedAt())
+        .build();
+  }
+
+  /**
+   * 검색 대상 상태인지 확인 (INACTIVE 제외)
+   */
+  public boolean isSearchable() {
+    return productStatus != ProductStatus.INACTIVE;
+  }
+
+  /**
+   * 인기/추천 목록 노출 대상인지 확인 (INACTIVE, SOLD_OUT 제외)
+   */
+  public boolean isListable() {
+    return productStatus != ProductStatus.INACTIVE && productStatus != ProductStatus.SOLD_OUT;
+  }
+}
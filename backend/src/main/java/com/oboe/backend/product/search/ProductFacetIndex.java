@@ -0,0 +1,299 @@
+package com.oboe.backend.product.search;
+
+import com.oboe.backend.product.category.ProductCategoryTree;
+import com.oboe.backend.product.dto.request.ProductSearchRequest;
+import com.oboe.backend.product.entity.Condition;
+import com.oboe.backend.product.entity.ProductStatus;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 비트맵 기반 상품 패싯 인덱스
+ * - 상품마다 연속된 번호(ordinal)를 부여하고 패싯 값별로 해당 번호의 BitSet 을 유지
+ * - 필터는 BitSet AND, 패싯 개수는 cardinality 로 계산 (GROUP BY 쿼리 대체)
+ * - 삭제된 번호는 재사용하여 비트맵이 커지지 않도록 유지
+ * - 브랜드는 ProductFuzzyIndex.brandSpelling 으로 정규화한 표기로 색인 (브랜드 필터 표기와 일치)
+ * - INACTIVE 상품은 색인하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductFacetIndex implements ProductIndex {
+
+  private final ProductCategoryTree productCategoryTree;
+  private final ProductFuzzyIndex productFuzzyIndex;
+
+  private final Map<Long, Integer> ordinals = new HashMap<>();
+  private final Map<Integer, ProductDocument> documents = new HashMap<>();
+  private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+  private final BitSet live = new BitSet();
+
+  private final Map<String, BitSet> brandBitmaps = new HashMap<>();
+  private final Map<Condition, BitSet> conditionBitmaps = new EnumMap<>(Condition.class);
+  private final Map<ProductStatus, BitSet> statusBitmaps = new EnumMap<>(ProductStatus.class);
+  private final Map<Long, BitSet> categoryBitmaps = new HashMap<>();
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private int nextOrdinal = 0;
+
+  @Override
+  public void rebuild(Collection<ProductDocument> documents) {
+    lock.writeLock().lock();
+    try {
+      ordinals.clear();
+      this.documents.clear();
+      freeOrdinals.clear();
+      live.clear();
+      brandBitmaps.clear();
+      conditionBitmaps.clear();
+      statusBitmaps.clear();
+      categoryBitmaps.clear();
+      nextOrdinal = 0;
+
+      for (ProductDocument document : documents) {
+        if (document.isSearchable()) {
+          addDocument(document);
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+    log.info("상품 패싯 인덱스 구성 완료: 상품 {}건, 브랜드 {}개", ordinals.size(), brandBitmaps.size());
+  }
+
+  @Override
+  public void index(ProductDocument document) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(document.getId());
+      addDocument(document);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void remove(Long productId) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(productId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 필터 조건의 결과 수와 패싯별 개수 계산
+   *
+   * @param keywordMatches 키워드 검색 결과 상품 ID (키워드가 없으면 null)
+   */
+  public FacetResult facets(ProductSearchRequest request, Collection<Long> keywordMatches) {
+    lock.readLock().lock();
+    try {
+      BitSet base = (BitSet) live.clone();
+      if (keywordMatches != null) {
+        base.and(toBitmap(keywordMatches));
+      }
+
+      BitSet brandFilter = brandFilter(request);
+      BitSet conditionFilter = conditionFilter(request);
+      BitSet statusFilter = statusFilter(request);
+      BitSet categoryFilter = categoryFilter(request);
+
+      BitSet all = and(base, brandFilter, conditionFilter, statusFilter, categoryFilter);
+
+      // 각 패싯은 자신을 제외한 필터 결과 기준으로 개수 계산
+      BitSet withoutBrand = and(base, conditionFilter, statusFilter, categoryFilter);
+      BitSet withoutCondition = and(base, brandFilter, statusFilter, categoryFilter);
+      BitSet withoutStatus = and(base, brandFilter, conditionFilter, categoryFilter);
+      BitSet withoutCategory = and(base, brandFilter, conditionFilter, statusFilter);
+
+      // 직접 연결된 상품이 없는 상위 카테고리도 포함하도록 조상 경로까지 확장
+      Set<Long> categoryIds = new HashSet<>();
+      for (Long categoryId : categoryBitmaps.keySet()) {
+        categoryIds.addAll(productCategoryTree.getPathIds(categoryId));
+      }
+
+      Map<Long, Integer> categoryCounts = new LinkedHashMap<>();
+      for (Long categoryId : categoryIds) {
+        int count = intersectionCount(subtreeBitmap(categoryId), withoutCategory);
+        if (count > 0) {
+          categoryCounts.put(categoryId, count);
+        }
+      }
+
+      return FacetResult.builder()
+          .totalCount(all.cardinality())
+          .brandCounts(counts(brandBitmaps, withoutBrand, new HashMap<>()))
+          .conditionCounts(counts(conditionBitmaps, withoutCondition, new EnumMap<>(Condition.class)))
+          .statusCounts(counts(statusBitmaps, withoutStatus, new EnumMap<>(ProductStatus.class)))
+          .categoryCounts(categoryCounts)
+          .build();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // ===== Private Helper Methods =====
+
+  private void addDocument(ProductDocument document) {
+    int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+    ordinals.put(document.getId(), ordinal);
+    documents.put(ordinal, document);
+    live.set(ordinal);
+
+    String brand = ProductFuzzyIndex.brandSpelling(document.getBrand());
+    if (brand != null) {
+      brandBitmaps.computeIfAbsent(brand, key -> new BitSet()).set(ordinal);
+    }
+    if (document.getCondition() != null) {
+      conditionBitmaps.computeIfAbsent(document.getCondition(), key -> new BitSet()).set(ordinal);
+    }
+    if (document.getProductStatus() != null) {
+      statusBitmaps.computeIfAbsent(document.getProductStatus(), key -> new BitSet()).set(ordinal);
+    }
+    for (Long categoryId : document.getCategoryIds()) {
+      categoryBitmaps.computeIfAbsent(categoryId, key -> new BitSet()).set(ordinal);
+    }
+  }
+
+  private void removeDocument(Long productId) {
+    Integer ordinal = ordinals.remove(productId);
+    if (ordinal == null) {
+      return;
+    }
+
+    ProductDocument previous = documents.remove(ordinal);
+    live.clear(ordinal);
+    clearBit(brandBitmaps, ProductFuzzyIndex.brandSpelling(previous.getBrand()), ordinal);
+    clearBit(conditionBitmaps, previous.getCondition(), ordinal);
+    clearBit(statusBitmaps, previous.getProductStatus(), ordinal);
+    for (Long categoryId : previous.getCategoryIds()) {
+      clearBit(categoryBitmaps, categoryId, ordinal);
+    }
+    freeOrdinals.push(ordinal);
+  }
+
+  private <K> void clearBit(Map<K, BitSet> bitmaps, K key, int ordinal) {
+    if (key == null) {
+      return;
+    }
+    BitSet bitmap = bitmaps.get(key);
+    if (bitmap != null) {
+      bitmap.clear(ordinal);
+      if (bitmap.isEmpty()) {
+        bitmaps.remove(key);
+      }
+    }
+  }
+
+  private BitSet toBitmap(Collection<Long> productIds) {
+    BitSet bitmap = new BitSet();
+    for (Long productId : productIds) {
+      Integer ordinal = ordinals.get(productId);
+      if (ordinal != null) {
+        bitmap.set(ordinal);
+      }
+    }
+    return bitmap;
+  }
+
+  /**
+   * 필터 비트맵 (필터가 없으면 null, 일치하는 값이 없으면 빈 비트맵)
+   */
+  private BitSet brandFilter(ProductSearchRequest request) {
+    if (!StringUtils.hasText(request.getBrand())) {
+      return null;
+    }
+    // 표기가 다른 같은 브랜드 포함
+    BitSet filter = new BitSet();
+    for (String brand : productFuzzyIndex.brandVariants(request.getBrand())) {
+      BitSet bitmap = brandBitmaps.get(brand);
+      if (bitmap != null) {
+        filter.or(bitmap);
+      }
+    }
+    return filter;
+  }
+
+  private BitSet conditionFilter(ProductSearchRequest request) {
+    if (!StringUtils.hasText(request.getCondition())) {
+      return null;
+    }
+    for (Condition condition : Condition.values()) {
+      if (condition.name().equals(request.getCondition())) {
+        return conditionBitmaps.getOrDefault(condition, new BitSet());
+      }
+    }
+    return new BitSet();
+  }
+
+  private BitSet statusFilter(ProductSearchRequest request) {
+    if (request.getStatus() == null) {
+      return null;
+    }
+    return statusBitmaps.getOrDefault(request.getStatus(), new BitSet());
+  }
+
+  private BitSet categoryFilter(ProductSearchRequest request) {
+    if (request.getCategoryId() == null) {
+      return null;
+    }
+    return subtreeBitmap(request.getCategoryId());
+  }
+
+  /**
+   * 카테고리와 모든 하위 카테고리 비트맵의 OR
+   */
+  private BitSet subtreeBitmap(Long categoryId) {
+    BitSet bitmap = new BitSet();
+    for (Long subtreeId : productCategoryTree.getSubtreeIds(categoryId)) {
+      BitSet categoryBitmap = categoryBitmaps.get(subtreeId);
+      if (categoryBitmap != null) {
+        bitmap.or(categoryBitmap);
+      }
+    }
+    return bitmap;
+  }
+
+  private BitSet and(BitSet base, BitSet... filters) {
+    BitSet result = (BitSet) base.clone();
+    for (BitSet filter : filters) {
+      if (filter != null) {
+        result.and(filter);
+      }
+    }
+    return result;
+  }
+
+  private int intersectionCount(BitSet bitmap, BitSet filter) {
+    BitSet intersection = (BitSet) bitmap.clone();
+    intersection.and(filter);
+    return intersection.cardinality();
+  }
+
+  private <K, M extends Map<K, Integer>> M counts(Map<K, BitSet> bitmaps, BitSet filter,
+      M result) {
+    bitmaps.forEach((value, bitmap) -> {
+      int count = intersectionCount(bitmap, filter);
+      if (count > 0) {
+        result.put(value, count);
+      }
+    });
+    return result;
+  }
+}
@@ -0,0 +1,299 @@
+package com.oboe.backend.product.search;
+
+import com.oboe.backend.config.ProductSearchConfig;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToIntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 브랜드/검색어 오타 보정 인덱스
+ * - 브랜드 표기 통일표: 소문자 + 문자/숫자만 남긴 키로 저장된 표기를 묶음
+ *   ex) "Levi's", "levis", "LEVIS" -> 키 "levis"
+ * - 키가 없으면 설정된 별칭, 그다음 BK-Tree 편집 거리(길이에 따라 최대 2)로 가장 가까운 브랜드 탐색
+ * - 상품명/브랜드 단어 사전으로 결과가 없는 검색어의 오타 보정
+ * - BK-Tree 는 삭제를 지원하지 않으므로 사용되지 않는 단어가 사용 중인 단어보다 많아지면 재구성
+ * - INACTIVE 상품은 색인하지 않음
+ */
+@Component
+@Slf4j
+public class ProductFuzzyIndex implements ProductIndex {
+
+  private static final int MIN_COMPACT_SIZE = 1000; // 이보다 작은 트리는 재구성하지 않음
+
+  private final Map<String, String> aliases = new HashMap<>(); // 별칭 키 -> 대표 브랜드 키
+
+  private final Map<Long, ProductDocument> documents = new HashMap<>();
+  // 브랜드 키 -> 표기별 상품 수
+  private final Map<String, Map<String, Integer>> brandSpellings = new HashMap<>();
+  private final Map<String, Integer> words = new HashMap<>(); // 단어 -> 상품 수
+  private final BkTree brandTree = new BkTree();
+  private final BkTree wordTree = new BkTree();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  public ProductFuzzyIndex(ProductSearchConfig productSearchConfig) {
+    productSearchConfig.getBrandAliases().forEach(
+        (alias, brand) -> aliases.put(brandKey(alias), brandKey(brand)));
+  }
+
+  @Override
+  public void rebuild(Collection<ProductDocument> documents) {
+    lock.writeLock().lock();
+    try {
+      this.documents.clear();
+      brandSpellings.clear();
+      words.clear();
+      brandTree.clear();
+      wordTree.clear();
+      for (ProductDocument document : documents) {
+        if (document.isSearchable()) {
+          addDocument(document);
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+    log.info("상품 오타 보정 인덱스 구성 완료: 브랜드 {}개, 단어 {}개", brandSpellings.size(), words.size());
+  }
+
+  @Override
+  public void index(ProductDocument document) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(document.getId());
+      addDocument(document);
+      compactTrees();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void remove(Long productId) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(productId);
+      compactTrees();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 입력한 브랜드와 같은 브랜드로 판단되는 저장된 표기 전체 (브랜드 필터용)
+   * - 표기는 brandSpelling 으로 정규화 (검색/패싯 인덱스도 같은 규칙으로 비교)
+   * - 찾지 못하면 입력값 그대로 (정확히 일치하는 상품만 조회)
+   */
+  public Set<String> brandVariants(String brand) {
+    String spelling = brandSpelling(brand);
+    lock.readLock().lock();
+    try {
+      String key = resolveBrandKey(brand);
+      if (key == null) {
+        return Set.of(spelling);
+      }
+      Set<String> variants = new HashSet<>(brandSpellings.get(key).keySet());
+      variants.add(spelling);
+      return variants;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 사전에 없는 단어를 가장 가까운 단어로 바꾼 검색어 (바꿀 단어가 없으면 null)
+   */
+  public String correctKeyword(String keyword) {
+    if (!StringUtils.hasText(keyword) || HangulChosung.isChosungQuery(keyword)) {
+      return null;
+    }
+
+    lock.readLock().lock();
+    try {
+      boolean corrected = false;
+      StringBuilder builder = new StringBuilder();
+      for (String word : NgramTokenizer.normalize(keyword).split("\\s+")) {
+        String replacement = words.containsKey(word)
+            ? word
+            : nearest(wordTree, word, candidate -> words.getOrDefault(candidate, 0));
+        if (replacement == null) {
+          replacement = word;
+        }
+        corrected |= !replacement.equals(word);
+        if (builder.length() > 0) {
+          builder.append(' ');
+        }
+        builder.append(replacement);
+      }
+      return corrected ? builder.toString() : null;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 단어 트리 크기 (사용되지 않는 단어 포함)
+   */
+  int getWordTreeSize() {
+    lock.readLock().lock();
+    try {
+      return wordTree.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 저장/비교용 브랜드 표기 (앞뒤 공백 제거, MySQL PAD SPACE 비교와 같은 결과, 비어 있으면 null)
+   */
+  public static String brandSpelling(String brand) {
+    return StringUtils.hasText(brand) ? brand.trim() : null;
+  }
+
+  /**
+   * 브랜드 비교용 키 (소문자, 문자/숫자만)
+   */
+  static String brandKey(String brand) {
+    if (brand == null) {
+      return "";
+    }
+    StringBuilder builder = new StringBuilder(brand.length());
+    brand.toLowerCase(Locale.ROOT).codePoints()
+        .filter(Character::isLetterOrDigit)
+        .forEach(builder::appendCodePoint);
+    return builder.toString();
+  }
+
+  // ===== Private Helper Methods =====
+
+  private String resolveBrandKey(String brand) {
+    String key = brandKey(brand);
+    if (key.isEmpty()) {
+      return null;
+    }
+    if (brandSpellings.containsKey(key)) {
+      return key;
+    }
+    String alias = aliases.get(key);
+    if (alias != null && brandSpellings.containsKey(alias)) {
+      return alias;
+    }
+    return nearest(brandTree, key, this::brandCount);
+  }
+
+  /**
+   * 허용 편집 거리 내에서 가장 가까운 사용 중인 단어 (거리가 같으면 상품 수가 많은 쪽)
+   */
+  private String nearest(BkTree tree, String word, ToIntFunction<String> counter) {
+    int maxDistance = maxDistance(word);
+    if (maxDistance == 0) {
+      return null;
+    }
+
+    return tree.search(word, maxDistance).stream()
+        .filter(match -> counter.applyAsInt(match.word) > 0)
+        .min(Comparator.<BkTree.Match>comparingInt(match -> match.distance)
+            .thenComparing(match -> -counter.applyAsInt(match.word))
+            .thenComparing(match -> match.word))
+        .map(match -> match.word)
+        .orElse(null);
+  }
+
+  /**
+   * 길이에 따른 허용 편집 거리 (짧은 단어는 오타 보정 시 오탐이 많아 제외)
+   */
+  private int maxDistance(String word) {
+    int length = word.codePointCount(0, word.length());
+    if (length <= 2) {
+      return 0;
+    }
+    return length <= 5 ? 1 : 2;
+  }
+
+  private int brandCount(String key) {
+    Map<String, Integer> spellings = brandSpellings.get(key);
+    if (spellings == null) {
+      return 0;
+    }
+    int total = 0;
+    for (int count : spellings.values()) {
+      total += count;
+    }
+    return total;
+  }
+
+  private void addDocument(ProductDocument document) {
+    documents.put(document.getId(), document);
+
+    String key = brandKey(document.getBrand());
+    if (!key.isEmpty()) {
+      brandSpellings.computeIfAbsent(key, k -> new HashMap<>())
+          .merge(brandSpelling(document.getBrand()), 1, Integer::sum);
+      brandTree.add(key);
+    }
+    for (String word : wordsOf(document)) {
+      words.merge(word, 1, Integer::sum);
+      wordTree.add(word);
+    }
+  }
+
+  private void removeDocument(Long productId) {
+    ProductDocument previous = documents.remove(productId);
+    if (previous == null) {
+      return;
+    }
+
+    String key = brandKey(previous.getBrand());
+    Map<String, Integer> spellings = brandSpellings.get(key);
+    if (spellings != null) {
+      spellings.computeIfPresent(brandSpelling(previous.getBrand()),
+          (spelling, count) -> count > 1 ? count - 1 : null);
+      if (spellings.isEmpty()) {
+        brandSpellings.remove(key);
+      }
+    }
+    for (String word : wordsOf(previous)) {
+      words.computeIfPresent(word, (w, count) -> count > 1 ? count - 1 : null);
+    }
+  }
+
+  /**
+   * 수정/삭제로 쓰이지 않게 된 단어가 사용 중인 단어 수를 넘으면 사용 중인 단어로 트리 재구성
+   */
+  private void compactTrees() {
+    if (brandTree.size() > MIN_COMPACT_SIZE && brandTree.size() > 2 * brandSpellings.size()) {
+      rebuildTree(brandTree, brandSpellings.keySet());
+    }
+    if (wordTree.size() > MIN_COMPACT_SIZE && wordTree.size() > 2 * words.size()) {
+      rebuildTree(wordTree, words.keySet());
+    }
+  }
+
+  private void rebuildTree(BkTree tree, Collection<String> liveWords) {
+    tree.clear();
+    liveWords.forEach(tree::add);
+    log.debug("오타 보정 트리 재구성: 단어 {}개", tree.size());
+  }
+
+  private Set<String> wordsOf(ProductDocument document) {
+    Set<String> result = new LinkedHashSet<>();
+    for (String text : new String[]{document.getName(), document.getBrand()}) {
+      for (String word : NgramTokenizer.normalize(text).split("\\s+")) {
+        if (!word.isEmpty()) {
+          result.add(word);
+        }
+      }
+    }
+    return result;
+  }
+}
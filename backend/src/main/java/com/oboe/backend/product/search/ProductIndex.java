@@ -0,0 +1,25 @@
+package com.oboe.backend.product.search;
+
+import java.util.Collection;
+
+/**
+ * 상품 변경에 따라 증분 갱신되는 인메모리 인덱스
+ * - 구현체는 ProductIndexCoordinator 가 일괄 관리
+ */
+public interface ProductIndex {
+
+  /**
+   * 전체 재구성 (애플리케이션 기동 시)
+   */
+  void rebuild(Collection<ProductDocument> documents);
+
+  /**
+   * 상품 추가 또는 갱신
+   */
+  void index(ProductDocument document);
+
+  /**
+   * 상품 제거
+   */
+  void remove(Long productId);
+}
@@ -0,0 +1,135 @@
+package com.oboe.backend.product.search;
+
+import com.oboe.backend.product.event.ProductChangedEvent;
+import com.oboe.backend.product.repository.ProductRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 인메모리 인덱스 관리
+ * - 기동 시 전체 재구성, 상품 변경 커밋 후 증분 갱신
+ * - 변경된 상품 ID 를 Redis Pub/Sub 으로 발행하여 다른 인스턴스도 DB 에서 다시 읽어 갱신
+ */
+@Component
+@Slf4j
+public class ProductIndexCoordinator implements MessageListener {
+
+  public static final String CHANGE_CHANNEL = "product:index:changed";
+
+  private final ProductRepository productRepository;
+  private final List<ProductIndex> productIndexes;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final boolean pubSubEnabled;
+
+  // 자신이 발행한 메시지를 구분하기 위한 인스턴스 ID
+  private final String nodeId = UUID.randomUUID().toString();
+
+  public ProductIndexCoordinator(ProductRepository productRepository,
+      List<ProductIndex> productIndexes, RedisTemplate<String, Object> redisTemplate,
+      @Value("${product.search.index-pubsub-enabled:true}") boolean pubSubEnabled) {
+    this.productRepository = productRepository;
+    this.productIndexes = productIndexes;
+    this.redisTemplate = redisTemplate;
+    this.pubSubEnabled = pubSubEnabled;
+  }
+
+  /**
+   * 기동 시 활성 상품 전체를 한 번 읽어 모든 인덱스를 재구성
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuildAll() {
+    long start = System.currentTimeMillis();
+
+    List<ProductDocument> documents = productRepository.findAllForIndexing().stream()
+        .map(ProductDocument::from)
+        .toList();
+
+    for (ProductIndex productIndex : productIndexes) {
+      productIndex.rebuild(documents);
+    }
+
+    log.info("상품 인덱스 재구성 완료: 상품 {}건, 인덱스 {}개, {}ms",
+        documents.size(), productIndexes.size(), System.currentTimeMillis() - start);
+  }
+
+  /**
+   * 상품 변경 커밋 후 인덱스 증분 갱신 후 다른 인스턴스에 변경 알림
+   * - 롤백된 변경은 반영되지 않음
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    ProductDocument document = event.getDocument();
+    apply(document.getId(), document);
+
+    if (pubSubEnabled) {
+      try {
+        redisTemplate.convertAndSend(CHANGE_CHANNEL, nodeId + ":" + document.getId());
+      } catch (Exception e) {
+        log.warn("상품 인덱스 변경 메시지 발행 실패: ID={}, 오류={}", document.getId(), e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 다른 인스턴스에서 발행한 변경 메시지 수신 - 커밋된 상태를 DB 에서 다시 읽어 반영
+   * - 메시지에 스냅샷을 싣지 않으므로 메시지 순서가 바뀌어도 최신 상태로 수렴
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.lastIndexOf(':');
+    if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+      return;
+    }
+
+    Long productId;
+    try {
+      productId = Long.valueOf(body.substring(separator + 1));
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 상품 인덱스 변경 메시지: {}", body);
+      return;
+    }
+
+    try {
+      ProductDocument document = productRepository.findForIndexingById(productId)
+          .map(ProductDocument::from)
+          .orElse(null);
+      apply(productId, document);
+    } catch (Exception e) {
+      log.warn("상품 인덱스 원격 변경 반영 실패: ID={}, 오류={}", productId, e.getMessage());
+    }
+  }
+
+  // ===== Private Helper Methods =====
+
+  /**
+   * 검색 대상이면 색인, 삭제되었거나 INACTIVE 면 제거
+   */
+  private void apply(Long productId, ProductDocument document) {
+    for (ProductIndex productIndex : productIndexes) {
+      try {
+        if (document != null && document.isSearchable()) {
+          productIndex.index(document);
+        } else {
+          productIndex.remove(productId);
+        }
+      } catch (Exception e) {
+        log.warn("상품 인덱스 갱신 실패: 인덱스={}, ID={}, 오류={}",
+            productIndex.getClass().getSimpleName(), productId, e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,267 @@
+package com.oboe.backend.product.search;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 가격 범위 검색용 인메모리 정렬 인덱스
+ * - 가격을 최소 단위(소수점 2자리) long 으로 변환해 (가격, ID) 순으로 정렬된 배열에 보관
+ * - 범위 검색은 이진 탐색으로 시작/끝 위치를 구해 연속 구간만 읽음 (가격 범위 풀스캔 대체)
+ * - INACTIVE 상품은 색인하지 않음
+ */
+@Component
+@Slf4j
+public class ProductPriceIndex implements ProductIndex {
+
+  private static final int PRICE_SCALE = 2; // DECIMAL(19,2) 기준
+  private static final int INITIAL_CAPACITY = 64;
+
+  private long[] prices = new long[INITIAL_CAPACITY];
+  private long[] productIds = new long[INITIAL_CAPACITY];
+  private int size = 0;
+  private final Map<Long, Long> priceById = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private volatile boolean ready = false;
+
+  @Override
+  public void rebuild(Collection<ProductDocument> documents) {
+    List<long[]> entries = new ArrayList<>(documents.size());
+    for (ProductDocument document : documents) {
+      if (document.isSearchable() && document.getPrice() != null) {
+        entries.add(new long[]{toMinorUnits(document.getPrice()), document.getId()});
+      }
+    }
+    entries.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+
+    lock.writeLock().lock();
+    try {
+      int capacity = Math.max(INITIAL_CAPACITY, entries.size());
+      prices = new long[capacity];
+      productIds = new long[capacity];
+      size = entries.size();
+      priceById.clear();
+      for (int i = 0; i < size; i++) {
+        prices[i] = entries.get(i)[0];
+        productIds[i] = entries.get(i)[1];
+        priceById.put(productIds[i], prices[i]);
+      }
+      ready = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    log.info("상품 가격 인덱스 구성 완료: 상품 {}건", entries.size());
+  }
+
+  @Override
+  public void index(ProductDocument document) {
+    lock.writeLock().lock();
+    try {
+      removeEntry(document.getId());
+      if (document.getPrice() != null) {
+        insertEntry(toMinorUnits(document.getPrice()), document.getId());
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void remove(Long productId) {
+    lock.writeLock().lock();
+    try {
+      removeEntry(productId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 인덱스 구성 완료 여부 (기동 직후에는 DB 검색으로 대체)
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * 가격 범위에 속하는 상품 ID (가격 오름차순)
+   *
+   * @param minPrice 최소 가격 (포함, null 이면 하한 없음)
+   * @param maxPrice 최대 가격 (포함, null 이면 상한 없음)
+   */
+  public List<Long> findIdsInRange(BigDecimal minPrice, BigDecimal maxPrice) {
+    lock.readLock().lock();
+    try {
+      int from = lowerBound(minPrice != null ? toMinorUnits(minPrice) : Long.MIN_VALUE);
+      int to = upperBound(maxPrice != null ? toMinorUnits(maxPrice) : Long.MAX_VALUE);
+
+      List<Long> result = new ArrayList<>(Math.max(0, to - from));
+      for (int i = from; i < to; i++) {
+        result.add(productIds[i]);
+      }
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 가격 구간별 상품 수 (가격 범위 슬라이더용)
+   * - 범위를 지정하지 않으면 색인된 최저가~최고가를 균등 분할
+   *
+   * @param candidates 집계 대상 상품 ID (null 이면 전체)
+   */
+  public PriceHistogram histogram(BigDecimal minPrice, BigDecimal maxPrice, int bucketCount,
+      Set<Long> candidates) {
+    lock.readLock().lock();
+    try {
+      int from = lowerBound(minPrice != null ? toMinorUnits(minPrice) : Long.MIN_VALUE);
+      int to = upperBound(maxPrice != null ? toMinorUnits(maxPrice) : Long.MAX_VALUE);
+      if (from >= to) {
+        return PriceHistogram.builder()
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .totalCount(0)
+            .bucketWidth(BigDecimal.ZERO)
+            .counts(new int[0])
+            .build();
+      }
+
+      long low = minPrice != null ? toMinorUnits(minPrice) : prices[from];
+      long high = maxPrice != null ? toMinorUnits(maxPrice) : prices[to - 1];
+      // 구간 너비는 올림 처리하여 최고가가 마지막 구간에 포함되도록 함
+      long width = Math.max(1, (high - low + bucketCount) / bucketCount);
+
+      int[] counts = new int[bucketCount];
+      int total = 0;
+      for (int i = from; i < to; i++) {
+        if (candidates != null && !candidates.contains(productIds[i])) {
+          continue;
+        }
+        int bucket = (int) Math.min(bucketCount - 1, (prices[i] - low) / width);
+        counts[bucket]++;
+        total++;
+      }
+
+      return PriceHistogram.builder()
+          .minPrice(toPrice(low))
+          .maxPrice(toPrice(high))
+          .totalCount(total)
+          .bucketWidth(toPrice(width))
+          .counts(counts)
+          .build();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 가격 범위에 속하는 상품 ID 집합 (다른 인덱스 결과와 교집합용)
+   */
+  public Set<Long> findIdSetInRange(BigDecimal minPrice, BigDecimal maxPrice) {
+    return new HashSet<>(findIdsInRange(minPrice, maxPrice));
+  }
+
+  /**
+   * 가격을 최소 단위 long 으로 변환 (소수점 2자리, 반올림)
+   */
+  public static long toMinorUnits(BigDecimal price) {
+    return price.setScale(PRICE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+  }
+
+  // ===== Private Helper Methods =====
+
+  private static BigDecimal toPrice(long minorUnits) {
+    return BigDecimal.valueOf(minorUnits, PRICE_SCALE);
+  }
+
+  private void insertEntry(long price, long productId) {
+    if (size == prices.length) {
+      prices = Arrays.copyOf(prices, size * 2);
+      productIds = Arrays.copyOf(productIds, size * 2);
+    }
+
+    int position = position(price, productId);
+    System.arraycopy(prices, position, prices, position + 1, size - position);
+    System.arraycopy(productIds, position, productIds, position + 1, size - position);
+    prices[position] = price;
+    productIds[position] = productId;
+    size++;
+    priceById.put(productId, price);
+  }
+
+  private void removeEntry(Long productId) {
+    Long price = priceById.remove(productId);
+    if (price == null) {
+      return;
+    }
+
+    int position = position(price, productId);
+    System.arraycopy(prices, position + 1, prices, position, size - position - 1);
+    System.arraycopy(productIds, position + 1, productIds, position, size - position - 1);
+    size--;
+  }
+
+  /**
+   * (가격, ID) 의 정렬 위치 (존재하면 해당 위치, 없으면 삽입 위치)
+   */
+  private int position(long price, long productId) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (prices[mid] < price || (prices[mid] == price && productIds[mid] < productId)) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * price 이상인 첫 위치
+   */
+  private int lowerBound(long price) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (prices[mid] < price) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * price 초과인 첫 위치
+   */
+  private int upperBound(long price) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (prices[mid] <= price) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
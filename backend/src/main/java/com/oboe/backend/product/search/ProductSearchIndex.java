@@ -0,0 +1,404 @@
+package com.oboe.backend.product.search;
+
+import com.oboe.backend.product.category.ProductCategoryTree;
+import com.oboe.backend.product.dto.request.ProductCursor;
+import com.oboe.backend.product.dto.request.ProductSearchRequest;
+import com.oboe.backend.product.dto.request.ProductSortType;
+import com.oboe.backend.product.event.ProductViewsFlushedEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 상품 키워드 검색용 인메모리 역색인
+ * - 상품명, 설명, 브랜드를 바이그램 단위로 색인 (LIKE '%keyword%' 풀스캔 대체)
+ * - 바이그램 교집합으로 후보를 구한 뒤 부분 문자열 검증으로 LIKE 와 동일한 결과 보장
+ * - 관련도순(relevance) 정렬은 필드 가중 BM25 + 조회수 가중 점수 사용
+ * - 초성으로만 이루어진 검색어는 초성 인덱스로 후보를 구하고 상품명/브랜드 초성으로 검증
+ * - INACTIVE 상품은 색인하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSearchIndex implements ProductIndex {
+
+  private final ProductCategoryTree productCategoryTree;
+  private final ProductPriceIndex productPriceIndex;
+  private final ProductChosungIndex productChosungIndex;
+  private final ProductFuzzyIndex productFuzzyIndex;
+
+  private final Map<Long, ProductDocument> documents = new HashMap<>();
+  private final Map<String, Set<Long>> postings = new HashMap<>();
+  private final long[] fieldLengthSums = new long[3]; // 상품명, 브랜드, 설명 길이 합 (평균 길이 계산용)
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private volatile boolean ready = false;
+
+  @Override
+  public void rebuild(Collection<ProductDocument> documents) {
+    lock.writeLock().lock();
+    try {
+      this.documents.clear();
+      this.postings.clear();
+      Arrays.fill(fieldLengthSums, 0);
+      for (ProductDocument document : documents) {
+        if (document.isSearchable()) {
+          addDocument(document);
+        }
+      }
+      ready = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    log.info("상품 검색 인덱스 구성 완료: 문서 {}건, 토큰 {}개", this.documents.size(), postings.size());
+  }
+
+  @Override
+  public void index(ProductDocument document) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(document.getId());
+      addDocument(document);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void remove(Long productId) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(productId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * DB 에 반영된 조회수 증가분을 문서에 적용 (관련도 점수, 조회수순 정렬/커서가 DB 와 일치하도록)
+   * - 조회수는 색인 토큰/필드 길이와 무관하므로 문서만 교체
+   */
+  @EventListener
+  public void onViewsFlushed(ProductViewsFlushedEvent event) {
+    lock.writeLock().lock();
+    try {
+      event.getViewDeltas().forEach((productId, delta) -> {
+        ProductDocument previous = documents.get(productId);
+        if (previous != null) {
+          int views = (int) Math.min(Integer.MAX_VALUE, previous.getViews() + delta);
+          documents.put(productId, previous.toBuilder().views(views).build());
+        }
+      });
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 인덱스 구성 완료 여부 (기동 직후에는 DB 검색으로 대체)
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * 검색 조건에 맞는 상품 ID 목록 (정렬 적용)
+   * - 페이지에 필요한 ID만 잘라서 DB 에서 조회하도록 전체 ID 목록을 반환
+   */
+  public List<Long> search(ProductSearchRequest request) {
+    lock.readLock().lock();
+    try {
+      return match(request).stream().map(ProductDocument::getId).toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 커서 이후의 상품 ID 목록 (최대 limit 개)
+   *
+   * @param cursor 마지막으로 조회한 위치 (첫 페이지면 null)
+   */
+  public List<Long> searchAfter(ProductSearchRequest request, ProductCursor cursor, int limit) {
+    lock.readLock().lock();
+    try {
+      List<ProductDocument> matched = match(request);
+      if (cursor == null) {
+        return matched.stream().limit(limit).map(ProductDocument::getId).toList();
+      }
+
+      Comparator<ProductDocument> comparator = getComparator(cursor.getSortType());
+      ProductDocument position = toPosition(cursor);
+      return matched.stream()
+          .filter(document -> comparator.compare(document, position) > 0)
+          .limit(limit)
+          .map(ProductDocument::getId)
+          .toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // ===== Private Helper Methods =====
+
+  private List<ProductDocument> match(ProductSearchRequest request) {
+    Set<String> brands = StringUtils.hasText(request.getBrand())
+        ? productFuzzyIndex.brandVariants(request.getBrand())
+        : null;
+
+    List<ProductDocument> matched = new ArrayList<>();
+    for (ProductDocument document : candidates(request)) {
+      if (matchesKeyword(document, request.getKeyword())
+          && matchesFilters(document, request, brands)) {
+        matched.add(document);
+      }
+    }
+
+    ProductSortType sortType = ProductSortType.from(request.getSortBy());
+    if (sortType == ProductSortType.RELEVANCE && StringUtils.hasText(request.getKeyword())) {
+      sortByRelevance(matched, request.getKeyword());
+    } else {
+      matched.sort(getComparator(sortType));
+    }
+    return matched;
+  }
+
+  /**
+   * 관련도 점수 내림차순 정렬 (같으면 ID 내림차순)
+   */
+  private void sortByRelevance(List<ProductDocument> matched, String keyword) {
+    Bm25Scorer scorer = createScorer(keyword, matched.size());
+    Map<Long, Double> scores = new HashMap<>(matched.size() * 2);
+    for (ProductDocument document : matched) {
+      scores.put(document.getId(), scorer.score(document));
+    }
+
+    Comparator<ProductDocument> byScore = Comparator.comparingDouble(
+        document -> scores.get(document.getId()));
+    matched.sort(byScore.thenComparing(ProductDocument::getId).reversed());
+  }
+
+  /**
+   * 검색어 단어(바이그램)별 문서 빈도와 필드 평균 길이로 점수 계산기 생성
+   * - 바이그램이 없는 한 글자 검색어는 검색어 자체를 단어로, 매칭 문서 수를 문서 빈도로 사용
+   * - 초성 검색어는 초성 문자열이 원문에 없으므로 조회수 가중만 반영
+   */
+  private Bm25Scorer createScorer(String keyword, int matchedCount) {
+    Map<String, Integer> documentFrequencies = new HashMap<>();
+    if (!HangulChosung.isChosungQuery(keyword)) {
+      Set<String> tokens = NgramTokenizer.bigrams(keyword);
+      if (tokens.isEmpty()) {
+        documentFrequencies.put(NgramTokenizer.normalize(keyword), matchedCount);
+      }
+      for (String token : tokens) {
+        Set<Long> ids = postings.get(token);
+        documentFrequencies.put(token, ids != null ? ids.size() : 0);
+      }
+    }
+
+    int count = Math.max(1, documents.size());
+    return new Bm25Scorer(documentFrequencies, documents.size(),
+        (double) fieldLengthSums[0] / count,
+        (double) fieldLengthSums[1] / count,
+        (double) fieldLengthSums[2] / count);
+  }
+
+  private void addDocument(ProductDocument document) {
+    documents.put(document.getId(), document);
+    addFieldLengths(document, 1);
+    for (String token : tokenize(document)) {
+      postings.computeIfAbsent(token, key -> new HashSet<>()).add(document.getId());
+    }
+  }
+
+  private void removeDocument(Long productId) {
+    ProductDocument previous = documents.remove(productId);
+    if (previous == null) {
+      return;
+    }
+    addFieldLengths(previous, -1);
+
+    for (String token : tokenize(previous)) {
+      Set<Long> ids = postings.get(token);
+      if (ids != null) {
+        ids.remove(productId);
+        if (ids.isEmpty()) {
+          postings.remove(token);
+        }
+      }
+    }
+  }
+
+  private void addFieldLengths(ProductDocument document, int sign) {
+    fieldLengthSums[0] += sign * NgramTokenizer.normalize(document.getName()).length();
+    fieldLengthSums[1] += sign * NgramTokenizer.normalize(document.getBrand()).length();
+    fieldLengthSums[2] += sign * NgramTokenizer.normalize(document.getDescription()).length();
+  }
+
+  private Set<String> tokenize(ProductDocument document) {
+    Set<String> tokens = new HashSet<>();
+    tokens.addAll(NgramTokenizer.bigrams(document.getName()));
+    tokens.addAll(NgramTokenizer.bigrams(document.getDescription()));
+    tokens.addAll(NgramTokenizer.bigrams(document.getBrand()));
+    return tokens;
+  }
+
+  /**
+   * 키워드 바이그램 포스팅의 교집합으로 후보 문서 추출
+   * - 키워드 없이 가격 범위만 있으면 가격 인덱스의 범위 결과를 후보로 사용
+   * - 초성 검색어는 초성 인덱스 결과를 후보로 사용
+   * - 바이그램이 없는 한 글자 검색어는 전체 문서를 후보로 사용
+   */
+  private Collection<ProductDocument> candidates(ProductSearchRequest request) {
+    String keyword = request.getKeyword();
+    if (!StringUtils.hasText(keyword)) {
+      if (hasPriceRange(request) && productPriceIndex.isReady()) {
+        return toDocuments(
+            productPriceIndex.findIdsInRange(request.getMinPrice(), request.getMaxPrice()));
+      }
+      return documents.values();
+    }
+    if (HangulChosung.isChosungQuery(keyword)) {
+      return productChosungIndex.isReady()
+          ? toDocuments(productChosungIndex.search(keyword))
+          : documents.values();
+    }
+
+    Set<String> tokens = NgramTokenizer.bigrams(keyword);
+    if (tokens.isEmpty()) {
+      return documents.values();
+    }
+
+    Set<Long> result = null;
+    for (String token : tokens) {
+      Set<Long> ids = postings.get(token);
+      if (ids == null) {
+        return List.of();
+      }
+      if (result == null) {
+        result = new HashSet<>(ids);
+      } else {
+        result.retainAll(ids);
+      }
+      if (result.isEmpty()) {
+        return List.of();
+      }
+    }
+
+    return toDocuments(result);
+  }
+
+  private List<ProductDocument> toDocuments(Collection<Long> productIds) {
+    List<ProductDocument> candidates = new ArrayList<>(productIds.size());
+    for (Long id : productIds) {
+      ProductDocument document = documents.get(id);
+      if (document != null) {
+        candidates.add(document);
+      }
+    }
+    return candidates;
+  }
+
+  private boolean hasPriceRange(ProductSearchRequest request) {
+    return request.getMinPrice() != null || request.getMaxPrice() != null;
+  }
+
+  private boolean matchesKeyword(ProductDocument document, String keyword) {
+    if (!StringUtils.hasText(keyword)) {
+      return true;
+    }
+    if (HangulChosung.isChosungQuery(keyword)) {
+      return HangulChosung.matches(document.getName(), keyword)
+          || HangulChosung.matches(document.getBrand(), keyword);
+    }
+
+    String normalized = NgramTokenizer.normalize(keyword);
+    return contains(document.getName(), normalized)
+        || contains(document.getDescription(), normalized)
+        || contains(document.getBrand(), normalized);
+  }
+
+  private boolean contains(String text, String normalizedKeyword) {
+    return text != null && NgramTokenizer.normalize(text).contains(normalizedKeyword);
+  }
+
+  /**
+   * ProductRepositoryCustomImpl 의 필터 조건과 동일한 규칙으로 필터링
+   *
+   * @param brands 브랜드 필터와 같은 브랜드로 판단되는 표기 (필터가 없으면 null)
+   */
+  private boolean matchesFilters(ProductDocument document, ProductSearchRequest request,
+      Set<String> brands) {
+    if (request.getStatus() != null && request.getStatus() != document.getProductStatus()) {
+      return false;
+    }
+    if (request.getCategoryId() != null && Collections.disjoint(document.getCategoryIds(),
+        productCategoryTree.getSubtreeIds(request.getCategoryId()))) {
+      return false;
+    }
+    if (brands != null
+        && !brands.contains(ProductFuzzyIndex.brandSpelling(document.getBrand()))) {
+      return false;
+    }
+    if (hasPriceRange(request) && !matchesPrice(document, request)) {
+      return false;
+    }
+    if (StringUtils.hasText(request.getCondition())) {
+      return document.getCondition() != null
+          && document.getCondition().name().equals(request.getCondition());
+    }
+    return true;
+  }
+
+  private boolean matchesPrice(ProductDocument document, ProductSearchRequest request) {
+    if (document.getPrice() == null) {
+      return false;
+    }
+    if (request.getMinPrice() != null && document.getPrice().compareTo(request.getMinPrice()) < 0) {
+      return false;
+    }
+    return request.getMaxPrice() == null || document.getPrice().compareTo(request.getMaxPrice()) <= 0;
+  }
+
+  /**
+   * 정렬 조건 (ProductRepositoryCustomImpl.getOrderSpecifiers 와 동일, ID 타이브레이크 포함)
+   */
+  private Comparator<ProductDocument> getComparator(ProductSortType sortType) {
+    Comparator<ProductDocument> comparator = switch (sortType) {
+      case LATEST, OLDEST, RELEVANCE -> Comparator.comparing(ProductDocument::getCreatedAt,
+          Comparator.nullsFirst(Comparator.naturalOrder()));
+      case VIEWS -> Comparator.comparingInt(ProductDocument::getViews);
+      case PRICE_ASC, PRICE_DESC -> Comparator.comparing(ProductDocument::getPrice,
+          Comparator.nullsFirst(Comparator.naturalOrder()));
+    };
+    comparator = comparator.thenComparing(ProductDocument::getId);
+
+    return sortType.isAscending() ? comparator : comparator.reversed();
+  }
+
+  /**
+   * 커서 위치를 비교용 문서로 변환
+   */
+  private ProductDocument toPosition(ProductCursor cursor) {
+    ProductDocument.ProductDocumentBuilder builder = ProductDocument.builder().id(cursor.getId());
+    return switch (cursor.getSortType()) {
+      case LATEST, OLDEST, RELEVANCE -> builder.createdAt(cursor.getCreatedAt()).build();
+      case VIEWS -> builder.views(cursor.getViews()).build();
+      case PRICE_ASC, PRICE_DESC -> builder.price(cursor.getPrice()).build();
+    };
+  }
+}
@@ -0,0 +1,223 @@
+package com.oboe.backend.product.search;
+
+import com.oboe.backend.product.category.CategoryNode;
+import com.oboe.backend.product.category.ProductCategoryTree;
+import com.oboe.backend.product.event.ProductViewsFlushedEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 상품 검색어 자동완성 인덱스 (인메모리 압축 트라이)
+ * - 상품명, 브랜드, 카테고리명을 어절 시작 위치마다 등록 ("빈티지 데님" -> "빈티지 데님", "데님")
+ * - 가중치는 해당 문자열을 가진 상품들의 (조회수 + 1) 합계, 조회수 반영 이벤트로 증분 갱신
+ * - INACTIVE 상품은 색인하지 않음
+ * - 카테고리명은 상품 색인 시점의 카테고리 트리 기준 (이름 변경은 해당 상품 변경 또는 재기동 시 반영)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSuggestIndex implements ProductIndex {
+
+  private final ProductCategoryTree productCategoryTree;
+
+  private final SuggestionTrie trie = new SuggestionTrie();
+  private final Map<String, Term> terms = new HashMap<>(); // 키 -> 집계된 제안
+  private final Map<Long, Contribution> contributions = new HashMap<>(); // 상품 ID -> 기여분
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  @Override
+  public void rebuild(Collection<ProductDocument> documents) {
+    lock.writeLock().lock();
+    try {
+      trie.clear();
+      terms.clear();
+      contributions.clear();
+      for (ProductDocument document : documents) {
+        if (document.isSearchable()) {
+          addDocument(document);
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+    log.info("상품 자동완성 인덱스 구성 완료: 상품 {}건, 제안어 {}개", contributions.size(), terms.size());
+  }
+
+  @Override
+  public void index(ProductDocument document) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(document.getId());
+      addDocument(document);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void remove(Long productId) {
+    lock.writeLock().lock();
+    try {
+      removeDocument(productId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 조회수 일괄 반영 후 가중치 갱신
+   */
+  @EventListener
+  public void onViewsFlushed(ProductViewsFlushedEvent event) {
+    lock.writeLock().lock();
+    try {
+      event.getViewDeltas().forEach((productId, delta) -> {
+        Contribution contribution = contributions.get(productId);
+        if (contribution != null) {
+          for (String key : contribution.keys) {
+            adjust(key, null, null, delta);
+          }
+          contribution.weight += delta;
+        }
+      });
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 접두어로 시작하는 제안어 상위 limit 개 (인기도 내림차순, 대소문자 무시)
+   */
+  public List<Suggestion> suggest(String prefix, int limit) {
+    String normalized = NgramTokenizer.normalize(prefix);
+    if (normalized.isEmpty()) {
+      return List.of();
+    }
+
+    lock.readLock().lock();
+    try {
+      List<Suggestion> suggestions = new ArrayList<>();
+      for (String key : trie.topKeys(normalized, limit)) {
+        Term term = terms.get(key);
+        suggestions.add(Suggestion.builder()
+            .text(term.text)
+            .type(term.type)
+            .weight(term.weight)
+            .build());
+      }
+      return suggestions;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // ===== Private Helper Methods =====
+
+  private void addDocument(ProductDocument document) {
+    long weight = document.getViews() + 1L;
+    Set<String> keys = new LinkedHashSet<>();
+    addTerm(keys, document.getName(), SuggestionType.PRODUCT, weight);
+    addTerm(keys, document.getBrand(), SuggestionType.BRAND, weight);
+    if (document.getCategoryIds() != null) {
+      for (Long categoryId : document.getCategoryIds()) {
+        CategoryNode node = productCategoryTree.getNode(categoryId);
+        if (node != null) {
+          addTerm(keys, node.getName(), SuggestionType.CATEGORY, weight);
+        }
+      }
+    }
+    contributions.put(document.getId(), new Contribution(keys, weight));
+  }
+
+  private void removeDocument(Long productId) {
+    Contribution previous = contributions.remove(productId);
+    if (previous == null) {
+      return;
+    }
+    for (String key : previous.keys) {
+      adjust(key, null, null, -previous.weight);
+    }
+  }
+
+  private void addTerm(Set<String> keys, String text, SuggestionType type, long weight) {
+    if (!StringUtils.hasText(text)) {
+      return;
+    }
+    String key = type.name() + ":" + NgramTokenizer.normalize(text);
+    if (keys.add(key)) {
+      adjust(key, text.trim(), type, weight);
+    }
+  }
+
+  /**
+   * 제안어 가중치 변경 후 트라이의 모든 등록 경로에 반영 (0 이하가 되면 제거)
+   */
+  private void adjust(String key, String text, SuggestionType type, long delta) {
+    Term term = terms.get(key);
+    if (term == null) {
+      if (text == null || delta <= 0) {
+        return;
+      }
+      term = new Term(text, type);
+      terms.put(key, term);
+    }
+
+    term.weight += delta;
+    if (term.weight <= 0) {
+      terms.remove(key);
+    }
+    for (String path : paths(term.text)) {
+      trie.put(path, key, Math.max(0, term.weight));
+    }
+  }
+
+  /**
+   * 어절 시작 위치마다의 정규화된 접미 문자열
+   */
+  private List<String> paths(String text) {
+    String normalized = NgramTokenizer.normalize(text);
+    List<String> paths = new ArrayList<>();
+    for (int i = 0; i < normalized.length(); i++) {
+      boolean wordStart = i == 0 || Character.isWhitespace(normalized.charAt(i - 1));
+      if (wordStart && !Character.isWhitespace(normalized.charAt(i))) {
+        paths.add(normalized.substring(i));
+      }
+    }
+    return paths;
+  }
+
+  private static final class Term {
+
+    private final String text;
+    private final SuggestionType type;
+    private long weight;
+
+    private Term(String text, SuggestionType type) {
+      this.text = text;
+      this.type = type;
+    }
+  }
+
+  private static final class Contribution {
+
+    private final Set<String> keys;
+    private long weight;
+
+    private Contribution(Set<String> keys, long weight) {
+      this.keys = keys;
+      this.weight = weight;
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package com.oboe.backend.product.search;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 자동완성 제안
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class Suggestion {
+
+  private final String text; // 표시 문자열
+  private final SuggestionType type;
+  private final long weight; // 인기도 (해당 문자열을 가진 상품들의 조회수 합)
+}
@@ -0,0 +1,192 @@
+package com.oboe.backend.product.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 가중치 기반 자동완성용 압축 트라이 (Radix Tree)
+ * - 분기가 없는 경로는 하나의 간선 문자열로 압축
+ * - 각 노드에 하위 트리의 최대 가중치를 저장하여, 상위 N 개 탐색 시 가중치가 큰 노드부터 방문 (전체 순회 없음)
+ * - 같은 키가 여러 경로에 등록될 수 있음 (어절 단위 등록), 탐색 결과에서 중복 제거
+ * - 동기화는 호출 측에서 처리
+ */
+class SuggestionTrie {
+
+  private Node root = new Node("");
+
+  /**
+   * 경로에 키의 가중치 등록 (0 이하이면 제거)
+   */
+  void put(String path, String key, long weight) {
+    List<Node> visited = new ArrayList<>();
+    visited.add(root);
+
+    Node node = root;
+    int i = 0;
+    while (i < path.length()) {
+      Node child = node.children.get(path.charAt(i));
+      if (child == null) {
+        if (weight <= 0) {
+          return;
+        }
+        child = new Node(path.substring(i));
+        node.children.put(path.charAt(i), child);
+        i = path.length();
+      } else {
+        int common = commonPrefixLength(child.label, path, i);
+        if (common < child.label.length()) {
+          if (weight <= 0) {
+            return;
+          }
+          child = split(node, child, common);
+        }
+        i += common;
+      }
+      node = child;
+      visited.add(node);
+    }
+
+    if (weight > 0) {
+      node.entries.put(key, weight);
+    } else if (node.entries.remove(key) == null) {
+      return;
+    }
+
+    // 말단부터 올라가며 빈 노드 정리, 단일 자식 노드 병합, 최대 가중치 갱신
+    for (int depth = visited.size() - 1; depth > 0; depth--) {
+      Node current = visited.get(depth);
+      Node parent = visited.get(depth - 1);
+      if (current.entries.isEmpty() && current.children.isEmpty()) {
+        parent.children.remove(current.label.charAt(0));
+      } else if (current.entries.isEmpty() && current.children.size() == 1) {
+        Node onlyChild = current.children.values().iterator().next();
+        onlyChild.label = current.label + onlyChild.label;
+        parent.children.put(onlyChild.label.charAt(0), onlyChild);
+      } else {
+        current.refreshMaxWeight();
+      }
+    }
+    root.refreshMaxWeight();
+  }
+
+  /**
+   * 접두어로 시작하는 키 중 가중치 상위 limit 개 (가중치 내림차순)
+   */
+  List<String> topKeys(String prefix, int limit) {
+    Node start = find(prefix);
+    if (start == null || limit <= 0) {
+      return List.of();
+    }
+
+    PriorityQueue<Candidate> queue = new PriorityQueue<>(
+        Comparator.comparingLong((Candidate candidate) -> candidate.weight).reversed());
+    queue.add(new Candidate(start.maxWeight, start, null));
+
+    Set<String> result = new LinkedHashSet<>();
+    while (!queue.isEmpty() && result.size() < limit) {
+      Candidate candidate = queue.poll();
+      if (candidate.key != null) {
+        result.add(candidate.key);
+        continue;
+      }
+      candidate.node.entries.forEach((key, weight) -> queue.add(new Candidate(weight, null, key)));
+      for (Node child : candidate.node.children.values()) {
+        queue.add(new Candidate(child.maxWeight, child, null));
+      }
+    }
+    return new ArrayList<>(result);
+  }
+
+  void clear() {
+    root = new Node("");
+  }
+
+  // ===== Private Helper Methods =====
+
+  /**
+   * 접두어가 끝나는 위치의 노드 (간선 중간에서 끝나면 해당 간선의 자식 노드)
+   */
+  private Node find(String prefix) {
+    Node node = root;
+    int i = 0;
+    while (i < prefix.length()) {
+      Node child = node.children.get(prefix.charAt(i));
+      if (child == null) {
+        return null;
+      }
+      int common = commonPrefixLength(child.label, prefix, i);
+      if (i + common == prefix.length()) {
+        return child;
+      }
+      if (common < child.label.length()) {
+        return null;
+      }
+      node = child;
+      i += common;
+    }
+    return node;
+  }
+
+  /**
+   * 간선을 length 위치에서 분리하고 중간 노드 반환
+   */
+  private Node split(Node parent, Node child, int length) {
+    Node middle = new Node(child.label.substring(0, length));
+    child.label = child.label.substring(length);
+    middle.children.put(child.label.charAt(0), child);
+    middle.maxWeight = child.maxWeight;
+    parent.children.put(middle.label.charAt(0), middle);
+    return middle;
+  }
+
+  private int commonPrefixLength(String label, String text, int offset) {
+    int max = Math.min(label.length(), text.length() - offset);
+    int length = 0;
+    while (length < max && label.charAt(length) == text.charAt(offset + length)) {
+      length++;
+    }
+    return length;
+  }
+
+  private static final class Node {
+
+    private String label; // 부모로부터의 간선 문자열
+    private final Map<Character, Node> children = new HashMap<>();
+    private final Map<String, Long> entries = new HashMap<>(); // 이 위치에서 끝나는 키와 가중치
+    private long maxWeight; // 하위 트리 최대 가중치
+
+    private Node(String label) {
+      this.label = label;
+    }
+
+    private void refreshMaxWeight() {
+      long max = 0;
+      for (long weight : entries.values()) {
+        max = Math.max(max, weight);
+      }
+      for (Node child : children.values()) {
+        max = Math.max(max, child.maxWeight);
+      }
+      maxWeight = max;
+    }
+  }
+
+  private static final class Candidate {
+
+    private final long weight;
+    private final Node node;
+    private final String key;
+
+    private Candidate(long weight, Node node, String key) {
+      this.weight = weight;
+      this.node = node;
+      this.key = key;
+    }
+  }
+}
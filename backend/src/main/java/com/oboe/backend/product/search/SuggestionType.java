@@ -0,0 +1,10 @@
+package com.oboe.backend.product.search;
+
+/**
+ * 자동완성 제안 종류
+ */
+public enum SuggestionType {
+  PRODUCT, // 상품명
+  BRAND, // 브랜드
+  CATEGORY // 카테고리명
+}
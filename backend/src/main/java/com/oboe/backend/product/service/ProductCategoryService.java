@@ -0,0 +1,81 @@
+package com.oboe.backend.product.service;
+
+import com.oboe.backend.common.exception.CustomException;
+import com.oboe.backend.common.exception.ErrorCode;
+import com.oboe.backend.product.category.CategoryNode;
+import com.oboe.backend.product.category.ProductCategoryTree;
+import com.oboe.backend.product.dto.response.CategoryTreeResponse;
+import com.oboe.backend.product.dto.response.ProductCategoryResponse;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 카테고리 메뉴/브레드크럼 조회 (인메모리 카테고리 트리 스냅샷 사용, DB 미조회)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCategoryService {
+
+  private final ProductCategoryTree productCategoryTree;
+
+  /**
+   * 전체 카테고리 트리 (내비게이션 메뉴)
+   */
+  public List<CategoryTreeResponse> getCategoryTree() {
+    return productCategoryTree.getRoots().stream()
+        .map(this::convertToTreeResponse)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * 특정 카테고리의 하위 카테고리 트리
+   */
+  public CategoryTreeResponse getCategorySubtree(Long categoryId) {
+    validateCategory(categoryId);
+    return convertToTreeResponse(productCategoryTree.getNode(categoryId));
+  }
+
+  /**
+   * 루트부터 해당 카테고리까지의 경로 (브레드크럼)
+   */
+  public List<ProductCategoryResponse> getBreadcrumbs(Long categoryId) {
+    validateCategory(categoryId);
+    return productCategoryTree.getBreadcrumbs(categoryId).stream()
+        .map(this::convertToCategoryResponse)
+        .collect(Collectors.toList());
+  }
+
+  // ===== Private Helper Methods =====
+
+  private void validateCategory(Long categoryId) {
+    if (!productCategoryTree.contains(categoryId)) {
+      throw new CustomException(ErrorCode.CATEGORY_NOT_FOUND,
+          "존재하지 않는 카테고리입니다: " + categoryId);
+    }
+  }
+
+  private CategoryTreeResponse convertToTreeResponse(CategoryNode node) {
+    return CategoryTreeResponse.builder()
+        .id(node.getId())
+        .name(node.getName())
+        .level(node.getLevel())
+        .description(node.getDescription())
+        .children(productCategoryTree.getChildren(node.getId()).stream()
+            .map(this::convertToTreeResponse)
+            .collect(Collectors.toList()))
+        .build();
+  }
+
+  private ProductCategoryResponse convertToCategoryResponse(CategoryNode node) {
+    return ProductCategoryResponse.builder()
+        .id(node.getId())
+        .name(node.getName())
+        .level(node.getLevel())
+        .description(node.getDescription())
+        .build();
+  }
+}
@@ -0,0 +1,70 @@
+package com.oboe.backend.product.service;
+
+import com.oboe.backend.product.dto.request.ProductChangeToken;
+import com.oboe.backend.product.dto.response.ProductChange;
+import com.oboe.backend.product.dto.response.ProductChangeFeedResponse;
+import com.oboe.backend.product.repository.ProductRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 상품 변경 피드 (증분 동기화)
+ * - since 토큰 이후 (updated_at, id) 순으로 생성/수정/삭제된 상품을 전달, 비용은 변경 건수에 비례
+ * - 삭제(INACTIVE) 는 상품 정보 없는 톰스톤으로 전달
+ * - updated_at 은 커밋이 아닌 변경 시점 값이므로 최근 settle 구간의 변경은 다음 요청으로 미룸
+ *   (늦게 커밋된 트랜잭션의 변경이 이미 전달한 토큰보다 앞에 끼어들어 누락되는 것을 방지)
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class ProductChangeFeedService {
+
+  private static final int MAX_SIZE = 500;
+
+  private final ProductRepository productRepository;
+  private final Duration settle;
+
+  public ProductChangeFeedService(ProductRepository productRepository,
+      @Value("${product.changes.settle-seconds:5}") long settleSeconds) {
+    this.productRepository = productRepository;
+    this.settle = Duration.ofSeconds(settleSeconds);
+  }
+
+  /**
+   * since 토큰 이후의 상품 변경 조회
+   *
+   * @param since 이전 응답의 nextToken (처음 동기화면 null)
+   * @param size  조회할 최대 변경 수 (최대 500)
+   */
+  public ProductChangeFeedResponse getChanges(String since, int size) {
+    ProductChangeToken token = ProductChangeToken.decode(since);
+    int limit = Math.max(1, Math.min(size, MAX_SIZE));
+    LocalDateTime until = LocalDateTime.now().minus(settle);
+
+    // 다음 변경 존재 여부 확인을 위해 limit + 1 개 조회
+    List<ProductChange> changes = productRepository.findChangesAfter(token, until, limit + 1);
+    boolean hasMore = changes.size() > limit;
+    if (hasMore) {
+      changes = changes.subList(0, limit);
+    }
+
+    String nextToken = since;
+    if (!changes.isEmpty()) {
+      ProductChange last = changes.get(changes.size() - 1);
+      nextToken = ProductChangeToken.of(last.getChangedAt(), last.getProductId()).encode();
+    }
+
+    log.debug("상품 변경 피드 조회: 변경={}, hasMore={}", changes.size(), hasMore);
+
+    return ProductChangeFeedResponse.builder()
+        .changes(changes)
+        .hasMore(hasMore)
+        .nextToken(nextToken)
+        .build();
+  }
+}
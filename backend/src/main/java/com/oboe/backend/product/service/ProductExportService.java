@@ -0,0 +1,140 @@
+package com.oboe.backend.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.oboe.backend.common.exception.CustomException;
+import com.oboe.backend.common.exception.ErrorCode;
+import com.oboe.backend.product.dto.request.ProductExportFormat;
+import com.oboe.backend.product.dto.response.ProductExportRow;
+import com.oboe.backend.product.repository.ProductRepository;
+import com.oboe.backend.user.entity.User;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 상품 전체 내보내기 (NDJSON / CSV 스트리밍)
+ * - 응답 스트림에 행 단위로 바로 기록하여 상품 수와 관계없이 메모리 사용량 일정
+ * - 읽기 전용 트랜잭션 안에서 전방향 결과셋으로 조회 (페이지/count 쿼리 없음)
+ * - 스트리밍 fetch size 는 내보내기 문장에만 적용 (MySQL 은 product.export.fetch-size=Integer.MIN_VALUE)
+ * - 스트리밍은 요청 스레드가 아닌 비동기 스레드에서 실행되므로 트랜잭션도 그 안에서 시작
+ * - 기본 비동기 타임아웃(30초)으로는 끝나지 않으므로 내보내기 전용 타임아웃 사용 (getTimeoutMillis)
+ */
+@Service
+@Slf4j
+public class ProductExportService {
+
+  private static final String CSV_HEADER = "id,name,sku,price,stockQuantity,productStatus,"
+      + "brand,yearOfRelease,size,texture,condition,views,thumbnailUrl,createdAt,updatedAt";
+
+  private final ProductRepository productRepository;
+  private final ObjectWriter rowWriter;
+  private final TransactionTemplate readOnlyTransaction;
+  private final int fetchSize;
+  private final long timeoutMillis;
+
+  public ProductExportService(ProductRepository productRepository, ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      @Value("${product.export.fetch-size:1000}") int fetchSize,
+      @Value("${product.export.timeout-minutes:30}") long timeoutMinutes) {
+    this.productRepository = productRepository;
+    this.rowWriter = objectMapper.writerFor(ProductExportRow.class);
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.fetchSize = fetchSize;
+    this.timeoutMillis = Duration.ofMinutes(timeoutMinutes).toMillis();
+  }
+
+  /**
+   * 상품 내보내기 (ADMIN 권한 필요) - 권한은 응답 시작 전에 검증
+   */
+  public StreamingResponseBody exportProducts(ProductExportFormat format,
+      Authentication authentication) {
+    validateAdminUser(authentication);
+
+    return outputStream -> {
+      log.info("상품 내보내기 시작: 형식={}", format);
+      Writer writer = new BufferedWriter(
+          new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+      try {
+        writeRows(format, writer);
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      writer.flush();
+    };
+  }
+
+  /**
+   * 내보내기 스트리밍 응답의 비동기 타임아웃 (ms)
+   */
+  public long getTimeoutMillis() {
+    return timeoutMillis;
+  }
+
+  // ===== Private Helper Methods =====
+
+  private void writeRows(ProductExportFormat format, Writer writer) throws IOException {
+    if (format == ProductExportFormat.CSV) {
+      writer.write(CSV_HEADER);
+      writer.write('\n');
+    }
+
+    Long count = readOnlyTransaction.execute(status ->
+        productRepository.scrollExportRows(fetchSize, row -> {
+          try {
+            writer.write(format == ProductExportFormat.CSV ? toCsvLine(row) : toJsonLine(row));
+            writer.write('\n');
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }));
+    log.info("상품 내보내기 완료: 형식={}, 건수={}", format, count);
+  }
+
+  private String toJsonLine(ProductExportRow row) throws IOException {
+    return rowWriter.writeValueAsString(row);
+  }
+
+  private static String toCsvLine(ProductExportRow row) {
+    return Stream.of(row.getId(), row.getName(), row.getSku(),
+            row.getPrice() != null ? row.getPrice().toPlainString() : null,
+            row.getStockQuantity(), row.getProductStatus(), row.getBrand(),
+            row.getYearOfRelease(), row.getSize(), row.getTexture(), row.getCondition(),
+            row.getViews(), row.getThumbnailUrl(), row.getCreatedAt(), row.getUpdatedAt())
+        .map(value -> csvField(Objects.toString(value, "")))
+        .collect(Collectors.joining(","));
+  }
+
+  /**
+   * CSV 필드 이스케이프 (쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번)
+   */
+  private static String csvField(String value) {
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+        && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+
+  private void validateAdminUser(Authentication authentication) {
+    if (authentication == null || !authentication.isAuthenticated()
+        || !(authentication.getPrincipal() instanceof User user) || !user.isAdmin()) {
+      throw new CustomException(ErrorCode.FORBIDDEN, "접근 권한이 없습니다.");
+    }
+  }
+}
@@ -0,0 +1,266 @@
+package com.oboe.backend.product.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oboe.backend.common.exception.CustomException;
+import com.oboe.backend.common.exception.ErrorCode;
+import com.oboe.backend.product.category.ProductCategoryResolver;
+import com.oboe.backend.product.dto.request.ProductCreateRequest;
+import com.oboe.backend.product.dto.request.ProductImageRequest;
+import com.oboe.backend.product.dto.response.ProductImportResponse;
+import com.oboe.backend.product.dto.response.ProductImportRowResult;
+import com.oboe.backend.product.event.ProductChangedEvent;
+import com.oboe.backend.product.repository.ProductBulkWriter;
+import com.oboe.backend.product.search.ProductDocument;
+import com.oboe.backend.user.entity.User;
+import com.oboe.backend.user.entity.UserRole;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 상품 일괄 등록 (NDJSON 업로드)
+ * - 한 줄에 ProductCreateRequest JSON 하나, 파일 전체를 메모리에 올리지 않고 줄 단위로 읽음
+ * - 행 검증 후 CHUNK_SIZE 개씩 모아 청크마다 하나의 트랜잭션에서 JDBC 배치로 저장
+ * - 행 검증은 단건 등록과 같은 규칙 사용 (이미지 개수/썸네일, 카테고리는 ProductCategoryResolver 맵으로 확인)
+ * - 저장에 실패한 청크는 나누어 재시도하여 실패한 행만 실패 처리하고 다음 청크 계속 진행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductImportService {
+
+  private static final int CHUNK_SIZE = 500;
+  private static final int MAX_COLUMN_LENGTH = 255; // 길이 제한 없는 문자열 컬럼 (VARCHAR(255))
+
+  private final ProductBulkWriter productBulkWriter;
+  private final ProductCategoryResolver productCategoryResolver;
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * 상품 일괄 등록 (ADMIN 권한 필요)
+   */
+  public ProductImportResponse importProducts(MultipartFile file, Authentication authentication) {
+    validateAdminUser(authentication);
+    if (file == null || file.isEmpty()) {
+      throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "업로드할 파일이 없습니다.");
+    }
+
+    log.info("상품 일괄 등록 시작: 파일={}, 크기={}", file.getOriginalFilename(), file.getSize());
+
+    List<ProductImportRowResult> results = new ArrayList<>();
+    List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      int lineNumber = 0;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+
+        ProductCreateRequest request;
+        try {
+          request = objectMapper.readValue(line, ProductCreateRequest.class);
+        } catch (JsonProcessingException e) {
+          results.add(failure(lineNumber, null, "JSON 형식이 올바르지 않습니다."));
+          continue;
+        }
+
+        String error = validateRow(request);
+        if (error != null) {
+          results.add(failure(lineNumber, request.getName(), error));
+          continue;
+        }
+
+        chunk.add(new ImportRow(lineNumber, request));
+        if (chunk.size() == CHUNK_SIZE) {
+          results.addAll(saveChunk(chunk));
+          chunk.clear();
+        }
+      }
+    } catch (IOException e) {
+      log.error("상품 일괄 등록 파일 읽기 실패: {}", e.getMessage());
+      throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "업로드 파일을 읽을 수 없습니다.");
+    }
+    results.addAll(saveChunk(chunk));
+
+    results.sort(Comparator.comparingInt(ProductImportRowResult::getLine));
+    int successCount = (int) results.stream().filter(ProductImportRowResult::isSuccess).count();
+
+    log.info("상품 일괄 등록 완료: 전체={}, 성공={}, 실패={}",
+        results.size(), successCount, results.size() - successCount);
+
+    return ProductImportResponse.builder()
+        .totalCount(results.size())
+        .successCount(successCount)
+        .failureCount(results.size() - successCount)
+        .results(results)
+        .build();
+  }
+
+  // ===== Private Helper Methods =====
+
+  /**
+   * 청크 저장 (하나의 트랜잭션), 커밋 후 인덱스/캐시 갱신 이벤트 반영
+   * - 인덱스 문서는 저장한 상품을 다시 읽지 않고 검증된 요청과 발급된 ID 로 구성
+   * - 저장에 실패하면 청크를 반으로 나누어 재시도하여 실패한 행만 원인과 함께 보고
+   */
+  private List<ProductImportRowResult> saveChunk(List<ImportRow> chunk) {
+    if (chunk.isEmpty()) {
+      return List.of();
+    }
+
+    List<ProductCreateRequest> requests = chunk.stream().map(row -> row.request).toList();
+    try {
+      LocalDateTime now = LocalDateTime.now();
+      List<Long> productIds = transactionTemplate.execute(status -> {
+        List<Long> ids = productBulkWriter.insertAll(requests, now);
+        for (int i = 0; i < ids.size(); i++) {
+          eventPublisher.publishEvent(
+              new ProductChangedEvent(toDocument(ids.get(i), requests.get(i), now)));
+        }
+        return ids;
+      });
+
+      List<ProductImportRowResult> results = new ArrayList<>(chunk.size());
+      for (int i = 0; i < chunk.size(); i++) {
+        results.add(ProductImportRowResult.builder()
+            .line(chunk.get(i).line)
+            .success(true)
+            .productId(productIds.get(i))
+            .name(requests.get(i).getName())
+            .build());
+      }
+      return results;
+    } catch (DataAccessException e) {
+      if (chunk.size() == 1) {
+        ImportRow row = chunk.get(0);
+        log.warn("상품 일괄 등록 행 저장 실패: 행 {}, 오류={}", row.line, e.getMessage());
+        return List.of(failure(row.line, row.request.getName(),
+            "저장에 실패했습니다: " + e.getMostSpecificCause().getMessage()));
+      }
+
+      // 실패한 행만 보고하도록 청크를 반으로 나누어 재시도
+      log.warn("상품 일괄 등록 청크 저장 실패, 나누어 재시도: 행 {}-{}, 오류={}",
+          chunk.get(0).line, chunk.get(chunk.size() - 1).line, e.getMessage());
+      int middle = chunk.size() / 2;
+      List<ProductImportRowResult> results = new ArrayList<>(saveChunk(chunk.subList(0, middle)));
+      results.addAll(saveChunk(chunk.subList(middle, chunk.size())));
+      return results;
+    }
+  }
+
+  /**
+   * 행 검증 (요청 DTO 검증 규칙 + 컬럼 길이 + 이미지 + 카테고리 존재 여부), 통과하면 null
+   */
+  private String validateRow(ProductCreateRequest request) {
+    Set<String> messages = new TreeSet<>();
+    for (ConstraintViolation<ProductCreateRequest> violation : validator.validate(request)) {
+      messages.add(violation.getMessage());
+    }
+    checkLength(messages, request.getDescription(), "상품 설명은");
+    checkLength(messages, request.getSku(), "SKU는");
+    checkLength(messages, request.getBrand(), "브랜드명은");
+    checkLength(messages, request.getYearOfRelease(), "출시 년도는");
+    checkLength(messages, request.getSize(), "사이즈는");
+    checkLength(messages, request.getTexture(), "소재는");
+    if (request.getImages() != null) {
+      for (ProductImageRequest image : request.getImages()) {
+        for (ConstraintViolation<ProductImageRequest> violation : validator.validate(image)) {
+          messages.add(violation.getMessage());
+        }
+      }
+    }
+    try {
+      ProductService.validateProductImages(request.getImages());
+    } catch (CustomException e) {
+      messages.add(e.getDetailMessage());
+    }
+    if (request.getCategoryIds() != null && !request.getCategoryIds().isEmpty()) {
+      try {
+        productCategoryResolver.resolve(request.getCategoryIds());
+      } catch (CustomException e) {
+        messages.add(e.getDetailMessage());
+      }
+    }
+    return messages.isEmpty() ? null : String.join(", ", messages);
+  }
+
+  /**
+   * 저장한 요청으로 인덱스 문서 구성 (카테고리는 validateRow 에서 존재 확인 완료, 조회수 0)
+   */
+  private ProductDocument toDocument(Long productId, ProductCreateRequest request,
+      LocalDateTime createdAt) {
+    return ProductDocument.builder()
+        .id(productId)
+        .name(request.getName())
+        .description(request.getDescription())
+        .brand(request.getBrand())
+        .productStatus(request.getProductStatus())
+        .condition(request.getCondition())
+        .categoryIds(request.getCategoryIds() != null
+            ? Set.copyOf(request.getCategoryIds()) : Set.of())
+        .price(request.getPrice())
+        .views(0)
+        .thumbnailUrl(ProductBulkWriter.thumbnailUrl(request.getImages()))
+        .createdAt(createdAt)
+        .build();
+  }
+
+  private void checkLength(Set<String> messages, String value, String label) {
+    if (value != null && value.length() > MAX_COLUMN_LENGTH) {
+      messages.add(label + " " + MAX_COLUMN_LENGTH + "자를 초과할 수 없습니다.");
+    }
+  }
+
+  private ProductImportRowResult failure(int line, String name, String message) {
+    return ProductImportRowResult.builder()
+        .line(line)
+        .success(false)
+        .name(name)
+        .message(message)
+        .build();
+  }
+
+  private void validateAdminUser(Authentication authentication) {
+    if (authentication == null || !authentication.isAuthenticated()
+        || !(authentication.getPrincipal() instanceof User user)
+        || !UserRole.ADMIN.equals(user.getRole())) {
+      throw new CustomException(ErrorCode.FORBIDDEN, "접근 권한이 없습니다.");
+    }
+  }
+
+  private static final class ImportRow {
+
+    private final int line;
+    private final ProductCreateRequest request;
+
+    private ImportRow(int line, ProductCreateRequest request) {
+      this.line = line;
+      this.request = request;
+    }
+  }
+}
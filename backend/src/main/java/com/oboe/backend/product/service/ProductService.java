@@ -2,38 +2,73 @@ package com.oboe.backend.product.service;
 
 import com.oboe.backend.common.exception.CustomException;
 import com.oboe.backend.common.exception.ErrorCode;
+import com.oboe.backend.product.cache.ProductDetailCache;
+import com.oboe.backend.product.cache.ProductSearchResultCache;
+import com.oboe.backend.product.category.CategoryNode;
+import com.oboe.backend.product.category.ProductCategoryResolver;
+import com.oboe.backend.product.category.ProductCategoryTree;
 import com.oboe.backend.product.dto.request.ProductCreateRequest;
+import com.oboe.backend.product.dto.request.ProductCursor;
 import com.oboe.backend.product.dto.request.ProductImageRequest;
 import com.oboe.backend.product.dto.request.ProductSearchRequest;
+import com.oboe.backend.product.dto.request.ProductSortType;
 import com.oboe.backend.product.dto.request.ProductUpdateRequest;
+import com.oboe.backend.product.dto.response.CursorPageResponse;
+import com.oboe.backend.product.dto.response.FacetCountResponse;
+import com.oboe.backend.product.dto.response.PriceBucketResponse;
+import com.oboe.backend.product.dto.response.PriceHistogramResponse;
 import com.oboe.backend.product.dto.response.ProductCategoryResponse;
+import com.oboe.backend.product.dto.response.ProductFacetResponse;
 import com.oboe.backend.product.dto.response.ProductImageResponse;
 import com.oboe.backend.product.dto.response.ProductListResponse;
 import com.oboe.backend.product.dto.response.ProductResponse;
+import com.oboe.backend.product.dto.response.SuggestionResponse;
+import com.oboe.backend.product.entity.Condition;
 import com.oboe.backend.product.entity.Product;
 import com.oboe.backend.product.entity.ProductCategory;
 import com.oboe.backend.product.entity.ProductImage;
 import com.oboe.backend.product.entity.ProductStatus;
-import com.oboe.backend.product.repository.ProductCategoryRepository;
+import com.oboe.backend.product.event.ProductChangedEvent;
+import com.oboe.backend.product.ranking.PopularProductRanking;
+import com.oboe.backend.product.ranking.TrendingProductEngine;
 import com.oboe.backend.product.repository.ProductImageRepository;
 import com.oboe.backend.product.repository.ProductRepository;
+import com.oboe.backend.product.search.FacetResult;
+import com.oboe.backend.product.search.PriceHistogram;
+import com.oboe.backend.product.search.ProductDocument;
+import com.oboe.backend.product.search.ProductFacetIndex;
+import com.oboe.backend.product.search.ProductFuzzyIndex;
+import com.oboe.backend.product.search.ProductPriceIndex;
+import com.oboe.backend.product.search.ProductSearchIndex;
+import com.oboe.backend.product.search.ProductSuggestIndex;
+import com.oboe.backend.product.view.ProductViewCountAggregator;
 import com.oboe.backend.user.entity.User;
 import com.oboe.backend.user.entity.UserRole;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -41,9 +76,26 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class ProductService {
 
+  private static final int MAX_PRICE_HISTOGRAM_BUCKETS = 100;
+  private static final int MAX_SUGGESTIONS = 20;
+  private static final int MAX_POPULAR_PRODUCTS = 100;
+  private static final int MAX_TRENDING_PRODUCTS = 100;
+
   private final ProductRepository productRepository;
-  private final ProductCategoryRepository productCategoryRepository;
+  private final ProductCategoryResolver productCategoryResolver;
   private final ProductImageRepository productImageRepository;
+  private final ProductSearchIndex productSearchIndex;
+  private final ProductFacetIndex productFacetIndex;
+  private final ProductPriceIndex productPriceIndex;
+  private final ProductSuggestIndex productSuggestIndex;
+  private final ProductFuzzyIndex productFuzzyIndex;
+  private final ProductCategoryTree productCategoryTree;
+  private final ProductViewCountAggregator productViewCountAggregator;
+  private final ProductDetailCache productDetailCache;
+  private final ProductSearchResultCache productSearchResultCache;
+  private final PopularProductRanking popularProductRanking;
+  private final TrendingProductEngine trendingProductEngine;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 상품 생성 (ADMIN 권한 필요)
@@ -73,8 +125,11 @@ public class ProductService {
       List<ProductImage> images = createProductImages(savedProduct, request.getImages());
       productImageRepository.saveAll(images);
       savedProduct.getProductImages().addAll(images);
+      savedProduct.refreshThumbnailUrl(images);
     }
 
+    publishProductChanged(savedProduct);
+
     log.info("상품 생성 완료: ID={}, 이름={}", savedProduct.getId(), savedProduct.getName());
     return convertToProductResponse(savedProduct);
   }
@@ -124,21 +179,14 @@ public class ProductService {
       product.updateCategories(categories);
     }
 
-    // 이미지 업데이트
+    // 이미지 업데이트 (기존 이미지와 비교하여 변경분만 반영)
     if (request.getImages() != null) {
       validateProductImages(request.getImages());
-
-      // 기존 이미지 삭제
-      productImageRepository.deleteByProductId(productId);
-
-      // 새 이미지 추가
-      if (!request.getImages().isEmpty()) {
-        List<ProductImage> images = createProductImages(product, request.getImages());
-        productImageRepository.saveAll(images);
-      }
+      reconcileImages(product, request.getImages());
     }
 
     Product savedProduct = productRepository.save(product);
+    publishProductChanged(savedProduct);
     log.info("상품 수정 완료: ID={}, 이름={}", savedProduct.getId(), savedProduct.getName());
 
     return convertToProductResponse(savedProduct);
@@ -179,6 +227,7 @@ public class ProductService {
     // Soft Delete - 상품 상태를 INACTIVE로 변경
     product.changeStatus(ProductStatus.INACTIVE);
     productRepository.softDeleteById(productId, LocalDateTime.now());
+    publishProductChanged(product);
 
     log.info("상품 삭제 완료: ID={}, 이름={}", productId, product.getName());
   }
@@ -194,62 +243,256 @@ public class ProductService {
     int page = searchRequest.getPage() != null ? searchRequest.getPage() : 0;
     int size = searchRequest.getSize() != null ? searchRequest.getSize() : 20;
     Pageable pageable = PageRequest.of(page, size);
+    validatePriceRange(searchRequest);
 
-    Page<Product> products;
+    // 같은 조건의 반복 조회는 캐시된 ID 목록으로 현재 페이지만 조회
+    return productSearchResultCache.get(searchRequest, pageable,
+        () -> loadProducts(searchRequest, pageable),
+        productRepository::findListResponsesByIdInOrder);
+  }
 
-    /*
-     * 검색 조건에 따른 분기 처리
-     * 1. 검색어 + 필터: 복합 검색
-     * 2. 검색어만: 키워드 검색
-     * 3. 필터만: 조건 필터링
-     * 4. 조건 없음: 전체 조회
-     */
-    if (hasSearchKeyword(searchRequest) && hasFilters(searchRequest)) {
-      products = productRepository.searchProducts(searchRequest, pageable);
-    } else if (hasSearchKeyword(searchRequest)) {
-      products = productRepository.searchByKeyword(searchRequest.getKeyword(), pageable);
-    } else if (hasFilters(searchRequest)) {
-      products = productRepository.searchByFilters(searchRequest, pageable);
+  /**
+   * 상품 목록 조회 (검색 결과 캐시 미적중 시)
+   */
+  private Page<ProductListResponse> loadProducts(ProductSearchRequest searchRequest,
+      Pageable pageable) {
+    // 검색어나 가격 범위가 있으면 인메모리 인덱스로 ID 를 구한 뒤 현재 페이지만 조회
+    if (canSearchFromIndex(searchRequest)) {
+      return searchFromIndex(searchRequest, pageable);
+    }
+
+    // 그 외 조건 (필터만 있거나 조건 없음) 은 단일 검색 쿼리로 조회
+    return productRepository.search(searchRequest, pageable);
+  }
+
+  /**
+   * 인메모리 역색인 기반 상품 검색
+   * - 정렬까지 인덱스에서 처리하고, DB 는 현재 페이지의 ID 만 조회
+   */
+  private Page<ProductListResponse> searchFromIndex(ProductSearchRequest searchRequest,
+      Pageable pageable) {
+    List<Long> productIds = productSearchIndex.search(searchRequest);
+    if (productIds.isEmpty()) {
+      ProductSearchRequest corrected = correctKeyword(searchRequest);
+      if (corrected != null) {
+        productIds = productSearchIndex.search(corrected);
+      }
+    }
+
+    int from = (int) Math.min(pageable.getOffset(), productIds.size());
+    int to = Math.min(from + pageable.getPageSize(), productIds.size());
+
+    List<ProductListResponse> content = productRepository.findListResponsesByIdInOrder(
+        productIds.subList(from, to));
+
+    return new PageImpl<>(content, pageable, productIds.size());
+  }
+
+  /**
+   * 상품 목록 조회 (총 개수 없이 다음 페이지 여부만 반환)
+   * - count 쿼리를 생략하여 페이지 이동 비용 절감
+   */
+  public Slice<ProductListResponse> getProductSlice(ProductSearchRequest searchRequest) {
+    log.info("상품 목록 Slice 조회: 검색어={}, 상태={}, 정렬={}",
+        searchRequest.getKeyword(), searchRequest.getStatus(), searchRequest.getSortBy());
+
+    int page = searchRequest.getPage() != null ? searchRequest.getPage() : 0;
+    int size = searchRequest.getSize() != null ? searchRequest.getSize() : 20;
+    Pageable pageable = PageRequest.of(page, size);
+    validatePriceRange(searchRequest);
+
+    if (canSearchFromIndex(searchRequest)) {
+      return searchFromIndex(searchRequest, pageable);
+    }
+
+    return productRepository.searchProductSlice(searchRequest, pageable);
+  }
+
+  /**
+   * 상품 목록 조회 (커서 기반 무한 스크롤)
+   * - OFFSET 대신 마지막 상품의 (정렬값, ID) 이후를 조회하여 깊은 페이지도 일정한 비용
+   * - 관리자 화면 등 페이지 번호가 필요한 경우는 getProducts 사용
+   */
+  public CursorPageResponse<ProductListResponse> getProductsByCursor(
+      ProductSearchRequest searchRequest, String cursor) {
+    log.info("상품 목록 커서 조회: 검색어={}, 정렬={}, 커서={}",
+        searchRequest.getKeyword(), searchRequest.getSortBy(), cursor);
+
+    int size = searchRequest.getSize() != null ? searchRequest.getSize() : 20;
+    ProductSortType sortType = ProductSortType.from(searchRequest.getSortBy());
+    if (sortType == ProductSortType.RELEVANCE) {
+      throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+          "관련도순 정렬은 커서 조회를 지원하지 않습니다.");
+    }
+    ProductCursor after = StringUtils.hasText(cursor) ? ProductCursor.decode(cursor, sortType) : null;
+    validatePriceRange(searchRequest);
+
+    // 다음 페이지 존재 여부 확인을 위해 size + 1 개 조회
+    List<ProductListResponse> products;
+    boolean hasNext;
+    if (canSearchFromIndex(searchRequest)) {
+      List<Long> productIds = productSearchIndex.searchAfter(searchRequest, after, size + 1);
+      if (productIds.isEmpty()) {
+        ProductSearchRequest corrected = correctKeyword(searchRequest);
+        if (corrected != null) {
+          productIds = productSearchIndex.searchAfter(corrected, after, size + 1);
+        }
+      }
+      hasNext = productIds.size() > size;
+      products = productRepository.findListResponsesByIdInOrder(
+          productIds.subList(0, Math.min(size, productIds.size())));
     } else {
-      products = productRepository.findAllExcludingStatus(ProductStatus.INACTIVE, pageable);
+      products = productRepository.searchProductsAfter(searchRequest, after, size + 1);
+      hasNext = products.size() > size;
+      if (hasNext) {
+        products = products.subList(0, size);
+      }
+    }
+
+    String nextCursor = hasNext && !products.isEmpty()
+        ? ProductCursor.of(sortType, products.get(products.size() - 1)).encode()
+        : null;
+
+    return CursorPageResponse.<ProductListResponse>builder()
+        .content(products)
+        .size(size)
+        .hasNext(hasNext)
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  /**
+   * 상품 패싯 조회 (브랜드, 컨디션, 상태, 카테고리별 상품 수)
+   * - 인메모리 비트맵 인덱스로 계산 (GROUP BY 쿼리 없음)
+   * - 각 패싯의 개수는 해당 패싯을 제외한 나머지 조건 기준
+   */
+  public ProductFacetResponse getProductFacets(ProductSearchRequest searchRequest) {
+    validatePriceRange(searchRequest);
+
+    // 키워드와 가격 범위는 각 인덱스 결과 ID 로 대상을 제한
+    List<Long> keywordMatches = hasSearchKeyword(searchRequest) || hasPriceRange(searchRequest)
+        ? productSearchIndex.search(ProductSearchRequest.builder()
+            .keyword(searchRequest.getKeyword())
+            .minPrice(searchRequest.getMinPrice())
+            .maxPrice(searchRequest.getMaxPrice())
+            .build())
+        : null;
+
+    FacetResult result = productFacetIndex.facets(searchRequest, keywordMatches);
+
+    return ProductFacetResponse.builder()
+        .totalCount(result.getTotalCount())
+        .brands(toFacetCounts(result.getBrandCounts(), brand -> brand))
+        .conditions(toFacetCounts(result.getConditionCounts(), Condition::name))
+        .statuses(toFacetCounts(result.getStatusCounts(), ProductStatus::name))
+        .categories(toFacetCounts(result.getCategoryCounts(), categoryId -> {
+          CategoryNode node = productCategoryTree.getNode(categoryId);
+          return node != null ? node.getName() : null;
+        }))
+        .build();
+  }
+
+  /**
+   * 상품 가격 히스토그램 조회 (가격 범위 슬라이더용)
+   * - 가격 범위를 제외한 나머지 검색 조건을 적용한 상품의 가격 분포
+   * - 인메모리 정렬 가격 인덱스에서 계산
+   */
+  public PriceHistogramResponse getPriceHistogram(ProductSearchRequest searchRequest,
+      int bucketCount) {
+    validatePriceRange(searchRequest);
+
+    Set<Long> candidates = hasSearchKeyword(searchRequest) || hasFilters(searchRequest)
+        ? new HashSet<>(productSearchIndex.search(ProductSearchRequest.builder()
+            .keyword(searchRequest.getKeyword())
+            .status(searchRequest.getStatus())
+            .categoryId(searchRequest.getCategoryId())
+            .brand(searchRequest.getBrand())
+            .condition(searchRequest.getCondition())
+            .build()))
+        : null;
+
+    int buckets = Math.max(1, Math.min(bucketCount, MAX_PRICE_HISTOGRAM_BUCKETS));
+    PriceHistogram histogram = productPriceIndex.histogram(
+        searchRequest.getMinPrice(), searchRequest.getMaxPrice(), buckets, candidates);
+
+    List<PriceBucketResponse> bucketResponses = new ArrayList<>(histogram.getCounts().length);
+    for (int i = 0; i < histogram.getCounts().length; i++) {
+      BigDecimal from = histogram.getMinPrice()
+          .add(histogram.getBucketWidth().multiply(BigDecimal.valueOf(i)));
+      bucketResponses.add(PriceBucketResponse.builder()
+          .from(from)
+          .to(from.add(histogram.getBucketWidth()))
+          .count(histogram.getCounts()[i])
+          .build());
     }
 
-    return products.map(this::convertToProductListResponse);
+    return PriceHistogramResponse.builder()
+        .minPrice(histogram.getMinPrice())
+        .maxPrice(histogram.getMaxPrice())
+        .totalCount(histogram.getTotalCount())
+        .buckets(bucketResponses)
+        .build();
+  }
+
+  /**
+   * 검색어 자동완성 (상품명, 브랜드, 카테고리명 접두어 검색)
+   * - 인메모리 압축 트라이에서 인기도(조회수) 상위 N 개 조회
+   */
+  public List<SuggestionResponse> suggest(String query, int limit) {
+    return productSuggestIndex.suggest(query, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)))
+        .stream()
+        .map(suggestion -> SuggestionResponse.builder()
+            .text(suggestion.getText())
+            .type(suggestion.getType().name())
+            .weight(suggestion.getWeight())
+            .build())
+        .collect(Collectors.toList());
   }
 
   /**
    * 상품 상세 조회
+   * - 상세 응답은 2단계 캐시(L1 메모리, L2 Redis)에서 조회
+   * - 조회수는 메모리에 누적 후 주기적으로 일괄 반영 (읽기 전용 트랜잭션으로 처리)
+   * - 캐시된 조회수는 사용하지 않고 DB 값 + 반영 대기분으로 덮어씀
    */
-  @Transactional
   public ProductResponse getProductDetail(Long productId) {
     log.info("상품 상세 조회: ID={}", productId);
 
-    Product product = productRepository.findByIdExcludingInactive(productId)
-        .orElseThrow(
-            () -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다: " + productId));
-
-    /*
-     * 조회수 증가 처리
-     * - 실패 시에도 상품 조회는 정상적으로 진행
-     * - 에러 로깅으로 모니터링 가능
-     */
-    try {
-      productRepository.incrementViews(productId);
-      log.debug("조회수 증가 완료: ID={}", productId);
-    } catch (Exception e) {
-      log.warn("조회수 증가 실패: ID={}, 오류={}", productId, e.getMessage());
+    ProductResponse response = productDetailCache.get(productId,
+        () -> productRepository.findByIdExcludingInactive(productId)
+            .map(this::convertToProductResponse)
+            .orElse(null));
+    if (response == null) {
+      throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다: " + productId);
     }
 
-    return convertToProductResponse(product);
+    productViewCountAggregator.increment(productId);
+
+    long views = productRepository.findViewsById(productId).orElse(0)
+        + productViewCountAggregator.getPendingViews(productId);
+    return response.toBuilder().views((int) views).build();
   }
 
   /**
-   * 인기 상품 목록 조회 (조회수 기준)
+   * 인기 상품 목록 조회 (조회수 기준, 최대 100개)
+   * - 인메모리 랭킹에서 조회 (랭킹 구성 전에는 DB 조회)
    */
   public List<ProductListResponse> getPopularProducts(int limit) {
-    Pageable pageable = PageRequest.of(0, limit);
-    List<Product> products = productRepository.findTopByViewsExcludingInactive(pageable);
-    return products.stream()
+    int size = Math.max(1, Math.min(limit, MAX_POPULAR_PRODUCTS));
+    if (popularProductRanking.isReady()) {
+      return popularProductRanking.getTop(size).stream()
+          .map(this::convertToProductListResponse)
+          .collect(Collectors.toList());
+    }
+    return productRepository.findPopularListResponses(size);
+  }
+
+  /**
+   * 트렌딩 상품 목록 조회 (최근 조회/장바구니/구매 기반 시간 감쇠 점수)
+   */
+  public List<ProductListResponse> getTrendingProducts(int limit) {
+    int size = Math.max(1, Math.min(limit, MAX_TRENDING_PRODUCTS));
+    return trendingProductEngine.getTop(size).stream()
         .map(this::convertToProductListResponse)
         .collect(Collectors.toList());
   }
@@ -258,10 +501,19 @@ public class ProductService {
    * 최신 상품 목록 조회
    */
   public List<ProductListResponse> getLatestProducts(int limit) {
-    Pageable pageable = PageRequest.of(0, limit);
-    List<Product> products = productRepository.findLatestProductsExcludingInactive(pageable);
-    return products.stream()
-        .map(this::convertToProductListResponse)
+    return productRepository.findLatestListResponses(limit);
+  }
+
+  /**
+   * 상품 일괄 조회 (장바구니/찜/최근 본 상품 목록용)
+   * - 목록 컬럼만 IN 쿼리 한 번으로 조회 (썸네일은 thumbnail_url 컬럼), 요청 순서 유지
+   * - 중복 ID 는 한 번만, 존재하지 않거나 INACTIVE 인 상품은 제외
+   * - 상세 조회가 아니므로 조회수는 증가시키지 않음
+   */
+  public List<ProductListResponse> getProductsByIds(List<Long> productIds) {
+    List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(productIds));
+    return productRepository.findListResponsesByIdInOrder(distinctIds).stream()
+        .filter(product -> product.getProductStatus() != ProductStatus.INACTIVE)
         .collect(Collectors.toList());
   }
 
@@ -325,24 +577,14 @@ public class ProductService {
    * 카테고리 조회 및 검증
    */
   private Set<ProductCategory> validateAndGetCategories(Set<Long> categoryIds) {
-    if (categoryIds == null || categoryIds.isEmpty()) {
-      return new HashSet<>();
-    }
-
-    Set<ProductCategory> categories = new HashSet<>();
-    for (Long categoryId : categoryIds) {
-      ProductCategory category = productCategoryRepository.findById(categoryId)
-          .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND,
-              "존재하지 않는 카테고리입니다: " + categoryId));
-      categories.add(category);
-    }
-    return categories;
+    return productCategoryResolver.resolve(categoryIds);
   }
 
+
   /**
-   * 상품 이미지 검증
+   * 상품 이미지 검증 (일괄 등록 행 검증에서도 사용)
    */
-  private void validateProductImages(List<ProductImageRequest> images) {
+  static void validateProductImages(List<ProductImageRequest> images) {
     if (images == null) {
       return;
     }
@@ -374,6 +616,49 @@ public class ProductService {
     }
   }
 
+  /**
+   * 상품 이미지 동기화 (기존 이미지와 URL 기준 비교)
+   * - 요청에 없는 이미지는 삭제, 새 URL 은 추가, 남은 이미지는 정렬 순서/썸네일이 바뀐 경우만 수정
+   * - 컬렉션 변경으로 처리하여 flush 시 INSERT/UPDATE/DELETE 가 각각 JDBC 배치로 실행
+   * - 목록 조회용 대표 이미지 URL 은 바뀐 경우에만 갱신
+   */
+  private void reconcileImages(Product product, List<ProductImageRequest> imageRequests) {
+    List<ProductImage> images = product.getProductImages();
+
+    Map<String, ProductImage> existing = new HashMap<>();
+    List<ProductImage> removed = new ArrayList<>();
+    for (ProductImage image : images) {
+      if (existing.putIfAbsent(image.getImageUrl(), image) != null) {
+        removed.add(image); // 같은 URL 의 중복 행 정리
+      }
+    }
+
+    // 요청 순서대로 유지/추가할 이미지 (대표 이미지 계산 기준)
+    List<ProductImage> ordered = new ArrayList<>(imageRequests.size());
+    List<ProductImage> added = new ArrayList<>();
+    int updatedCount = 0;
+    for (ProductImageRequest imageRequest : imageRequests) {
+      ProductImage image = existing.remove(imageRequest.getImageUrl());
+      if (image == null) {
+        image = createProductImages(product, List.of(imageRequest)).get(0);
+        added.add(image);
+      } else if (image.updateDisplay(
+          imageRequest.getSortOrder() != null ? imageRequest.getSortOrder() : 0,
+          imageRequest.isThumbnail())) {
+        updatedCount++;
+      }
+      ordered.add(image);
+    }
+    removed.addAll(existing.values());
+
+    images.removeAll(removed);
+    images.addAll(added);
+    boolean thumbnailChanged = product.refreshThumbnailUrl(ordered);
+
+    log.info("상품 이미지 동기화: ID={}, 추가={}, 삭제={}, 수정={}, 대표 이미지 변경={}",
+        product.getId(), added.size(), removed.size(), updatedCount, thumbnailChanged);
+  }
+
   /**
    * 상품 이미지 생성
    */
@@ -389,6 +674,13 @@ public class ProductService {
         .collect(Collectors.toList());
   }
 
+  /**
+   * 상품 변경 이벤트 발행 (커밋 후 인메모리 인덱스 갱신)
+   */
+  private void publishProductChanged(Product product) {
+    eventPublisher.publishEvent(new ProductChangedEvent(ProductDocument.from(product)));
+  }
+
   private boolean hasSearchKeyword(ProductSearchRequest request) {
     return request.getKeyword() != null && !request.getKeyword().trim().isEmpty();
   }
@@ -398,7 +690,46 @@ public class ProductService {
         request.getCategoryId() != null ||
         request.getBrand() != null ||
         request.getCondition() != null ||
-        request.getSortBy() != null;
+        request.getSortBy() != null ||
+        hasPriceRange(request);
+  }
+
+  private boolean hasPriceRange(ProductSearchRequest request) {
+    return request.getMinPrice() != null || request.getMaxPrice() != null;
+  }
+
+  /**
+   * 결과가 없는 검색어의 오타 보정 (브랜드/상품명 단어 사전 기준, 보정할 단어가 없으면 null)
+   */
+  private ProductSearchRequest correctKeyword(ProductSearchRequest request) {
+    if (!hasSearchKeyword(request)) {
+      return null;
+    }
+    String corrected = productFuzzyIndex.correctKeyword(request.getKeyword());
+    if (corrected == null) {
+      return null;
+    }
+    log.info("검색어 오타 보정: {} -> {}", request.getKeyword(), corrected);
+    return request.toBuilder().keyword(corrected).build();
+  }
+
+  /**
+   * 인메모리 인덱스 검색 가능 여부 (검색어 또는 가격 범위 조건이 있고 인덱스 구성 완료)
+   */
+  private boolean canSearchFromIndex(ProductSearchRequest request) {
+    return (hasSearchKeyword(request) || hasPriceRange(request)) && productSearchIndex.isReady();
+  }
+
+  /**
+   * 가격 범위 검증 (음수 또는 최소 가격 > 최대 가격)
+   */
+  private void validatePriceRange(ProductSearchRequest request) {
+    BigDecimal minPrice = request.getMinPrice();
+    BigDecimal maxPrice = request.getMaxPrice();
+    if ((minPrice != null && minPrice.signum() < 0) || (maxPrice != null && maxPrice.signum() < 0)
+        || (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0)) {
+      throw new CustomException(ErrorCode.PRODUCT_INVALID_PRICE, "가격 범위가 올바르지 않습니다.");
+    }
   }
 
   private ProductResponse convertToProductResponse(Product product) {
@@ -427,16 +758,10 @@ public class ProductService {
         .build();
   }
 
+  /**
+   * 목록 응답 변환 - 대표 이미지는 thumbnail_url 컬럼을 사용 (이미지 컬렉션 지연 로딩 방지)
+   */
   private ProductListResponse convertToProductListResponse(Product product) {
-    String thumbnailImage = product.getProductImages().stream()
-        .filter(ProductImage::isThumbnail)
-        .findFirst()
-        .map(ProductImage::getImageUrl)
-        .orElse(product.getProductImages().stream()
-            .findFirst()
-            .map(ProductImage::getImageUrl)
-            .orElse(null));
-
     return ProductListResponse.builder()
         .id(product.getId())
         .name(product.getName())
@@ -445,11 +770,41 @@ public class ProductService {
         .brand(product.getBrand())
         .condition(product.getCondition())
         .views(product.getViews())
-        .thumbnailImage(thumbnailImage)
+        .thumbnailImage(product.getThumbnailUrl())
         .createdAt(product.getCreatedAt())
         .build();
   }
 
+  private ProductListResponse convertToProductListResponse(ProductDocument document) {
+    return ProductListResponse.builder()
+        .id(document.getId())
+        .name(document.getName())
+        .price(document.getPrice())
+        .productStatus(document.getProductStatus())
+        .brand(document.getBrand())
+        .condition(document.getCondition())
+        .views(document.getViews())
+        .thumbnailImage(document.getThumbnailUrl())
+        .createdAt(document.getCreatedAt())
+        .build();
+  }
+
+  /**
+   * 패싯 개수 변환 (개수 내림차순, 같으면 값 순)
+   */
+  private <K> List<FacetCountResponse> toFacetCounts(Map<K, Integer> counts,
+      Function<K, String> labeler) {
+    return counts.entrySet().stream()
+        .map(entry -> FacetCountResponse.builder()
+            .value(String.valueOf(entry.getKey()))
+            .label(labeler.apply(entry.getKey()))
+            .count(entry.getValue())
+            .build())
+        .sorted(Comparator.comparingInt(FacetCountResponse::getCount).reversed()
+            .thenComparing(FacetCountResponse::getValue))
+        .collect(Collectors.toList());
+  }
+
   private ProductCategoryResponse convertToCategoryResponse(ProductCategory category) {
     return ProductCategoryResponse.builder()
         .id(category.getId())
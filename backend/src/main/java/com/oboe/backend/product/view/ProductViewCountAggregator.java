@@ -0,0 +1,197 @@
+package com.oboe.backend.product.view;
+
+import com.oboe.backend.product.event.ProductViewsFlushedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 조회수 Write-Behind 집계기
+ * - 상세 조회 시 DB 를 갱신하지 않고 상품별 LongAdder 에 누적 (인기 상품 행 잠금 경합 방지)
+ * - 주기적으로 누적분을 UPDATE ... CASE 한 문장으로 일괄 반영
+ * - 애플리케이션 종료 시 남은 누적분 반영
+ */
+@Component
+@Slf4j
+public class ProductViewCountAggregator {
+
+  private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+  private final JdbcTemplate jdbcTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final int flushBatchSize;
+  private final Counter flushedCounter;
+  private final Counter flushFailureCounter;
+
+  public ProductViewCountAggregator(JdbcTemplate jdbcTemplate,
+      ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+      @Value("${product.views.flush-batch-size:500}") int flushBatchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.eventPublisher = eventPublisher;
+    this.flushBatchSize = flushBatchSize;
+
+    Gauge.builder("product.views.pending.delta", this, ProductViewCountAggregator::getPendingDelta)
+        .description("DB 에 반영 대기 중인 조회수 합계")
+        .register(meterRegistry);
+    Gauge.builder("product.views.pending.products", this,
+            ProductViewCountAggregator::getPendingProductCount)
+        .description("조회수 반영 대기 중인 상품 수")
+        .register(meterRegistry);
+    this.flushedCounter = Counter.builder("product.views.flushed")
+        .description("DB 에 반영된 조회수 합계")
+        .register(meterRegistry);
+    this.flushFailureCounter = Counter.builder("product.views.flush.failures")
+        .description("조회수 반영 실패 횟수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 조회수 1 증가 (메모리 누적)
+   */
+  public void increment(Long productId) {
+    LongAdder adder = pendingViews.computeIfAbsent(productId, id -> new LongAdder());
+    adder.increment();
+
+    // flush 가 빈 항목으로 보고 방금 제거한 LongAdder 였다면 증가분을 새 항목으로 옮김
+    if (pendingViews.get(productId) != adder) {
+      long moved = adder.sumThenReset();
+      if (moved > 0) {
+        pendingViews.computeIfAbsent(productId, id -> new LongAdder()).add(moved);
+      }
+    }
+  }
+
+  /**
+   * 누적된 조회수를 DB 에 일괄 반영
+   * - 실패한 배치는 다음 주기에 다시 반영되도록 누적분 복원
+   * - 반영된 증가분은 ProductViewsFlushedEvent 로 발행 (인기 랭킹 갱신)
+   */
+  @Scheduled(fixedDelayString = "${product.views.flush-interval-ms:5000}")
+  public synchronized void flush() {
+    List<long[]> deltas = drain();
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    Map<Long, Long> flushed = new HashMap<>();
+    for (int from = 0; from < deltas.size(); from += flushBatchSize) {
+      List<long[]> batch = deltas.subList(from, Math.min(from + flushBatchSize, deltas.size()));
+      try {
+        jdbcTemplate.update(buildUpdateSql(batch.size()), buildArguments(batch));
+        flushedCounter.increment(batch.stream().mapToLong(delta -> delta[1]).sum());
+        batch.forEach(delta -> flushed.put(delta[0], delta[1]));
+      } catch (Exception e) {
+        log.warn("조회수 반영 실패: 상품 {}건, 오류={}", batch.size(), e.getMessage());
+        flushFailureCounter.increment();
+        restore(batch);
+      }
+    }
+
+    if (!flushed.isEmpty()) {
+      eventPublisher.publishEvent(new ProductViewsFlushedEvent(flushed));
+    }
+    log.debug("조회수 반영 완료: 상품 {}건", flushed.size());
+  }
+
+  /**
+   * 애플리케이션 종료 시 남은 조회수 반영
+   */
+  @PreDestroy
+  public void flushOnShutdown() {
+    log.info("종료 전 조회수 반영: 대기 상품 {}건", getPendingProductCount());
+    flush();
+  }
+
+  /**
+   * DB 반영 대기 중인 조회수 합계
+   */
+  public long getPendingDelta() {
+    return pendingViews.values().stream().mapToLong(LongAdder::sum).sum();
+  }
+
+  /**
+   * 상품의 DB 반영 대기 중인 조회수
+   */
+  public long getPendingViews(Long productId) {
+    LongAdder adder = pendingViews.get(productId);
+    return adder != null ? adder.sum() : 0;
+  }
+
+  /**
+   * 조회수 반영 대기 중인 상품 수
+   */
+  public long getPendingProductCount() {
+    return pendingViews.values().stream().filter(adder -> adder.sum() > 0).count();
+  }
+
+  /**
+   * 집계 맵에 남아 있는 상품 수 (빈 항목 포함)
+   */
+  int getTrackedProductCount() {
+    return pendingViews.size();
+  }
+
+  // ===== Private Helper Methods =====
+
+  /**
+   * 상품별 누적분을 [상품 ID, 증가량] 목록으로 꺼내고 0 으로 초기화
+   * - 직전 주기 이후 증가가 없는 항목은 맵에서 제거 (조회된 적 있는 상품 수만큼 맵이 커지는 것 방지)
+   * - 조회가 이어지는 상품의 LongAdder 는 재사용, 제거와 겹친 증가분은 increment 에서 옮겨 담음
+   */
+  private List<long[]> drain() {
+    List<long[]> deltas = new ArrayList<>();
+    pendingViews.forEach((productId, adder) -> {
+      long delta = adder.sumThenReset();
+      if (delta > 0) {
+        deltas.add(new long[]{productId, delta});
+      } else {
+        pendingViews.remove(productId, adder);
+      }
+    });
+    return deltas;
+  }
+
+  private void restore(List<long[]> batch) {
+    for (long[] delta : batch) {
+      pendingViews.computeIfAbsent(delta[0], id -> new LongAdder()).add(delta[1]);
+    }
+  }
+
+  /**
+   * UPDATE products SET views = views + CASE id WHEN ? THEN ? ... END WHERE id IN (?, ...)
+   */
+  private String buildUpdateSql(int size) {
+    StringBuilder sql = new StringBuilder("UPDATE products SET views = COALESCE(views, 0) + CASE id");
+    sql.append(String.join("", Collections.nCopies(size, " WHEN ? THEN ?")));
+    sql.append(" ELSE 0 END WHERE id IN (");
+    sql.append(String.join(", ", Collections.nCopies(size, "?")));
+    sql.append(")");
+    return sql.toString();
+  }
+
+  private Object[] buildArguments(List<long[]> batch) {
+    Object[] arguments = new Object[batch.size() * 3];
+    int index = 0;
+    for (long[] delta : batch) {
+      arguments[index++] = delta[0];
+      arguments[index++] = delta[1];
+    }
+    for (long[] delta : batch) {
+      arguments[index++] = delta[0];
+    }
+    return arguments;
+  }
+}
@@ -0,0 +1,14 @@
+-- 상품 목록 조회용 대표 이미지 URL 비정규화 컬럼
+-- (운영 환경은 ddl-auto: validate 이므로 배포 전 수동 적용)
+
+ALTER TABLE products ADD COLUMN thumbnail_url VARCHAR(512) NULL;
+
+-- 기존 데이터 채우기: 썸네일 이미지, 없으면 첫 번째 이미지
+UPDATE products p
+SET p.thumbnail_url = COALESCE(
+    (SELECT pi.image_url FROM product_images pi
+     WHERE pi.product_id = p.id AND pi.thumbnail = 1
+     ORDER BY pi.id LIMIT 1),
+    (SELECT pi.image_url FROM product_images pi
+     WHERE pi.product_id = p.id
+     ORDER BY pi.id LIMIT 1));
@@ -0,0 +1,29 @@
+-- 테이블 기반 pooled ID 생성기 전환 (IdGenerators, 엔티티별 행)
+-- (운영 환경은 ddl-auto: validate 이므로 배포 전 수동 적용, 모든 인스턴스를 내린 상태에서 실행)
+-- 기존 AUTO_INCREMENT 속성은 그대로 두어도 됨 (ID 를 직접 지정해 INSERT 하므로 사용되지 않음)
+
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+-- 시작 값: 기존 최대 ID + 할당 크기(50) + 1
+-- pooled 방식은 읽은 값 기준 (값 - 할당 크기, 값] 구간을 블록으로 발급하므로 기존 ID 와 겹치지 않음
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'products', COALESCE(MAX(id), 0) + 51 FROM products;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'product_images', COALESCE(MAX(id), 0) + 51 FROM product_images;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'cart_items', COALESCE(MAX(id), 0) + 51 FROM cart_items;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'order_items', COALESCE(MAX(id), 0) + 51 FROM order_items;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'order_status_history', COALESCE(MAX(id), 0) + 51 FROM order_status_history;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'messages', COALESCE(MAX(id), 0) + 51 FROM messages;
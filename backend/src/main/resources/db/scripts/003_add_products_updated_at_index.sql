@@ -0,0 +1,4 @@
+-- 상품 변경 피드 조회용 (updated_at, id) 인덱스
+-- (운영 환경은 ddl-auto: validate 이므로 배포 전 수동 적용)
+
+CREATE INDEX idx_products_updated_at_id ON products (updated_at, id);
@@ -24,6 +24,7 @@ import com.oboe.backend.common.service.TokenProcessor;
 import com.oboe.backend.product.entity.Condition;
 import com.oboe.backend.product.entity.Product;
 import com.oboe.backend.product.entity.ProductStatus;
+import com.oboe.backend.product.event.ProductAddedToCartEvent;
 import com.oboe.backend.product.repository.ProductRepository;
 import com.oboe.backend.user.entity.SocialProvider;
 import com.oboe.backend.user.entity.User;
@@ -39,9 +40,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CartService 테스트")
@@ -62,6 +65,9 @@ class CartServiceTest {
   @Mock
   private TokenProcessor tokenProcessor;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private CartService cartService;
 
@@ -253,6 +259,10 @@ class CartServiceTest {
       assertThat(result.getQuantity()).isEqualTo(3);
       then(cartItemRepository).should().save(any(CartItem.class));
       then(cartRepository).should().save(any(Cart.class));
+      ArgumentCaptor<ProductAddedToCartEvent> eventCaptor =
+          ArgumentCaptor.forClass(ProductAddedToCartEvent.class);
+      then(eventPublisher).should().publishEvent(eventCaptor.capture());
+      assertThat(eventCaptor.getValue().getProductId()).isEqualTo(1L);
     }
 
     @Test
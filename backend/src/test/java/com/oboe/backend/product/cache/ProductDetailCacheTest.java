@@ -0,0 +1,233 @@
+package com.oboe.backend.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oboe.backend.product.dto.response.ProductImageResponse;
+import com.oboe.backend.product.dto.response.ProductResponse;
+import com.oboe.backend.product.entity.Condition;
+import com.oboe.backend.product.entity.ProductStatus;
+import com.oboe.backend.product.event.ProductCategoryChangedEvent;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductDetailCache 테스트")
+class ProductDetailCacheTest {
+
+  @Mock
+  private RedisTemplate<String, Object> redisTemplate;
+
+  @Mock
+  private ValueOperations<String, Object> valueOperations;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  private ProductDetailCache productDetailCache;
+  private ProductResponse response;
+  private AtomicInteger loadCount;
+
+  @BeforeEach
+  void setUp() {
+    productDetailCache = new ProductDetailCache(redisTemplate, objectMapper, 100, 60, 600, 5,
+        true, true);
+    response = ProductResponse.builder()
+        .id(1L)
+        .name("빈티지 데님 자켓")
+        .price(new BigDecimal("89000"))
+        .productStatus(ProductStatus.ACTIVE)
+        .condition(Condition.GOOD)
+        .categories(Set.of())
+        .images(List.of(ProductImageResponse.builder()
+            .id(10L)
+            .imageUrl("https://example.com/1.jpg")
+            .sortOrder(0)
+            .thumbnail(true)
+            .build()))
+        .createdAt(LocalDateTime.of(2024, 5, 1, 12, 0))
+        .build();
+    loadCount = new AtomicInteger();
+  }
+
+  @Test
+  @DisplayName("L1, L2 모두 없으면 DB 조회 후 L1/L2 저장")
+  void get_Miss_LoadsAndStores() {
+    // given
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+    // when
+    ProductResponse first = productDetailCache.get(1L, this::load);
+    ProductResponse second = productDetailCache.get(1L, this::load);
+
+    // then
+    assertThat(first).isSameAs(response);
+    assertThat(second).isSameAs(response);
+    assertThat(loadCount.get()).isEqualTo(1);
+    verify(valueOperations).setIfAbsent(anyString(), anyString(), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("L2 적중 시 JSON 역직렬화 결과 반환")
+  void get_RedisHit_Deserializes() throws Exception {
+    // given
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(valueOperations.get("product:detail:0:1"))
+        .willReturn(objectMapper.writeValueAsString(response));
+
+    // when
+    ProductResponse result = productDetailCache.get(1L, this::load);
+
+    // then
+    assertThat(loadCount.get()).isZero();
+    assertThat(result.getName()).isEqualTo("빈티지 데님 자켓");
+    assertThat(result.getImages()).hasSize(1);
+    assertThat(result.getImages().get(0).isThumbnail()).isTrue();
+    assertThat(result.getCreatedAt()).isEqualTo(response.getCreatedAt());
+  }
+
+  @Test
+  @DisplayName("Redis 장애 시 DB 조회로 동작")
+  void get_RedisFailure_FallsBackToLoader() {
+    // given
+    given(redisTemplate.opsForValue()).willThrow(new RedisConnectionFailureException("연결 실패"));
+
+    // when
+    ProductResponse result = productDetailCache.get(1L, this::load);
+
+    // then
+    assertThat(result).isSameAs(response);
+    assertThat(loadCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("상품 변경 시 L1/L2 삭제 및 무효화 메시지 발행")
+  void evict_Success() {
+    // given
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    productDetailCache.get(1L, this::load);
+
+    // when
+    productDetailCache.evict(1L);
+    productDetailCache.get(1L, this::load);
+
+    // then
+    assertThat(loadCount.get()).isEqualTo(2);
+    verify(valueOperations).set("product:detail:0:1", ProductDetailCache.TOMBSTONE,
+        Duration.ofSeconds(5));
+    verify(redisTemplate).convertAndSend(ProductDetailCache.INVALIDATION_CHANNEL, "1");
+  }
+
+  @Test
+  @DisplayName("DB 조회 중 무효화되면 조회 결과를 L1/L2 에 저장하지 않음")
+  void get_EvictedDuringLoad_SkipsStore() {
+    // given
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+    // when
+    productDetailCache.get(1L, () -> {
+      productDetailCache.evict(1L);
+      return load();
+    });
+    productDetailCache.get(1L, this::load);
+
+    // then
+    assertThat(loadCount.get()).isEqualTo(2);
+    verify(valueOperations, times(1)).setIfAbsent(anyString(), anyString(), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("L2 톰스톤은 캐시 미스로 처리")
+  void get_Tombstone_TreatedAsMiss() {
+    // given
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(valueOperations.get("product:detail:0:1")).willReturn(ProductDetailCache.TOMBSTONE);
+
+    // when
+    ProductResponse result = productDetailCache.get(1L, this::load);
+
+    // then
+    assertThat(result).isSameAs(response);
+    assertThat(loadCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스의 무효화 메시지 수신 시 L1 제거")
+  void onMessage_EvictsLocalCache() {
+    // given
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    productDetailCache.get(1L, this::load);
+
+    // when
+    productDetailCache.onMessage(new DefaultMessage(
+        ProductDetailCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+        "1".getBytes(StandardCharsets.UTF_8)), null);
+    productDetailCache.get(1L, this::load);
+
+    // then
+    assertThat(loadCount.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("카테고리 변경 시 L2 키 버전을 올리고 전체 무효화 메시지 발행")
+  void onCategoryChanged_EvictsAll() {
+    // given
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(valueOperations.get("product:detail:version")).willReturn(null, "1");
+    productDetailCache.get(1L, this::load);
+
+    // when
+    productDetailCache.onCategoryChanged(new ProductCategoryChangedEvent(10L));
+    productDetailCache.get(1L, this::load);
+
+    // then
+    assertThat(loadCount.get()).isEqualTo(2);
+    verify(valueOperations).increment("product:detail:version");
+    verify(valueOperations).setIfAbsent(eq("product:detail:1:1"), anyString(),
+        any(Duration.class));
+    verify(redisTemplate).convertAndSend(ProductDetailCache.INVALIDATION_CHANNEL,
+        ProductDetailCache.INVALIDATE_ALL);
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스의 전체 무효화 메시지 수신 시 L1 전체 제거")
+  void onMessage_InvalidateAll_ClearsLocalCache() {
+    // given
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    productDetailCache.get(1L, this::load);
+
+    // when
+    productDetailCache.onMessage(new DefaultMessage(
+        ProductDetailCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+        ProductDetailCache.INVALIDATE_ALL.getBytes(StandardCharsets.UTF_8)), null);
+    productDetailCache.get(1L, this::load);
+
+    // then
+    assertThat(loadCount.get()).isEqualTo(2);
+  }
+
+  private ProductResponse load() {
+    loadCount.incrementAndGet();
+    return response;
+  }
+}
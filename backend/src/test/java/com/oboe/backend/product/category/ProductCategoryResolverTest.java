@@ -0,0 +1,98 @@
+package com.oboe.backend.product.category;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+
+import com.oboe.backend.common.exception.CustomException;
+import com.oboe.backend.product.entity.ProductCategory;
+import com.oboe.backend.product.event.ProductCategoryChangedEvent;
+import com.oboe.backend.product.repository.ProductCategoryRepository;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCategoryResolver 테스트")
+class ProductCategoryResolverTest {
+
+  @Mock
+  private ProductCategoryRepository productCategoryRepository;
+
+  @InjectMocks
+  private ProductCategoryResolver productCategoryResolver;
+
+  @Test
+  @DisplayName("전체 카테고리를 한 번만 읽고 이후 조회는 맵에서 처리")
+  void resolve_UsesCachedMap() {
+    // given
+    given(productCategoryRepository.findAll())
+        .willReturn(List.of(category(1L, "상의"), category(2L, "하의")));
+
+    // when
+    Set<ProductCategory> first = productCategoryResolver.resolve(Set.of(1L, 2L));
+    Set<ProductCategory> second = productCategoryResolver.resolve(Set.of(2L));
+
+    // then
+    assertThat(first).extracting(ProductCategory::getId).containsExactlyInAnyOrder(1L, 2L);
+    assertThat(second).extracting(ProductCategory::getName).containsExactly("하의");
+    verify(productCategoryRepository, times(1)).findAll();
+    verify(productCategoryRepository, never()).findAllById(any());
+  }
+
+  @Test
+  @DisplayName("맵에 없는 ID 는 한 번에 조회하고 없는 ID 는 모아서 예외")
+  void resolve_MissingIds_ReportsAllAtOnce() {
+    // given
+    given(productCategoryRepository.findAll()).willReturn(List.of(category(1L, "상의")));
+    given(productCategoryRepository.findAllById(new TreeSet<>(Set.of(3L, 7L, 9L))))
+        .willReturn(List.of(category(3L, "신발")));
+
+    // when & then
+    assertThatThrownBy(() -> productCategoryResolver.resolve(Set.of(1L, 3L, 7L, 9L)))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining("존재하지 않는 카테고리입니다: 7, 9");
+
+    // 새로 조회된 카테고리는 맵에 추가
+    assertThat(productCategoryResolver.resolve(Set.of(3L)))
+        .extracting(ProductCategory::getName).containsExactly("신발");
+    verify(productCategoryRepository, times(1)).findAllById(any());
+  }
+
+  @Test
+  @DisplayName("카테고리 변경 후에는 다시 읽음")
+  void onCategoryChanged_ReloadsMap() {
+    // given
+    given(productCategoryRepository.findAll())
+        .willReturn(List.of(category(1L, "상의")))
+        .willReturn(List.of(category(1L, "아우터")));
+    productCategoryResolver.resolve(Set.of(1L));
+
+    // when
+    productCategoryResolver.onCategoryChanged(new ProductCategoryChangedEvent(1L));
+
+    // then
+    assertThat(productCategoryResolver.resolve(Set.of(1L)))
+        .extracting(ProductCategory::getName).containsExactly("아우터");
+    verify(productCategoryRepository, times(2)).findAll();
+  }
+
+  private ProductCategory category(Long id, String name) {
+    return ProductCategory.builder()
+        .id(id)
+        .name(name)
+        .level(1)
+        .sortOrder(1)
+        .build();
+  }
+}
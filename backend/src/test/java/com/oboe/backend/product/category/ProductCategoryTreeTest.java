@@ -0,0 +1,81 @@
+package com.oboe.backend.product.category;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oboe.backend.product.entity.ProductCategory;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProductCategoryTree 테스트")
+class ProductCategoryTreeTest {
+
+  private ProductCategoryTree productCategoryTree;
+
+  @BeforeEach
+  void setUp() {
+    /*
+     * 1. 상의
+     *  ├── 11. 셔츠
+     *  │   └── 111. 드레스셔츠
+     *  └── 12. 티셔츠
+     * 2. 하의
+     */
+    ProductCategory top = category(1L, "상의", null, 1, 1);
+    ProductCategory bottom = category(2L, "하의", null, 1, 2);
+    ProductCategory shirts = category(11L, "셔츠", top, 2, 1);
+    ProductCategory tShirts = category(12L, "티셔츠", top, 2, 2);
+    ProductCategory dressShirts = category(111L, "드레스셔츠", shirts, 3, 1);
+
+    productCategoryTree = new ProductCategoryTree(null);
+    productCategoryTree.rebuild(List.of(dressShirts, tShirts, bottom, shirts, top));
+  }
+
+  @Test
+  @DisplayName("하위 카테고리 ID 는 자신과 모든 후손 포함")
+  void getSubtreeIds_Success() {
+    assertThat(productCategoryTree.getSubtreeIds(1L)).containsExactlyInAnyOrder(1L, 11L, 12L, 111L);
+    assertThat(productCategoryTree.getSubtreeIds(11L)).containsExactlyInAnyOrder(11L, 111L);
+    assertThat(productCategoryTree.getSubtreeIds(111L)).containsExactly(111L);
+  }
+
+  @Test
+  @DisplayName("트리에 없는 카테고리는 자신만 필터")
+  void getSubtreeIds_UnknownCategory_ReturnsSelf() {
+    assertThat(productCategoryTree.getSubtreeIds(999L)).containsExactly(999L);
+  }
+
+  @Test
+  @DisplayName("브레드크럼은 루트부터 자신까지")
+  void getBreadcrumbs_Success() {
+    // when
+    List<String> names = productCategoryTree.getBreadcrumbs(111L).stream()
+        .map(CategoryNode::getName)
+        .toList();
+
+    // then
+    assertThat(names).containsExactly("상의", "셔츠", "드레스셔츠");
+    assertThat(productCategoryTree.getBreadcrumbs(999L)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("메뉴용 루트/자식 목록은 정렬 순서 유지")
+  void getRootsAndChildren_SortedBySortOrder() {
+    assertThat(productCategoryTree.getRoots()).extracting(CategoryNode::getId)
+        .containsExactly(1L, 2L);
+    assertThat(productCategoryTree.getChildren(1L)).extracting(CategoryNode::getId)
+        .containsExactly(11L, 12L);
+  }
+
+  private ProductCategory category(Long id, String name, ProductCategory parent, int level,
+      int sortOrder) {
+    return ProductCategory.builder()
+        .id(id)
+        .name(name)
+        .parent(parent)
+        .level(level)
+        .sortOrder(sortOrder)
+        .build();
+  }
+}
@@ -16,6 +16,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oboe.backend.product.dto.request.ProductBatchRequest;
 import com.oboe.backend.product.dto.request.ProductCreateRequest;
 import com.oboe.backend.product.dto.request.ProductSearchRequest;
 import com.oboe.backend.product.dto.request.ProductUpdateRequest;
@@ -23,6 +24,9 @@ import com.oboe.backend.product.dto.response.ProductListResponse;
 import com.oboe.backend.product.dto.response.ProductResponse;
 import com.oboe.backend.product.entity.Condition;
 import com.oboe.backend.product.entity.ProductStatus;
+import com.oboe.backend.product.service.ProductChangeFeedService;
+import com.oboe.backend.product.service.ProductExportService;
+import com.oboe.backend.product.service.ProductImportService;
 import com.oboe.backend.product.service.ProductService;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -53,6 +57,15 @@ class ProductControllerTest {
   @MockBean
   private ProductService productService;
 
+  @MockBean
+  private ProductImportService productImportService;
+
+  @MockBean
+  private ProductExportService productExportService;
+
+  @MockBean
+  private ProductChangeFeedService productChangeFeedService;
+
 
   private ProductCreateRequest createRequest;
   private ProductUpdateRequest updateRequest;
@@ -285,6 +298,25 @@ class ProductControllerTest {
     verify(productService).getPopularProducts(10);
   }
 
+  @Test
+  @WithMockUser
+  @DisplayName("트렌딩 상품 조회 API 테스트")
+  void getTrendingProducts() throws Exception {
+    // given
+    List<ProductListResponse> products = List.of(listResponse);
+    given(productService.getTrendingProducts(10)).willReturn(products);
+
+    // when & then
+    mockMvc.perform(get("/api/products/trending")
+            .param("limit", "10"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(true))
+        .andExpect(jsonPath("$.data").isArray())
+        .andExpect(jsonPath("$.data[0].id").value(1L));
+
+    verify(productService).getTrendingProducts(10);
+  }
+
   @Test
   @WithMockUser
   @DisplayName("최신 상품 조회 API 테스트")
@@ -304,4 +336,39 @@ class ProductControllerTest {
     verify(productService).getLatestProducts(10);
   }
 
+  @Test
+  @WithMockUser
+  @DisplayName("상품 일괄 조회 API 테스트")
+  void getProductsByIds() throws Exception {
+    // given
+    given(productService.getProductsByIds(List.of(1L, 2L))).willReturn(List.of(listResponse));
+
+    // when & then
+    mockMvc.perform(post("/api/products/batch")
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(ProductBatchRequest.builder()
+                .productIds(List.of(1L, 2L))
+                .build())))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(true))
+        .andExpect(jsonPath("$.data[0].id").value(1L));
+
+    verify(productService).getProductsByIds(List.of(1L, 2L));
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("상품 일괄 조회 API 테스트 - ID 목록이 비면 400")
+  void getProductsByIds_EmptyIds_BadRequest() throws Exception {
+    // when & then
+    mockMvc.perform(post("/api/products/batch")
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"productIds\":[]}"))
+        .andExpect(status().isBadRequest());
+
+    verify(productService, never()).getProductsByIds(any());
+  }
+
 }
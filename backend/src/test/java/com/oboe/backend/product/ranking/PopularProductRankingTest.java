@@ -0,0 +1,113 @@
+package com.oboe.backend.product.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.oboe.backend.product.entity.ProductStatus;
+import com.oboe.backend.product.event.ProductViewsFlushedEvent;
+import com.oboe.backend.product.repository.ProductRepository;
+import com.oboe.backend.product.search.ProductDocument;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PopularProductRanking 테스트")
+class PopularProductRankingTest {
+
+  @Mock
+  private ProductRepository productRepository;
+
+  private PopularProductRanking popularProductRanking;
+
+  @BeforeEach
+  void setUp() {
+    popularProductRanking = new PopularProductRanking(productRepository);
+    popularProductRanking.rebuild(List.of(
+        document(1L, ProductStatus.ACTIVE, 10),
+        document(2L, ProductStatus.ACTIVE, 30),
+        document(3L, ProductStatus.TRADING, 20),
+        document(4L, ProductStatus.SOLD_OUT, 100),
+        document(5L, ProductStatus.INACTIVE, 200)
+    ));
+  }
+
+  @Test
+  @DisplayName("조회수 내림차순 랭킹 - INACTIVE, SOLD_OUT 제외")
+  void getTop_Success() {
+    // when
+    List<Long> result = topIds(10);
+
+    // then
+    assertThat(popularProductRanking.isReady()).isTrue();
+    assertThat(result).containsExactly(2L, 3L, 1L);
+    assertThat(topIds(2)).containsExactly(2L, 3L);
+    assertThat(topIds(0)).isEmpty();
+    assertThat(topIds(-1)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("조회수 반영 이벤트로 순위 갱신")
+  void onViewsFlushed_UpdatesRanking() {
+    // when
+    popularProductRanking.onViewsFlushed(new ProductViewsFlushedEvent(Map.of(1L, 25L, 4L, 5L)));
+
+    // then
+    assertThat(topIds(10)).containsExactly(1L, 2L, 3L);
+    assertThat(popularProductRanking.getTop(1).get(0).getViews()).isEqualTo(35);
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스가 반영한 조회수를 DB 에서 다시 읽어 순위 맞춤 (로컬 값이 더 크면 유지)")
+  void resync_AppliesDatabaseViews() {
+    // given - 1번은 다른 인스턴스에서 조회수 증가, 2번은 DB 조회 후 로컬 반영분이 더 큼
+    given(productRepository.findTopListableViews(100))
+        .willReturn(Map.of(1L, 50, 2L, 25, 3L, 20));
+
+    // when
+    popularProductRanking.resync();
+
+    // then
+    assertThat(topIds(10)).containsExactly(1L, 2L, 3L);
+    assertThat(popularProductRanking.getTop(3)).extracting(ProductDocument::getViews)
+        .containsExactly(50, 30, 20);
+  }
+
+  @Test
+  @DisplayName("판매완료 전환 시 랭킹에서 제외, 재판매 시 복귀")
+  void index_StatusChange_Success() {
+    // when
+    popularProductRanking.index(document(2L, ProductStatus.SOLD_OUT, 30));
+
+    // then
+    assertThat(topIds(10)).containsExactly(3L, 1L);
+
+    // when
+    popularProductRanking.index(document(4L, ProductStatus.ACTIVE, 100));
+
+    // then
+    assertThat(topIds(10)).containsExactly(4L, 3L, 1L);
+  }
+
+  private List<Long> topIds(int limit) {
+    return popularProductRanking.getTop(limit).stream().map(ProductDocument::getId).toList();
+  }
+
+  private ProductDocument document(Long id, ProductStatus status, int views) {
+    return ProductDocument.builder()
+        .id(id)
+        .name("상품" + id)
+        .productStatus(status)
+        .categoryIds(Set.of())
+        .views(views)
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+}
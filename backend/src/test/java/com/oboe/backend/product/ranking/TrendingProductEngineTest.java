@@ -0,0 +1,132 @@
+package com.oboe.backend.product.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oboe.backend.product.entity.ProductStatus;
+import com.oboe.backend.product.event.ProductAddedToCartEvent;
+import com.oboe.backend.product.event.ProductViewsFlushedEvent;
+import com.oboe.backend.product.search.ProductDocument;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TrendingProductEngine 테스트")
+class TrendingProductEngineTest {
+
+  private static final long HALF_LIFE_MINUTES = 60;
+  private static final long ONE_HOUR = 60 * 60 * 1000L;
+
+  private TrendingProductEngine trendingProductEngine;
+  private long now;
+
+  @BeforeEach
+  void setUp() {
+    trendingProductEngine = new TrendingProductEngine(HALF_LIFE_MINUTES, 100);
+    trendingProductEngine.rebuild(List.of(
+        document(1L, ProductStatus.ACTIVE),
+        document(2L, ProductStatus.ACTIVE),
+        document(3L, ProductStatus.ACTIVE),
+        document(4L, ProductStatus.SOLD_OUT)
+    ));
+    now = System.currentTimeMillis();
+  }
+
+  @Test
+  @DisplayName("신호 가중치 합산 후 순위 반영 - SOLD_OUT 제외")
+  void merge_WeightedSignals_Success() {
+    // given
+    trendingProductEngine.onViewsFlushed(new ProductViewsFlushedEvent(Map.of(1L, 3L, 4L, 50L)));
+    trendingProductEngine.onProductAddedToCart(new ProductAddedToCartEvent(2L));
+    trendingProductEngine.record(3L, TrendSignal.PURCHASE);
+
+    // when
+    trendingProductEngine.merge(now);
+
+    // then
+    assertThat(topIds(10)).containsExactly(3L, 2L, 1L);
+    assertThat(topIds(2)).containsExactly(3L, 2L);
+    assertThat(topIds(0)).isEmpty();
+    assertThat(topIds(-1)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("합산 전 신호는 조회 결과에 반영되지 않음")
+  void getTop_BeforeMerge_ReturnsPreviousSnapshot() {
+    // when
+    trendingProductEngine.record(1L, TrendSignal.VIEW);
+
+    // then
+    assertThat(topIds(10)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("오래된 신호는 반감기에 따라 감쇠되어 최근 신호에 밀림")
+  void merge_Decay_RecentSignalsRankHigher() {
+    // given - 1번 상품: 3시간 전 조회 7회
+    trendingProductEngine.record(1L, TrendSignal.VIEW, 7);
+    trendingProductEngine.merge(now - 3 * ONE_HOUR);
+
+    // when - 2번 상품: 현재 조회 1회 (1번 상품 점수는 7 / 2^3 = 0.875)
+    trendingProductEngine.record(2L, TrendSignal.VIEW);
+    trendingProductEngine.merge(now);
+
+    // then
+    assertThat(topIds(10)).containsExactly(2L, 1L);
+  }
+
+  @Test
+  @DisplayName("판매완료 전환 시 순위에서 즉시 제외")
+  void index_SoldOut_RemovedFromSnapshot() {
+    // given
+    trendingProductEngine.record(1L, TrendSignal.CART_ADD);
+    trendingProductEngine.record(2L, TrendSignal.VIEW);
+    trendingProductEngine.merge(now);
+
+    // when
+    trendingProductEngine.index(document(1L, ProductStatus.SOLD_OUT));
+
+    // then
+    assertThat(topIds(10)).containsExactly(2L);
+  }
+
+  @Test
+  @DisplayName("상품 수정/삭제는 문서만 교체하고 조회 시 바로 반영, 점수는 다음 합산에서 정리")
+  void indexAndRemove_WithoutResort() {
+    // given
+    trendingProductEngine.record(1L, TrendSignal.VIEW, 3);
+    trendingProductEngine.record(2L, TrendSignal.VIEW);
+    trendingProductEngine.merge(now);
+
+    // when
+    trendingProductEngine.index(
+        document(2L, ProductStatus.ACTIVE).toBuilder().name("수정된 상품").build());
+    trendingProductEngine.remove(1L);
+
+    // then
+    assertThat(trendingProductEngine.getTop(10)).extracting(ProductDocument::getName)
+        .containsExactly("수정된 상품");
+
+    // 삭제된 상품의 점수는 합산 시 제거되어 다시 색인되어도 남지 않음
+    trendingProductEngine.index(document(1L, ProductStatus.ACTIVE));
+    trendingProductEngine.merge(now);
+    assertThat(topIds(10)).containsExactly(2L);
+  }
+
+  private List<Long> topIds(int limit) {
+    return trendingProductEngine.getTop(limit).stream().map(ProductDocument::getId).toList();
+  }
+
+  private ProductDocument document(Long id, ProductStatus status) {
+    return ProductDocument.builder()
+        .id(id)
+        .name("상품" + id)
+        .productStatus(status)
+        .categoryIds(Set.of())
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+}
@@ -3,13 +3,26 @@ package com.oboe.backend.product.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.oboe.backend.config.JpaConfig;
+import com.oboe.backend.config.ProductSearchConfig;
+import com.oboe.backend.config.QueryDslConfig;
+import com.oboe.backend.product.cache.ProductCountCache;
+import com.oboe.backend.product.category.ProductCategoryTree;
+import com.oboe.backend.product.dto.request.ProductChangeToken;
+import com.oboe.backend.product.dto.request.ProductSearchRequest;
+import com.oboe.backend.product.dto.response.ProductChange;
+import com.oboe.backend.product.dto.response.ProductChangeType;
+import com.oboe.backend.product.dto.response.ProductExportRow;
+import com.oboe.backend.product.dto.response.ProductListResponse;
 import com.oboe.backend.product.entity.Condition;
 import com.oboe.backend.product.entity.Product;
 import com.oboe.backend.product.entity.ProductCategory;
 import com.oboe.backend.product.entity.ProductStatus;
+import com.oboe.backend.product.search.ProductFuzzyIndex;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,7 +38,8 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(JpaConfig.class)
+@Import({JpaConfig.class, QueryDslConfig.class, ProductCountCache.class, ProductCategoryTree.class,
+    ProductSearchConfig.class, ProductFuzzyIndex.class, ProductSearchCompiler.class})
 @DisplayName("ProductRepository 테스트")
 class ProductRepositoryTest {
 
@@ -273,6 +287,28 @@ class ProductRepositoryTest {
     assertThat(result.get(0).getName()).isEqualTo("인기 상품");
   }
 
+  @Test
+  @DisplayName("조회수 Top N 상품의 조회수 - INACTIVE, SOLD_OUT 제외, 조회수 내림차순")
+  void findTopListableViews() {
+    // given
+    Product soldOutProduct = Product.builder()
+        .name("판매완료 상품")
+        .description("판매완료 상품 설명")
+        .price(new BigDecimal("30000"))
+        .stockQuantity(0)
+        .productStatus(ProductStatus.SOLD_OUT)
+        .views(100)
+        .build();
+    productRepository.save(soldOutProduct);
+    entityManager.flush();
+
+    // when
+    Map<Long, Integer> result = productRepository.findTopListableViews(10);
+
+    // then
+    assertThat(result).containsExactly(Map.entry(activeProduct.getId(), 5));
+  }
+
   @Test
   @DisplayName("최신 상품 조회")
   void findLatestProductsExcludingInactive() {
@@ -323,4 +359,132 @@ class ProductRepositoryTest {
     // 빈 키워드로도 검색 가능 (모든 상품이 빈 문자열을 포함)
     assertThat(result.getContent()).hasSize(1);
   }
+
+  @Test
+  @DisplayName("통합 검색 - 키워드 + 컨디션 + 카테고리 (INACTIVE 제외)")
+  void search_WithKeywordAndFilters() {
+    // given
+    ProductSearchRequest searchRequest = ProductSearchRequest.builder()
+        .keyword("상품")
+        .condition("EXCELLENT")
+        .categoryId(category.getId())
+        .build();
+
+    // when
+    Page<ProductListResponse> result = productRepository.search(searchRequest, PageRequest.of(0, 10));
+
+    // then
+    assertThat(result.getTotalElements()).isEqualTo(1);
+    assertThat(result.getContent().get(0).getName()).isEqualTo("활성 상품");
+  }
+
+  @Test
+  @DisplayName("통합 검색 - 조건 없으면 INACTIVE 제외 전체 조회")
+  void search_WithoutConditions() {
+    // when
+    Page<ProductListResponse> result = productRepository.search(
+        ProductSearchRequest.builder().build(), PageRequest.of(0, 10));
+
+    // then
+    assertThat(result.getContent()).extracting(ProductListResponse::getName)
+        .containsExactly("활성 상품");
+  }
+
+  @Test
+  @DisplayName("통합 검색 - 존재하지 않는 컨디션/INACTIVE 상태 필터는 결과 없음")
+  void search_UnsatisfiableConditions() {
+    // when
+    Page<ProductListResponse> unknownCondition = productRepository.search(
+        ProductSearchRequest.builder().condition("MINT").build(), PageRequest.of(0, 10));
+    Page<ProductListResponse> inactiveStatus = productRepository.search(
+        ProductSearchRequest.builder().status(ProductStatus.INACTIVE).build(),
+        PageRequest.of(0, 10));
+
+    // then
+    assertThat(unknownCondition.getContent()).isEmpty();
+    assertThat(inactiveStatus.getContent()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("ID 목록 순서대로 목록 응답 조회 - INACTIVE 제외")
+  void findListResponsesByIdInOrder() {
+    // when
+    List<ProductListResponse> result = productRepository.findListResponsesByIdInOrder(
+        List.of(inactiveProduct.getId(), activeProduct.getId()));
+
+    // then
+    assertThat(result).extracting(ProductListResponse::getId)
+        .containsExactly(activeProduct.getId());
+  }
+
+  @Test
+  @DisplayName("내보내기 스크롤 - INACTIVE 제외 전체 행을 프로젝션으로 순회")
+  void scrollExportRows() {
+    // given
+    List<ProductExportRow> rows = new ArrayList<>();
+
+    // when
+    long count = productRepository.scrollExportRows(1, rows::add);
+
+    // then
+    assertThat(count).isEqualTo(1);
+    assertThat(rows).extracting(ProductExportRow::getName).containsExactly("활성 상품");
+    assertThat(rows.get(0).getCondition()).isEqualTo(Condition.EXCELLENT);
+    assertThat(rows.get(0).getCreatedAt()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("변경 피드 - (수정 시각, ID) 순 조회, INACTIVE 는 톰스톤, 토큰 이후만 조회")
+  void findChangesAfter() {
+    // given
+    LocalDateTime until = LocalDateTime.now().plusMinutes(1);
+
+    // when
+    List<ProductChange> all = productRepository.findChangesAfter(null, until, 10);
+    ProductChange first = all.get(0);
+    List<ProductChange> afterFirst = productRepository.findChangesAfter(
+        ProductChangeToken.of(first.getChangedAt(), first.getProductId()), until, 10);
+
+    // then
+    assertThat(all).extracting(ProductChange::getProductId)
+        .containsExactlyInAnyOrder(activeProduct.getId(), inactiveProduct.getId());
+    ProductChange deleted = all.stream()
+        .filter(change -> change.getProductId().equals(inactiveProduct.getId()))
+        .findFirst()
+        .orElseThrow();
+    assertThat(deleted.getType()).isEqualTo(ProductChangeType.DELETED);
+    assertThat(deleted.getProduct()).isNull();
+
+    assertThat(afterFirst).extracting(ProductChange::getProductId)
+        .containsExactly(all.get(1).getProductId());
+    assertThat(productRepository.findChangesAfter(null, LocalDateTime.now().minusDays(1), 10))
+        .isEmpty();
+  }
+
+  @Test
+  @DisplayName("변경 피드 - 토큰 위치 이후 등록된 상품은 CREATED, 이전에 등록된 상품의 수정은 UPDATED")
+  void findChangesAfter_ChangeType() {
+    // given
+    LocalDateTime createdAt = productRepository.findById(activeProduct.getId()).orElseThrow()
+        .getCreatedAt();
+    entityManager.getEntityManager()
+        .createQuery("UPDATE Product p SET p.updatedAt = :updatedAt WHERE p.id = :id")
+        .setParameter("updatedAt", createdAt.plusSeconds(30))
+        .setParameter("id", activeProduct.getId())
+        .executeUpdate();
+    LocalDateTime until = createdAt.plusMinutes(1);
+
+    // when
+    List<ProductChange> fromStart = productRepository.findChangesAfter(null, until, 10);
+    List<ProductChange> afterCreation = productRepository.findChangesAfter(
+        ProductChangeToken.of(createdAt.plusSeconds(1), 0L), until, 10);
+
+    // then
+    assertThat(fromStart)
+        .filteredOn(change -> change.getProductId().equals(activeProduct.getId()))
+        .extracting(ProductChange::getType)
+        .containsExactly(ProductChangeType.CREATED);
+    assertThat(afterCreation).extracting(ProductChange::getType)
+        .containsExactly(ProductChangeType.UPDATED);
+  }
 }
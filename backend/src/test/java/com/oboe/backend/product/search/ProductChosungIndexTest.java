@@ -0,0 +1,66 @@
+package com.oboe.backend.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oboe.backend.product.entity.ProductStatus;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProductChosungIndex 테스트")
+class ProductChosungIndexTest {
+
+  private ProductChosungIndex productChosungIndex;
+
+  @BeforeEach
+  void setUp() {
+    productChosungIndex = new ProductChosungIndex();
+    productChosungIndex.rebuild(List.of(
+        document(1L, "리바이스 501 빈티지 데님", "Levi's", ProductStatus.ACTIVE),
+        document(2L, "빈티지 옥스포드 셔츠", "폴로", ProductStatus.SOLD_OUT),
+        document(3L, "리바이스 트러커", "Levi's", ProductStatus.INACTIVE)
+    ));
+  }
+
+  @Test
+  @DisplayName("초성 분해와 초성 검색어 판별")
+  void hangulChosung_Success() {
+    assertThat(HangulChosung.extract("리바이스 501")).isEqualTo("ㄹㅂㅇㅅ 501");
+    assertThat(HangulChosung.extract("Polo 까")).isEqualTo("polo ㄲ");
+    assertThat(HangulChosung.isChosungQuery("ㄹㅂ ㅇㅅ")).isTrue();
+    assertThat(HangulChosung.isChosungQuery("ㄹ바")).isFalse();
+    assertThat(HangulChosung.isChosungQuery("  ")).isFalse();
+  }
+
+  @Test
+  @DisplayName("상품명/브랜드 초성 검색 - 띄어쓰기 무시, INACTIVE 제외")
+  void search_Success() {
+    assertThat(productChosungIndex.search("ㄹㅂㅇㅅ")).containsExactly(1L);
+    assertThat(productChosungIndex.search("ㅂㅌ ㅈ")).containsExactlyInAnyOrder(1L, 2L);
+    assertThat(productChosungIndex.search("ㅍㄹ")).containsExactly(2L);
+    assertThat(productChosungIndex.search("ㅅ")).containsExactlyInAnyOrder(1L, 2L);
+    assertThat(productChosungIndex.search("ㅎㅎ")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("상품 수정/삭제 시 증분 갱신")
+  void index_AndRemove_Success() {
+    // when
+    productChosungIndex.index(document(2L, "데님 셔츠", "폴로", ProductStatus.ACTIVE));
+    productChosungIndex.remove(1L);
+
+    // then
+    assertThat(productChosungIndex.search("ㄷㄴ")).containsExactly(2L);
+    assertThat(productChosungIndex.search("ㅂㅌㅈ")).isEmpty();
+  }
+
+  private ProductDocument document(Long id, String name, String brand, ProductStatus status) {
+    return ProductDocument.builder()
+        .id(id)
+        .name(name)
+        .brand(brand)
+        .productStatus(status)
+        .build();
+  }
+}
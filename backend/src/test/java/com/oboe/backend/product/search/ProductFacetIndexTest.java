@@ -0,0 +1,148 @@
+package com.oboe.backend.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oboe.backend.config.ProductSearchConfig;
+import com.oboe.backend.product.category.ProductCategoryTree;
+import com.oboe.backend.product.dto.request.ProductSearchRequest;
+import com.oboe.backend.product.entity.Condition;
+import com.oboe.backend.product.entity.ProductCategory;
+import com.oboe.backend.product.entity.ProductStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProductFacetIndex 테스트")
+class ProductFacetIndexTest {
+
+  private ProductFacetIndex productFacetIndex;
+
+  @BeforeEach
+  void setUp() {
+    // 상의(10) > 셔츠(11)
+    ProductCategory top = ProductCategory.builder().id(10L).name("상의").build();
+    ProductCategory shirts = ProductCategory.builder().id(11L).name("셔츠").parent(top).build();
+    ProductCategoryTree productCategoryTree = new ProductCategoryTree(null);
+    productCategoryTree.rebuild(List.of(top, shirts));
+
+    List<ProductDocument> documents = List.of(
+        document(1L, "Levi's", Condition.GOOD, ProductStatus.ACTIVE, 10L),
+        document(2L, "Levi's", Condition.EXCELLENT, ProductStatus.SOLD_OUT, 11L),
+        document(3L, "Polo", Condition.GOOD, ProductStatus.ACTIVE, 11L),
+        document(4L, "Polo", Condition.GOOD, ProductStatus.INACTIVE, 11L)
+    );
+    ProductFuzzyIndex productFuzzyIndex = new ProductFuzzyIndex(new ProductSearchConfig());
+    productFuzzyIndex.rebuild(documents);
+
+    productFacetIndex = new ProductFacetIndex(productCategoryTree, productFuzzyIndex);
+    productFacetIndex.rebuild(documents);
+  }
+
+  @Test
+  @DisplayName("필터 없이 전체 패싯 개수 - INACTIVE 제외")
+  void facets_NoFilter_Success() {
+    // when
+    FacetResult result = productFacetIndex.facets(ProductSearchRequest.builder().build(), null);
+
+    // then
+    assertThat(result.getTotalCount()).isEqualTo(3);
+    assertThat(result.getBrandCounts()).containsEntry("Levi's", 2).containsEntry("Polo", 1);
+    assertThat(result.getConditionCounts()).containsEntry(Condition.GOOD, 2)
+        .containsEntry(Condition.EXCELLENT, 1);
+    assertThat(result.getStatusCounts()).containsEntry(ProductStatus.ACTIVE, 2)
+        .doesNotContainKey(ProductStatus.INACTIVE);
+    assertThat(result.getCategoryCounts()).containsEntry(10L, 3).containsEntry(11L, 2);
+  }
+
+  @Test
+  @DisplayName("직접 연결된 상품이 없는 상위 카테고리도 하위 카테고리 포함 개수 집계")
+  void facets_ParentWithoutDirectProducts_Success() {
+    // given - 상의(10) 에 직접 연결된 유일한 상품 제거
+    productFacetIndex.remove(1L);
+
+    // when
+    FacetResult result = productFacetIndex.facets(ProductSearchRequest.builder().build(), null);
+
+    // then
+    assertThat(result.getCategoryCounts()).containsEntry(10L, 2).containsEntry(11L, 2);
+  }
+
+  @Test
+  @DisplayName("선택한 패싯은 자신을 제외한 필터 기준으로 개수 계산")
+  void facets_WithFilters_Success() {
+    // when
+    FacetResult result = productFacetIndex.facets(ProductSearchRequest.builder()
+        .brand("Levi's")
+        .condition("GOOD")
+        .build(), null);
+
+    // then
+    assertThat(result.getTotalCount()).isEqualTo(1);
+    assertThat(result.getBrandCounts()).containsEntry("Levi's", 1).containsEntry("Polo", 1);
+    assertThat(result.getConditionCounts()).containsEntry(Condition.GOOD, 1)
+        .containsEntry(Condition.EXCELLENT, 1);
+    assertThat(result.getStatusCounts()).containsOnlyKeys(ProductStatus.ACTIVE);
+  }
+
+  @Test
+  @DisplayName("카테고리 필터는 하위 카테고리 포함, 키워드 결과와 교집합")
+  void facets_CategoryAndKeyword_Success() {
+    // when
+    FacetResult byCategory = productFacetIndex.facets(
+        ProductSearchRequest.builder().categoryId(10L).build(), null);
+    FacetResult withKeyword = productFacetIndex.facets(
+        ProductSearchRequest.builder().categoryId(11L).build(), List.of(1L, 3L));
+
+    // then
+    assertThat(byCategory.getTotalCount()).isEqualTo(3);
+    assertThat(withKeyword.getTotalCount()).isEqualTo(1);
+    assertThat(withKeyword.getBrandCounts()).containsOnlyKeys("Polo");
+  }
+
+  @Test
+  @DisplayName("브랜드는 앞뒤 공백을 제거한 표기로 집계")
+  void facets_BrandWithSurroundingSpaces_Success() {
+    // given
+    productFacetIndex.index(document(5L, "Levi's ", Condition.GOOD, ProductStatus.ACTIVE, 11L));
+
+    // when
+    FacetResult result = productFacetIndex.facets(
+        ProductSearchRequest.builder().brand("Levi's").build(), null);
+
+    // then
+    assertThat(result.getTotalCount()).isEqualTo(3);
+    assertThat(result.getBrandCounts()).containsEntry("Levi's", 3).doesNotContainKey("Levi's ");
+  }
+
+  @Test
+  @DisplayName("상품 수정/삭제 시 증분 갱신")
+  void index_AndRemove_Success() {
+    // when
+    productFacetIndex.index(document(3L, "Lee", Condition.FAIR, ProductStatus.ACTIVE, 11L));
+    productFacetIndex.remove(1L);
+    productFacetIndex.index(document(5L, "Lee", Condition.NEW, ProductStatus.ACTIVE, 10L));
+
+    // then
+    FacetResult result = productFacetIndex.facets(ProductSearchRequest.builder().build(), null);
+    assertThat(result.getTotalCount()).isEqualTo(3);
+    assertThat(result.getBrandCounts()).containsEntry("Lee", 2).containsEntry("Levi's", 1)
+        .doesNotContainKey("Polo");
+    assertThat(result.getConditionCounts()).doesNotContainKey(Condition.GOOD);
+  }
+
+  private ProductDocument document(Long id, String brand, Condition condition,
+      ProductStatus status, Long categoryId) {
+    return ProductDocument.builder()
+        .id(id)
+        .name("상품" + id)
+        .brand(brand)
+        .condition(condition)
+        .productStatus(status)
+        .categoryIds(Set.of(categoryId))
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+}
@@ -0,0 +1,102 @@
+package com.oboe.backend.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oboe.backend.config.ProductSearchConfig;
+import com.oboe.backend.product.entity.ProductStatus;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProductFuzzyIndex 테스트")
+class ProductFuzzyIndexTest {
+
+  private ProductFuzzyIndex productFuzzyIndex;
+
+  @BeforeEach
+  void setUp() {
+    ProductSearchConfig productSearchConfig = new ProductSearchConfig();
+    productSearchConfig.setBrandAliases(Map.of("리바이스", "Levi's"));
+
+    productFuzzyIndex = new ProductFuzzyIndex(productSearchConfig);
+    productFuzzyIndex.rebuild(List.of(
+        document(1L, "501 빈티지 데님", "Levi's", ProductStatus.ACTIVE),
+        document(2L, "트러커 자켓", "levis", ProductStatus.ACTIVE),
+        document(3L, "옥스포드 셔츠", "Polo Ralph Lauren", ProductStatus.ACTIVE),
+        document(4L, "비활성 상품", "Carhartt", ProductStatus.INACTIVE)
+    ));
+  }
+
+  @Test
+  @DisplayName("편집 거리 계산")
+  void distance_Success() {
+    assertThat(BkTree.distance("levis", "levis")).isZero();
+    assertThat(BkTree.distance("levis", "leviss")).isEqualTo(1);
+    assertThat(BkTree.distance("kitten", "sitting")).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("브랜드 표기 통일 - 대소문자/특수문자 무시, 별칭, 오타")
+  void brandVariants_Success() {
+    assertThat(productFuzzyIndex.brandVariants("LEVI'S"))
+        .containsExactlyInAnyOrder("LEVI'S", "Levi's", "levis");
+    assertThat(productFuzzyIndex.brandVariants("리바이스"))
+        .containsExactlyInAnyOrder("리바이스", "Levi's", "levis");
+    assertThat(productFuzzyIndex.brandVariants("Levvis"))
+        .containsExactlyInAnyOrder("Levvis", "Levi's", "levis");
+    assertThat(productFuzzyIndex.brandVariants("polo ralph loren"))
+        .containsExactlyInAnyOrder("polo ralph loren", "Polo Ralph Lauren");
+  }
+
+  @Test
+  @DisplayName("찾지 못한 브랜드는 입력값 그대로 (INACTIVE 상품 브랜드 제외)")
+  void brandVariants_NotFound_ReturnsInput() {
+    assertThat(productFuzzyIndex.brandVariants("Carhartt")).containsExactly("Carhartt");
+    assertThat(productFuzzyIndex.brandVariants("Lee")).containsExactly("Lee");
+  }
+
+  @Test
+  @DisplayName("사전에 없는 단어만 가장 가까운 단어로 보정")
+  void correctKeyword_Success() {
+    assertThat(productFuzzyIndex.correctKeyword("빈티지 트러커 쟈켓")).isNull();
+    assertThat(productFuzzyIndex.correctKeyword("옥스퍼드 셔츠")).isEqualTo("옥스포드 셔츠");
+    assertThat(productFuzzyIndex.correctKeyword("levvis")).isEqualTo("levis");
+    assertThat(productFuzzyIndex.correctKeyword("ㄹㅂㅇㅅ")).isNull();
+  }
+
+  @Test
+  @DisplayName("상품 삭제 시 더 이상 쓰이지 않는 브랜드와 단어 제외")
+  void remove_Success() {
+    // when
+    productFuzzyIndex.remove(3L);
+
+    // then
+    assertThat(productFuzzyIndex.brandVariants("Polo Ralph Lauren"))
+        .containsExactly("Polo Ralph Lauren");
+    assertThat(productFuzzyIndex.correctKeyword("옥스퍼드")).isNull();
+  }
+
+  @Test
+  @DisplayName("수정으로 쓰이지 않게 된 단어가 쌓이면 단어 트리 재구성")
+  void index_ManyEdits_CompactsWordTree() {
+    // when - 같은 상품의 이름을 계속 바꿔 사용되지 않는 단어를 누적
+    for (int i = 0; i < 3000; i++) {
+      productFuzzyIndex.index(document(1L, "item" + i, "Levi's", ProductStatus.ACTIVE));
+    }
+
+    // then
+    assertThat(productFuzzyIndex.getWordTreeSize()).isLessThanOrEqualTo(1000);
+    assertThat(productFuzzyIndex.correctKeyword("itm2999")).isEqualTo("item2999");
+  }
+
+  private ProductDocument document(Long id, String name, String brand, ProductStatus status) {
+    return ProductDocument.builder()
+        .id(id)
+        .name(name)
+        .brand(brand)
+        .productStatus(status)
+        .build();
+  }
+}
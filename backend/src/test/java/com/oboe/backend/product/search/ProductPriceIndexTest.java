@@ -0,0 +1,96 @@
+package com.oboe.backend.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oboe.backend.product.entity.ProductStatus;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProductPriceIndex 테스트")
+class ProductPriceIndexTest {
+
+  private ProductPriceIndex productPriceIndex;
+
+  @BeforeEach
+  void setUp() {
+    productPriceIndex = new ProductPriceIndex();
+    productPriceIndex.rebuild(List.of(
+        document(1L, "15000", ProductStatus.ACTIVE),
+        document(2L, "5000.50", ProductStatus.ACTIVE),
+        document(3L, "30000", ProductStatus.SOLD_OUT),
+        document(4L, "15000", ProductStatus.ACTIVE),
+        document(5L, "20000", ProductStatus.INACTIVE)
+    ));
+  }
+
+  @Test
+  @DisplayName("가격 범위 검색 - 경계값 포함, 가격 오름차순, INACTIVE 제외")
+  void findIdsInRange_Success() {
+    // when
+    List<Long> bounded = productPriceIndex.findIdsInRange(
+        new BigDecimal("5000.50"), new BigDecimal("15000"));
+    List<Long> minOnly = productPriceIndex.findIdsInRange(new BigDecimal("15000.01"), null);
+    List<Long> all = productPriceIndex.findIdsInRange(null, null);
+
+    // then
+    assertThat(bounded).containsExactly(2L, 1L, 4L);
+    assertThat(minOnly).containsExactly(3L);
+    assertThat(all).containsExactly(2L, 1L, 4L, 3L);
+  }
+
+  @Test
+  @DisplayName("가격 변경/삭제 시 증분 갱신")
+  void index_AndRemove_Success() {
+    // when
+    productPriceIndex.index(document(1L, "1000", ProductStatus.ACTIVE));
+    productPriceIndex.remove(3L);
+    productPriceIndex.index(document(6L, "15000", ProductStatus.ACTIVE));
+
+    // then
+    assertThat(productPriceIndex.findIdsInRange(null, null)).containsExactly(1L, 2L, 4L, 6L);
+    assertThat(productPriceIndex.findIdsInRange(new BigDecimal("10000"), null))
+        .containsExactly(4L, 6L);
+  }
+
+  @Test
+  @DisplayName("가격 히스토그램 - 최저가~최고가 균등 분할")
+  void histogram_Success() {
+    // when
+    PriceHistogram histogram = productPriceIndex.histogram(null, null, 5, null);
+
+    // then
+    assertThat(histogram.getMinPrice()).isEqualByComparingTo("5000.50");
+    assertThat(histogram.getMaxPrice()).isEqualByComparingTo("30000");
+    assertThat(histogram.getTotalCount()).isEqualTo(4);
+    assertThat(histogram.getCounts()).containsExactly(1, 2, 0, 0, 1);
+  }
+
+  @Test
+  @DisplayName("가격 히스토그램 - 범위와 대상 상품 제한")
+  void histogram_WithRangeAndCandidates_Success() {
+    // when
+    PriceHistogram histogram = productPriceIndex.histogram(
+        new BigDecimal("10000"), new BigDecimal("30000"), 2, Set.of(1L, 3L));
+    PriceHistogram empty = productPriceIndex.histogram(
+        new BigDecimal("40000"), null, 2, null);
+
+    // then
+    assertThat(histogram.getTotalCount()).isEqualTo(2);
+    assertThat(histogram.getCounts()).containsExactly(1, 1);
+    assertThat(empty.getTotalCount()).isZero();
+    assertThat(empty.getCounts()).isEmpty();
+  }
+
+  private ProductDocument document(Long id, String price, ProductStatus status) {
+    return ProductDocument.builder()
+        .id(id)
+        .name("상품" + id)
+        .productStatus(status)
+        .price(new BigDecimal(price))
+        .build();
+  }
+}
@@ -0,0 +1,265 @@
+package com.oboe.backend.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oboe.backend.config.ProductSearchConfig;
+import com.oboe.backend.product.category.ProductCategoryTree;
+import com.oboe.backend.product.dto.request.ProductSearchRequest;
+import com.oboe.backend.product.entity.Condition;
+import com.oboe.backend.product.entity.ProductCategory;
+import com.oboe.backend.product.entity.ProductStatus;
+import com.oboe.backend.product.event.ProductViewsFlushedEvent;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProductSearchIndex 테스트")
+class ProductSearchIndexTest {
+
+  private ProductSearchIndex productSearchIndex;
+
+  @BeforeEach
+  void setUp() {
+    // 상의(10) > 셔츠(11) > 드레스셔츠(12)
+    ProductCategory top = category(10L, null);
+    ProductCategory shirts = category(11L, top);
+    ProductCategory dressShirts = category(12L, shirts);
+    ProductCategoryTree productCategoryTree = new ProductCategoryTree(null);
+    productCategoryTree.rebuild(List.of(top, shirts, dressShirts));
+
+    List<ProductDocument> documents = List.of(
+        document(1L, "리바이스 501 빈티지 데님", "Levi's", ProductStatus.ACTIVE, 10, 1, Set.of(10L)),
+        document(2L, "폴로 랄프로렌 옥스포드 셔츠", "Polo", ProductStatus.ACTIVE, 30, 2, Set.of(12L)),
+        document(3L, "빈티지 데님 자켓", "Lee", ProductStatus.SOLD_OUT, 20, 3, Set.of()),
+        document(4L, "비활성 데님", "Levi's", ProductStatus.INACTIVE, 0, 4, Set.of(12L))
+    );
+    ProductPriceIndex productPriceIndex = new ProductPriceIndex();
+    productPriceIndex.rebuild(documents);
+
+    ProductChosungIndex productChosungIndex = new ProductChosungIndex();
+    productChosungIndex.rebuild(documents);
+
+    ProductFuzzyIndex productFuzzyIndex = new ProductFuzzyIndex(new ProductSearchConfig());
+    productFuzzyIndex.rebuild(documents);
+
+    productSearchIndex = new ProductSearchIndex(productCategoryTree, productPriceIndex,
+        productChosungIndex, productFuzzyIndex);
+    productSearchIndex.rebuild(documents);
+  }
+
+  @Test
+  @DisplayName("바이그램 키워드 검색 - 최신순 정렬, INACTIVE 제외")
+  void search_Keyword_Success() {
+    // when
+    List<Long> result = productSearchIndex.search(request("데님", null));
+
+    // then
+    assertThat(result).containsExactly(1L, 3L);
+  }
+
+  @Test
+  @DisplayName("브랜드 대소문자 무시 검색")
+  void search_BrandIgnoreCase_Success() {
+    // when
+    List<Long> result = productSearchIndex.search(request("levi", null));
+
+    // then
+    assertThat(result).containsExactly(1L);
+  }
+
+  @Test
+  @DisplayName("한 글자 검색어는 전체 문서에서 부분 문자열 검색")
+  void search_SingleCharacter_Success() {
+    // when
+    List<Long> result = productSearchIndex.search(request("셔", null));
+
+    // then
+    assertThat(result).containsExactly(2L);
+  }
+
+  @Test
+  @DisplayName("띄어쓰기가 다르면 LIKE 검색과 동일하게 불일치")
+  void search_DifferentSpacing_NotMatched() {
+    // when
+    List<Long> result = productSearchIndex.search(request("빈티지데님", null));
+
+    // then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  @DisplayName("초성 검색어는 상품명/브랜드 초성으로 검색")
+  void search_Chosung_Success() {
+    // when
+    List<Long> byName = productSearchIndex.search(request("ㄹㅂㅇㅅ", null));
+    List<Long> withoutSpacing = productSearchIndex.search(request("ㅂㅌㅈㄷㄴ", null));
+
+    // then
+    assertThat(byName).containsExactly(1L);
+    assertThat(withoutSpacing).containsExactly(1L, 3L);
+  }
+
+  @Test
+  @DisplayName("브랜드 필터는 표기가 다른 같은 브랜드 포함")
+  void search_BrandVariants_Success() {
+    // when
+    List<Long> result = productSearchIndex.search(ProductSearchRequest.builder()
+        .brand("LEVIS")
+        .build());
+
+    // then
+    assertThat(result).containsExactly(1L);
+  }
+
+  @Test
+  @DisplayName("브랜드 필터는 앞뒤 공백이 있는 표기도 같은 브랜드로 비교")
+  void search_BrandWithSurroundingSpaces_Success() {
+    // given
+    productSearchIndex.index(
+        document(5L, "리 워크 자켓", "Lee ", ProductStatus.ACTIVE, 0, 5, Set.of()));
+
+    // when
+    List<Long> result = productSearchIndex.search(ProductSearchRequest.builder()
+        .brand("Lee")
+        .build());
+
+    // then
+    assertThat(result).containsExactly(3L, 5L);
+  }
+
+  @Test
+  @DisplayName("관련도순 정렬 - 상품명 일치 우선, 짧은 필드와 조회수 가중")
+  void search_Relevance_Success() {
+    // given
+    productSearchIndex.index(document(5L, "울 코트", "Polo", ProductStatus.ACTIVE, 500, 5, Set.of()));
+    productSearchIndex.index(ProductDocument.builder()
+        .id(6L)
+        .name("코듀로이 팬츠")
+        .description("셔츠와 어울리는 옥스포드 느낌")
+        .brand("Lee")
+        .productStatus(ProductStatus.ACTIVE)
+        .categoryIds(Set.of())
+        .views(1000)
+        .createdAt(LocalDateTime.now())
+        .build());
+
+    // when
+    List<Long> byName = productSearchIndex.search(request("옥스포드", "relevance"));
+    List<Long> byViews = productSearchIndex.search(request("데님", "relevance"));
+
+    // then
+    assertThat(byName).containsExactly(2L, 6L);
+    assertThat(byViews).containsExactly(3L, 1L);
+  }
+
+  @Test
+  @DisplayName("필터와 정렬 조건 적용")
+  void search_WithFiltersAndSort_Success() {
+    // when
+    List<Long> byViews = productSearchIndex.search(request("빈티지", "views"));
+    List<Long> activeOnly = productSearchIndex.search(ProductSearchRequest.builder()
+        .keyword("빈티지")
+        .status(ProductStatus.ACTIVE)
+        .build());
+
+    // then
+    assertThat(byViews).containsExactly(3L, 1L);
+    assertThat(activeOnly).containsExactly(1L);
+  }
+
+  @Test
+  @DisplayName("반영된 조회수 증가분은 조회수순 정렬에 반영")
+  void onViewsFlushed_UpdatesViewsOrder() {
+    // when
+    productSearchIndex.onViewsFlushed(new ProductViewsFlushedEvent(Map.of(1L, 15L, 99L, 5L)));
+
+    // then
+    assertThat(productSearchIndex.search(request("빈티지", "views"))).containsExactly(1L, 3L);
+  }
+
+  @Test
+  @DisplayName("카테고리 필터는 하위 카테고리 상품까지 포함")
+  void search_CategorySubtree_Success() {
+    // when
+    List<Long> topCategory = productSearchIndex.search(categoryRequest(10L));
+    List<Long> shirtCategory = productSearchIndex.search(categoryRequest(11L));
+
+    // then
+    assertThat(topCategory).containsExactly(1L, 2L);
+    assertThat(shirtCategory).containsExactly(2L);
+  }
+
+  @Test
+  @DisplayName("가격 범위 필터 - 키워드 유무와 관계없이 적용")
+  void search_PriceRange_Success() {
+    // when
+    List<Long> priceOnly = productSearchIndex.search(ProductSearchRequest.builder()
+        .minPrice(new BigDecimal("20000"))
+        .sortBy("price_asc")
+        .build());
+    List<Long> keywordAndPrice = productSearchIndex.search(ProductSearchRequest.builder()
+        .keyword("데님")
+        .maxPrice(new BigDecimal("15000"))
+        .build());
+
+    // then
+    assertThat(priceOnly).containsExactly(2L, 3L);
+    assertThat(keywordAndPrice).containsExactly(1L);
+  }
+
+  @Test
+  @DisplayName("상품 수정/삭제 시 증분 갱신")
+  void index_AndRemove_Success() {
+    // when
+    productSearchIndex.index(
+        document(2L, "폴로 데님 셔츠", "Polo", ProductStatus.ACTIVE, 30, 2, Set.of(12L)));
+    productSearchIndex.remove(1L);
+
+    // then
+    assertThat(productSearchIndex.search(request("데님", null))).containsExactly(2L, 3L);
+    assertThat(productSearchIndex.search(request("옥스포드", null))).isEmpty();
+  }
+
+  private ProductSearchRequest request(String keyword, String sortBy) {
+    return ProductSearchRequest.builder()
+        .keyword(keyword)
+        .sortBy(sortBy)
+        .build();
+  }
+
+  private ProductSearchRequest categoryRequest(Long categoryId) {
+    return ProductSearchRequest.builder()
+        .keyword("상품")
+        .categoryId(categoryId)
+        .build();
+  }
+
+  private ProductCategory category(Long id, ProductCategory parent) {
+    return ProductCategory.builder()
+        .id(id)
+        .name("카테고리" + id)
+        .parent(parent)
+        .build();
+  }
+
+  private ProductDocument document(Long id, String name, String brand, ProductStatus status,
+      int views, int daysAgo, Set<Long> categoryIds) {
+    return ProductDocument.builder()
+        .id(id)
+        .name(name)
+        .description(name + " 상품 설명")
+        .brand(brand)
+        .productStatus(status)
+        .condition(Condition.GOOD)
+        .categoryIds(categoryIds)
+        .price(new BigDecimal("10000").multiply(BigDecimal.valueOf(id)))
+        .views(views)
+        .createdAt(LocalDateTime.now().minusDays(daysAgo))
+        .build();
+  }
+}
@@ -0,0 +1,100 @@
+package com.oboe.backend.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oboe.backend.product.category.ProductCategoryTree;
+import com.oboe.backend.product.entity.ProductCategory;
+import com.oboe.backend.product.entity.ProductStatus;
+import com.oboe.backend.product.event.ProductViewsFlushedEvent;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProductSuggestIndex 테스트")
+class ProductSuggestIndexTest {
+
+  private ProductSuggestIndex productSuggestIndex;
+
+  @BeforeEach
+  void setUp() {
+    ProductCategoryTree productCategoryTree = new ProductCategoryTree(null);
+    productCategoryTree.rebuild(List.of(
+        ProductCategory.builder().id(10L).name("데님 팬츠").build()));
+
+    productSuggestIndex = new ProductSuggestIndex(productCategoryTree);
+    productSuggestIndex.rebuild(List.of(
+        document(1L, "리바이스 501 빈티지 데님", "Levi's", 100, ProductStatus.ACTIVE, Set.of(10L)),
+        document(2L, "리바이스 트러커 자켓", "Levi's", 10, ProductStatus.SOLD_OUT, Set.of()),
+        document(3L, "리복 클래식 스니커즈", "Reebok", 50, ProductStatus.ACTIVE, Set.of()),
+        document(4L, "리바이스 비활성 상품", "Levi's", 999, ProductStatus.INACTIVE, Set.of())
+    ));
+  }
+
+  @Test
+  @DisplayName("접두어 자동완성 - 인기도 내림차순, INACTIVE 제외")
+  void suggest_Prefix_Success() {
+    // when
+    List<Suggestion> result = productSuggestIndex.suggest("리", 10);
+
+    // then
+    assertThat(result).extracting(Suggestion::getText)
+        .containsExactly("리바이스 501 빈티지 데님", "리복 클래식 스니커즈", "리바이스 트러커 자켓");
+    assertThat(result.get(0).getWeight()).isEqualTo(101);
+  }
+
+  @Test
+  @DisplayName("어절 시작 위치와 브랜드, 카테고리명도 제안 (대소문자 무시)")
+  void suggest_WordStartBrandCategory_Success() {
+    // when
+    List<Suggestion> denim = productSuggestIndex.suggest("데님", 10);
+    List<Suggestion> brand = productSuggestIndex.suggest("LEV", 10);
+
+    // then
+    assertThat(denim).extracting(Suggestion::getType)
+        .containsExactlyInAnyOrder(SuggestionType.PRODUCT, SuggestionType.CATEGORY);
+    assertThat(brand).hasSize(1);
+    assertThat(brand.get(0).getText()).isEqualTo("Levi's");
+    assertThat(brand.get(0).getWeight()).isEqualTo(101 + 11);
+  }
+
+  @Test
+  @DisplayName("상위 N 개만 반환")
+  void suggest_Limit_Success() {
+    // when
+    List<Suggestion> result = productSuggestIndex.suggest("리바", 1);
+
+    // then
+    assertThat(result).extracting(Suggestion::getText).containsExactly("리바이스 501 빈티지 데님");
+  }
+
+  @Test
+  @DisplayName("상품 수정/삭제와 조회수 반영 시 증분 갱신")
+  void index_RemoveAndViewsFlushed_Success() {
+    // when
+    productSuggestIndex.remove(1L);
+    productSuggestIndex.index(
+        document(3L, "리복 클래식 러닝화", "Reebok", 50, ProductStatus.ACTIVE, Set.of()));
+    productSuggestIndex.onViewsFlushed(new ProductViewsFlushedEvent(Map.of(2L, 100L)));
+
+    // then
+    assertThat(productSuggestIndex.suggest("리", 10)).extracting(Suggestion::getText)
+        .containsExactly("리바이스 트러커 자켓", "리복 클래식 러닝화");
+    assertThat(productSuggestIndex.suggest("데님", 10)).isEmpty();
+    assertThat(productSuggestIndex.suggest("스니커즈", 10)).isEmpty();
+  }
+
+  private ProductDocument document(Long id, String name, String brand, int views,
+      ProductStatus status, Set<Long> categoryIds) {
+    return ProductDocument.builder()
+        .id(id)
+        .name(name)
+        .brand(brand)
+        .views(views)
+        .productStatus(status)
+        .categoryIds(categoryIds)
+        .build();
+  }
+}
@@ -0,0 +1,96 @@
+package com.oboe.backend.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.oboe.backend.common.exception.CustomException;
+import com.oboe.backend.product.dto.request.ProductChangeToken;
+import com.oboe.backend.product.dto.response.ProductChange;
+import com.oboe.backend.product.dto.response.ProductChangeFeedResponse;
+import com.oboe.backend.product.dto.response.ProductChangeType;
+import com.oboe.backend.product.repository.ProductRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductChangeFeedService 테스트")
+class ProductChangeFeedServiceTest {
+
+  private static final LocalDateTime CHANGED_AT = LocalDateTime.of(2025, 1, 1, 10, 0, 0, 123456000);
+
+  @Mock
+  private ProductRepository productRepository;
+
+  private ProductChangeFeedService productChangeFeedService;
+
+  @BeforeEach
+  void setUp() {
+    productChangeFeedService = new ProductChangeFeedService(productRepository, 5);
+  }
+
+  @Test
+  @DisplayName("size 보다 많으면 잘라서 hasMore, nextToken 은 마지막 변경 위치")
+  void getChanges_HasMore() {
+    // given
+    ProductChangeToken since = ProductChangeToken.of(CHANGED_AT.minusHours(1), 7L);
+    given(productRepository.findChangesAfter(
+        argThat(token -> token.getId().equals(7L)), any(LocalDateTime.class), eq(3)))
+        .willReturn(List.of(change(1L, ProductChangeType.CREATED), change(2L,
+            ProductChangeType.DELETED), change(3L, ProductChangeType.UPDATED)));
+
+    // when
+    ProductChangeFeedResponse response = productChangeFeedService.getChanges(since.encode(), 2);
+
+    // then
+    assertThat(response.isHasMore()).isTrue();
+    assertThat(response.getChanges()).extracting(ProductChange::getProductId)
+        .containsExactly(1L, 2L);
+
+    ProductChangeToken next = ProductChangeToken.decode(response.getNextToken());
+    assertThat(next.getUpdatedAt()).isEqualTo(CHANGED_AT);
+    assertThat(next.getId()).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("변경이 없으면 요청 토큰을 그대로 반환")
+  void getChanges_NoChanges_KeepsToken() {
+    // given
+    String since = ProductChangeToken.of(CHANGED_AT, 7L).encode();
+    given(productRepository.findChangesAfter(any(), any(LocalDateTime.class), eq(101)))
+        .willReturn(List.of());
+
+    // when
+    ProductChangeFeedResponse response = productChangeFeedService.getChanges(since, 100);
+
+    // then
+    assertThat(response.getChanges()).isEmpty();
+    assertThat(response.isHasMore()).isFalse();
+    assertThat(response.getNextToken()).isEqualTo(since);
+  }
+
+  @Test
+  @DisplayName("잘못된 토큰이면 예외 발생")
+  void getChanges_InvalidToken_ThrowsException() {
+    assertThatThrownBy(() -> productChangeFeedService.getChanges("not-a-token", 10))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining("올바르지 않은 변경 토큰입니다");
+  }
+
+  private ProductChange change(Long productId, ProductChangeType type) {
+    return ProductChange.builder()
+        .productId(productId)
+        .type(type)
+        .changedAt(CHANGED_AT)
+        .build();
+  }
+}
@@ -0,0 +1,138 @@
+package com.oboe.backend.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oboe.backend.common.exception.CustomException;
+import com.oboe.backend.product.dto.request.ProductExportFormat;
+import com.oboe.backend.product.dto.response.ProductExportRow;
+import com.oboe.backend.product.entity.Condition;
+import com.oboe.backend.product.entity.ProductStatus;
+import com.oboe.backend.product.repository.ProductRepository;
+import com.oboe.backend.user.entity.SocialProvider;
+import com.oboe.backend.user.entity.User;
+import com.oboe.backend.user.entity.UserRole;
+import com.oboe.backend.user.entity.UserStatus;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductExportService 테스트")
+class ProductExportServiceTest {
+
+  @Mock
+  private ProductRepository productRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private ProductExportService productExportService;
+  private Authentication adminAuthentication;
+
+  @BeforeEach
+  void setUp() {
+    productExportService = new ProductExportService(productRepository,
+        new ObjectMapper().findAndRegisterModules(), transactionManager, 1000, 30);
+
+    User adminUser = User.builder()
+        .id(1L)
+        .email("admin@example.com")
+        .password("password")
+        .name("관리자")
+        .nickname("admin")
+        .phoneNumber("010-0000-0000")
+        .role(UserRole.ADMIN)
+        .status(UserStatus.ACTIVE)
+        .socialProvider(SocialProvider.LOCAL)
+        .build();
+    adminAuthentication = new UsernamePasswordAuthenticationToken(adminUser, null,
+        List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+  }
+
+  @Test
+  @DisplayName("CSV 내보내기 - 헤더 후 행마다 한 줄, 쉼표/따옴표 포함 값은 이스케이프")
+  void exportProducts_Csv() throws Exception {
+    // given
+    givenRows(ProductExportRow.builder()
+        .id(1L)
+        .name("리바이스 501, \"빈티지\"")
+        .price(new BigDecimal("59000.00"))
+        .stockQuantity(1)
+        .productStatus(ProductStatus.ACTIVE)
+        .condition(Condition.GOOD)
+        .views(3)
+        .build());
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    // when
+    productExportService.exportProducts(ProductExportFormat.CSV, adminAuthentication)
+        .writeTo(output);
+
+    // then
+    String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).startsWith("id,name,sku,price");
+    assertThat(lines[1]).isEqualTo(
+        "1,\"리바이스 501, \"\"빈티지\"\"\",,59000.00,1,ACTIVE,,,,,GOOD,3,,,");
+  }
+
+  @Test
+  @DisplayName("NDJSON 내보내기 - 행마다 JSON 한 줄")
+  void exportProducts_Ndjson() throws Exception {
+    // given
+    givenRows(
+        ProductExportRow.builder().id(1L).name("첫 상품").build(),
+        ProductExportRow.builder().id(2L).name("둘째 상품").build());
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    // when
+    productExportService.exportProducts(ProductExportFormat.NDJSON, adminAuthentication)
+        .writeTo(output);
+
+    // then
+    String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).contains("\"id\":1", "\"name\":\"첫 상품\"");
+    assertThat(lines[1]).contains("\"id\":2");
+  }
+
+  @Test
+  @DisplayName("ADMIN 이 아니면 스트리밍 전에 예외 발생")
+  void exportProducts_NotAdmin_ThrowsException() {
+    // when & then
+    assertThatThrownBy(() -> productExportService.exportProducts(ProductExportFormat.CSV, null))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining("접근 권한이 없습니다");
+    verify(productRepository, never()).scrollExportRows(anyInt(), any());
+  }
+
+  private void givenRows(ProductExportRow... rows) {
+    given(productRepository.scrollExportRows(eq(1000), any())).willAnswer(invocation -> {
+      Consumer<ProductExportRow> consumer = invocation.getArgument(1);
+      for (ProductExportRow row : rows) {
+        consumer.accept(row);
+      }
+      return (long) rows.length;
+    });
+  }
+}
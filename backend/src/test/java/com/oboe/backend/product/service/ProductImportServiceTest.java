@@ -0,0 +1,244 @@
+package com.oboe.backend.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oboe.backend.common.exception.CustomException;
+import com.oboe.backend.common.exception.ErrorCode;
+import com.oboe.backend.product.category.ProductCategoryResolver;
+import com.oboe.backend.product.dto.request.ProductCreateRequest;
+import com.oboe.backend.product.dto.response.ProductImportResponse;
+import com.oboe.backend.product.dto.response.ProductImportRowResult;
+import com.oboe.backend.product.entity.ProductCategory;
+import com.oboe.backend.product.event.ProductChangedEvent;
+import com.oboe.backend.product.repository.ProductBulkWriter;
+import com.oboe.backend.product.search.ProductDocument;
+import com.oboe.backend.user.entity.SocialProvider;
+import com.oboe.backend.user.entity.User;
+import com.oboe.backend.user.entity.UserRole;
+import com.oboe.backend.user.entity.UserStatus;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductImportService 테스트")
+class ProductImportServiceTest {
+
+  @Mock
+  private ProductBulkWriter productBulkWriter;
+
+  @Mock
+  private ProductCategoryResolver productCategoryResolver;
+
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+
+  @Spy
+  private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private ProductImportService productImportService;
+
+  private Authentication adminAuthentication;
+
+  @BeforeEach
+  void setUp() {
+    User adminUser = User.builder()
+        .id(1L)
+        .email("admin@example.com")
+        .password("password")
+        .name("관리자")
+        .nickname("admin")
+        .phoneNumber("010-0000-0000")
+        .role(UserRole.ADMIN)
+        .status(UserStatus.ACTIVE)
+        .socialProvider(SocialProvider.LOCAL)
+        .build();
+    adminAuthentication = new UsernamePasswordAuthenticationToken(adminUser, null,
+        List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+  }
+
+  @Test
+  @DisplayName("행별 검증 후 유효한 행만 배치 저장하고 줄 번호별 결과 반환")
+  @SuppressWarnings("unchecked")
+  void importProducts_ReportsResultPerRow() {
+    // given
+    String ndjson = String.join("\n",
+        "{\"name\":\"리바이스 501\",\"description\":\"90년대 데님\",\"price\":59000,"
+            + "\"stockQuantity\":1,\"productStatus\":\"ACTIVE\",\"categoryIds\":[1],"
+            + "\"images\":[{\"imageUrl\":\"https://img/1.jpg\",\"thumbnail\":true}]}",
+        "",
+        "{\"name\":",
+        "{\"name\":\"가격 없음\",\"description\":\"설명\",\"stockQuantity\":1,"
+            + "\"productStatus\":\"ACTIVE\"}",
+        "{\"name\":\"없는 카테고리\",\"description\":\"설명\",\"price\":1000,"
+            + "\"stockQuantity\":1,\"productStatus\":\"ACTIVE\",\"categoryIds\":[7,9]}");
+    MockMultipartFile file = new MockMultipartFile("file", "products.ndjson",
+        "application/x-ndjson", ndjson.getBytes(StandardCharsets.UTF_8));
+
+    given(productCategoryResolver.resolve(Set.of(1L))).willReturn(Set.of(
+        ProductCategory.builder().id(1L).name("하의").level(1).sortOrder(1).build()));
+    given(productCategoryResolver.resolve(Set.of(7L, 9L))).willThrow(new CustomException(
+        ErrorCode.CATEGORY_NOT_FOUND, "존재하지 않는 카테고리입니다: 7, 9"));
+    given(transactionTemplate.execute(any())).willAnswer(
+        invocation -> ((TransactionCallback<Object>) invocation.getArgument(0))
+            .doInTransaction(null));
+    given(productBulkWriter.insertAll(anyList(), any())).willReturn(List.of(100L));
+
+    // when
+    ProductImportResponse response = productImportService.importProducts(file,
+        adminAuthentication);
+
+    // then
+    assertThat(response.getTotalCount()).isEqualTo(4);
+    assertThat(response.getSuccessCount()).isEqualTo(1);
+    assertThat(response.getFailureCount()).isEqualTo(3);
+    assertThat(response.getResults()).extracting(ProductImportRowResult::getLine)
+        .containsExactly(1, 3, 4, 5);
+
+    ProductImportRowResult saved = response.getResults().get(0);
+    assertThat(saved.isSuccess()).isTrue();
+    assertThat(saved.getProductId()).isEqualTo(100L);
+    assertThat(response.getResults().get(1).getMessage()).contains("JSON");
+    assertThat(response.getResults().get(2).getMessage()).contains("가격은 필수입니다.");
+    assertThat(response.getResults().get(3).getMessage()).contains("존재하지 않는 카테고리입니다: 7, 9");
+
+    ArgumentCaptor<List<ProductCreateRequest>> captor = ArgumentCaptor.forClass(List.class);
+    verify(productBulkWriter).insertAll(captor.capture(), any());
+    assertThat(captor.getValue()).extracting(ProductCreateRequest::getName)
+        .containsExactly("리바이스 501");
+
+    // 저장한 상품을 다시 읽지 않고 요청으로 인덱스 문서 구성
+    ArgumentCaptor<ProductChangedEvent> eventCaptor =
+        ArgumentCaptor.forClass(ProductChangedEvent.class);
+    verify(eventPublisher).publishEvent(eventCaptor.capture());
+    ProductDocument document = eventCaptor.getValue().getDocument();
+    assertThat(document.getId()).isEqualTo(100L);
+    assertThat(document.getCategoryIds()).containsExactly(1L);
+    assertThat(document.getThumbnailUrl()).isEqualTo("https://img/1.jpg");
+  }
+
+  @Test
+  @DisplayName("이미지 규칙 (최대 10개, 썸네일 1개) 은 단건 등록과 동일하게 검증")
+  void importProducts_InvalidImages_ReportsRowFailure() {
+    // given
+    String ndjson = "{\"name\":\"썸네일 두 개\",\"description\":\"설명\",\"price\":1000,"
+        + "\"stockQuantity\":1,\"productStatus\":\"ACTIVE\",\"images\":["
+        + "{\"imageUrl\":\"https://img/1.jpg\",\"thumbnail\":true},"
+        + "{\"imageUrl\":\"https://img/2.jpg\",\"thumbnail\":true}]}";
+    MockMultipartFile file = new MockMultipartFile("file", "products.ndjson",
+        "application/x-ndjson", ndjson.getBytes(StandardCharsets.UTF_8));
+
+    // when
+    ProductImportResponse response = productImportService.importProducts(file,
+        adminAuthentication);
+
+    // then
+    assertThat(response.getFailureCount()).isEqualTo(1);
+    assertThat(response.getResults().get(0).getMessage()).contains("썸네일 이미지는 1개만");
+    verify(productBulkWriter, never()).insertAll(anyList(), any());
+  }
+
+  @Test
+  @DisplayName("청크 저장 실패 시 나누어 재시도하여 실패한 행만 원인과 함께 보고")
+  @SuppressWarnings("unchecked")
+  void importProducts_ChunkFailure_ReportsOnlyFailedRow() {
+    // given
+    String ndjson = String.join("\n", row("첫 상품"), row("불량 상품"), row("셋째 상품"));
+    MockMultipartFile file = new MockMultipartFile("file", "products.ndjson",
+        "application/x-ndjson", ndjson.getBytes(StandardCharsets.UTF_8));
+
+    given(transactionTemplate.execute(any())).willAnswer(
+        invocation -> ((TransactionCallback<Object>) invocation.getArgument(0))
+            .doInTransaction(null));
+    given(productBulkWriter.insertAll(anyList(), any())).willAnswer(invocation -> {
+      List<ProductCreateRequest> requests = invocation.getArgument(0);
+      if (requests.stream().anyMatch(request -> request.getName().startsWith("불량"))) {
+        throw new DataIntegrityViolationException("Duplicate entry");
+      }
+      return requests.stream().map(request -> (long) request.getName().length()).toList();
+    });
+
+    // when
+    ProductImportResponse response = productImportService.importProducts(file,
+        adminAuthentication);
+
+    // then
+    assertThat(response.getSuccessCount()).isEqualTo(2);
+    assertThat(response.getFailureCount()).isEqualTo(1);
+    assertThat(response.getResults()).extracting(ProductImportRowResult::isSuccess)
+        .containsExactly(true, false, true);
+    assertThat(response.getResults().get(1).getMessage()).contains("Duplicate entry");
+  }
+
+  @Test
+  @DisplayName("컬럼 길이를 넘는 값은 저장 전에 행 실패로 보고")
+  void importProducts_TooLongDescription_ReportsRowFailure() {
+    // given
+    String ndjson = "{\"name\":\"긴 설명\",\"description\":\"" + "a".repeat(256)
+        + "\",\"price\":1000,\"stockQuantity\":1,\"productStatus\":\"ACTIVE\"}";
+    MockMultipartFile file = new MockMultipartFile("file", "products.ndjson",
+        "application/x-ndjson", ndjson.getBytes(StandardCharsets.UTF_8));
+
+    // when
+    ProductImportResponse response = productImportService.importProducts(file,
+        adminAuthentication);
+
+    // then
+    assertThat(response.getFailureCount()).isEqualTo(1);
+    assertThat(response.getResults().get(0).getMessage())
+        .contains("상품 설명은 255자를 초과할 수 없습니다.");
+    verify(productBulkWriter, never()).insertAll(anyList(), any());
+  }
+
+  @Test
+  @DisplayName("ADMIN 이 아니면 예외 발생")
+  void importProducts_NotAdmin_ThrowsException() {
+    // given
+    MockMultipartFile file = new MockMultipartFile("file", "products.ndjson",
+        "application/x-ndjson", "{}".getBytes(StandardCharsets.UTF_8));
+
+    // when & then
+    assertThatThrownBy(() -> productImportService.importProducts(file, null))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining("접근 권한이 없습니다");
+    verify(productBulkWriter, never()).insertAll(anyList(), any());
+  }
+
+  private String row(String name) {
+    return "{\"name\":\"" + name + "\",\"description\":\"설명\",\"price\":1000,"
+        + "\"stockQuantity\":1,\"productStatus\":\"ACTIVE\"}";
+  }
+}
@@ -4,47 +4,76 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.oboe.backend.common.exception.CustomException;
+import com.oboe.backend.common.exception.ErrorCode;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.verify;
 
+import com.oboe.backend.product.cache.ProductDetailCache;
+import com.oboe.backend.product.cache.ProductSearchResultCache;
+import com.oboe.backend.product.category.ProductCategoryResolver;
+import com.oboe.backend.product.category.ProductCategoryTree;
 import com.oboe.backend.product.dto.request.ProductCreateRequest;
+import com.oboe.backend.product.dto.request.ProductCursor;
 import com.oboe.backend.product.dto.request.ProductImageRequest;
 import com.oboe.backend.product.dto.request.ProductSearchRequest;
+import com.oboe.backend.product.dto.request.ProductSortType;
 import com.oboe.backend.product.dto.request.ProductUpdateRequest;
+import com.oboe.backend.product.dto.response.CursorPageResponse;
 import com.oboe.backend.product.dto.response.ProductListResponse;
 import com.oboe.backend.product.dto.response.ProductResponse;
 import com.oboe.backend.product.entity.Condition;
 import com.oboe.backend.product.entity.Product;
 import com.oboe.backend.product.entity.ProductCategory;
+import com.oboe.backend.product.entity.ProductImage;
 import com.oboe.backend.product.entity.ProductStatus;
-import com.oboe.backend.product.repository.ProductCategoryRepository;
+import com.oboe.backend.product.event.ProductChangedEvent;
+import com.oboe.backend.product.ranking.PopularProductRanking;
+import com.oboe.backend.product.ranking.TrendingProductEngine;
 import com.oboe.backend.product.repository.ProductImageRepository;
 import com.oboe.backend.product.repository.ProductRepository;
+import com.oboe.backend.product.search.ProductDocument;
+import com.oboe.backend.product.search.ProductFacetIndex;
+import com.oboe.backend.product.search.ProductFuzzyIndex;
+import com.oboe.backend.product.search.ProductPriceIndex;
+import com.oboe.backend.product.search.ProductSearchIndex;
+import com.oboe.backend.product.search.ProductSuggestIndex;
+import com.oboe.backend.product.view.ProductViewCountAggregator;
 import com.oboe.backend.user.entity.SocialProvider;
 import com.oboe.backend.user.entity.User;
 import com.oboe.backend.user.entity.UserRole;
 import com.oboe.backend.user.entity.UserStatus;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.connection.DefaultMessage;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -57,11 +86,48 @@ class ProductServiceTest {
   private ProductRepository productRepository;
 
   @Mock
-  private ProductCategoryRepository productCategoryRepository;
+  private ProductCategoryResolver productCategoryResolver;
 
   @Mock
   private ProductImageRepository productImageRepository;
 
+  @Mock
+  private ProductSearchIndex productSearchIndex;
+
+  @Mock
+  private ProductFacetIndex productFacetIndex;
+
+  @Mock
+  private ProductPriceIndex productPriceIndex;
+
+  @Mock
+  private ProductSuggestIndex productSuggestIndex;
+
+  @Mock
+  private ProductFuzzyIndex productFuzzyIndex;
+
+  @Mock
+  private ProductCategoryTree productCategoryTree;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private ProductViewCountAggregator productViewCountAggregator;
+
+  @Mock
+  private ProductDetailCache productDetailCache;
+
+  @Spy
+  private ProductSearchResultCache productSearchResultCache =
+      new ProductSearchResultCache(null, 100, 30, false);
+
+  @Mock
+  private PopularProductRanking popularProductRanking;
+
+  @Mock
+  private TrendingProductEngine trendingProductEngine;
+
   @InjectMocks
   private ProductService productService;
 
@@ -144,7 +210,7 @@ class ProductServiceTest {
   @DisplayName("상품 생성 성공")
   void createProduct_Success() {
     // given
-    given(productCategoryRepository.findById(1L)).willReturn(Optional.of(testCategory));
+    given(productCategoryResolver.resolve(Set.of(1L))).willReturn(Set.of(testCategory));
     given(productRepository.save(any(Product.class))).willReturn(testProduct);
     given(productImageRepository.saveAll(anyList())).willReturn(Collections.emptyList());
 
@@ -155,7 +221,9 @@ class ProductServiceTest {
     assertThat(result).isNotNull();
     assertThat(result.getName()).isEqualTo(testProduct.getName());
 
-    verify(productCategoryRepository).findById(1L);
+    assertThat(testProduct.getThumbnailUrl()).isEqualTo("https://example.com/image.jpg");
+
+    verify(productCategoryResolver).resolve(Set.of(1L));
     verify(productRepository).save(any(Product.class));
     verify(productImageRepository).saveAll(anyList());
   }
@@ -164,7 +232,8 @@ class ProductServiceTest {
   @DisplayName("존재하지 않는 카테고리로 상품 생성 시 예외 발생")
   void createProduct_CategoryNotFound_ThrowsException() {
     // given
-    given(productCategoryRepository.findById(1L)).willReturn(Optional.empty());
+    given(productCategoryResolver.resolve(Set.of(1L))).willThrow(
+        new CustomException(ErrorCode.CATEGORY_NOT_FOUND, "존재하지 않는 카테고리입니다: 1"));
 
     // when & then
     assertThatThrownBy(() -> productService.createProduct(createRequest, adminAuthentication))
@@ -188,6 +257,45 @@ class ProductServiceTest {
     verify(productRepository).save(testProduct);
   }
 
+  @Test
+  @DisplayName("상품 이미지 수정 - URL 기준으로 변경분만 반영")
+  void updateProduct_ReconcilesImagesByUrl() {
+    // given
+    ProductImage front = ProductImage.builder()
+        .id(10L).product(testProduct).imageUrl("https://example.com/front.jpg")
+        .sortOrder(0).thumbnail(true).build();
+    ProductImage back = ProductImage.builder()
+        .id(11L).product(testProduct).imageUrl("https://example.com/back.jpg")
+        .sortOrder(1).thumbnail(false).build();
+    testProduct.getProductImages().addAll(List.of(front, back));
+    testProduct.refreshThumbnailUrl(testProduct.getProductImages());
+
+    ProductUpdateRequest request = ProductUpdateRequest.builder()
+        .images(List.of(
+            ProductImageRequest.builder()
+                .imageUrl("https://example.com/back.jpg").sortOrder(0).thumbnail(true).build(),
+            ProductImageRequest.builder()
+                .imageUrl("https://example.com/detail.jpg").sortOrder(1).thumbnail(false)
+                .build()))
+        .build();
+
+    given(productRepository.findById(1L)).willReturn(Optional.of(testProduct));
+    given(productRepository.save(any(Product.class))).willReturn(testProduct);
+
+    // when
+    productService.updateProduct(1L, request, adminAuthentication);
+
+    // then
+    assertThat(testProduct.getProductImages()).extracting(ProductImage::getImageUrl)
+        .containsExactly("https://example.com/back.jpg", "https://example.com/detail.jpg");
+    assertThat(testProduct.getProductImages().get(0)).isSameAs(back);
+    assertThat(back.getSortOrder()).isEqualTo(0);
+    assertThat(back.isThumbnail()).isTrue();
+    assertThat(testProduct.getThumbnailUrl()).isEqualTo("https://example.com/back.jpg");
+    verify(productImageRepository, never()).deleteByProductId(anyLong());
+    verify(productImageRepository, never()).saveAll(anyList());
+  }
+
   @Test
   @DisplayName("존재하지 않는 상품 수정 시 예외 발생")
   void updateProduct_ProductNotFound_ThrowsException() {
@@ -212,6 +320,7 @@ class ProductServiceTest {
     // then
     verify(productRepository).findById(1L);
     verify(productRepository).softDeleteById(eq(1L), any(LocalDateTime.class));
+    verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
   }
 
   @Test
@@ -223,8 +332,8 @@ class ProductServiceTest {
         .size(20)
         .build();
 
-    Page<Product> productPage = new PageImpl<>(List.of(testProduct));
-    given(productRepository.findAllExcludingStatus(eq(ProductStatus.INACTIVE), any(Pageable.class)))
+    Page<ProductListResponse> productPage = new PageImpl<>(List.of(testListResponse()));
+    given(productRepository.search(eq(searchRequest), any(Pageable.class)))
         .willReturn(productPage);
 
     // when
@@ -235,12 +344,11 @@ class ProductServiceTest {
     assertThat(result.getContent()).hasSize(1);
     assertThat(result.getContent().get(0).getName()).isEqualTo(testProduct.getName());
 
-    verify(productRepository).findAllExcludingStatus(eq(ProductStatus.INACTIVE),
-        any(Pageable.class));
+    verify(productRepository).search(eq(searchRequest), any(Pageable.class));
   }
 
   @Test
-  @DisplayName("상품 목록 조회 - 키워드 검색")
+  @DisplayName("상품 목록 조회 - 키워드 검색 (인덱스 구성 전 DB 검색)")
   void getProducts_WithKeyword_Success() {
     // given
     ProductSearchRequest searchRequest = ProductSearchRequest.builder()
@@ -249,8 +357,8 @@ class ProductServiceTest {
         .size(20)
         .build();
 
-    Page<Product> productPage = new PageImpl<>(List.of(testProduct));
-    given(productRepository.searchByKeyword(eq("테스트"), any(Pageable.class)))
+    Page<ProductListResponse> productPage = new PageImpl<>(List.of(testListResponse()));
+    given(productRepository.search(eq(searchRequest), any(Pageable.class)))
         .willReturn(productPage);
 
     // when
@@ -260,7 +368,92 @@ class ProductServiceTest {
     assertThat(result).isNotNull();
     assertThat(result.getContent()).hasSize(1);
 
-    verify(productRepository).searchByKeyword(eq("테스트"), any(Pageable.class));
+    verify(productRepository).search(eq(searchRequest), any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("상품 목록 조회 - 키워드 검색 (인메모리 인덱스)")
+  void getProducts_WithKeyword_UsesSearchIndex() {
+    // given
+    ProductSearchRequest searchRequest = ProductSearchRequest.builder()
+        .keyword("테스트")
+        .page(0)
+        .size(20)
+        .build();
+
+    given(productSearchIndex.isReady()).willReturn(true);
+    given(productSearchIndex.search(searchRequest)).willReturn(List.of(1L));
+    given(productRepository.findListResponsesByIdInOrder(List.of(1L)))
+        .willReturn(List.of(testListResponse()));
+
+    // when
+    Page<ProductListResponse> result = productService.getProducts(searchRequest);
+
+    // then
+    assertThat(result.getTotalElements()).isEqualTo(1);
+    assertThat(result.getContent().get(0).getId()).isEqualTo(1L);
+
+    verify(productRepository, never()).search(any(), any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("상품 목록 조회 - 결과가 없으면 오타 보정한 검색어로 재검색")
+  void getProducts_NoResult_RetriesWithCorrectedKeyword() {
+    // given
+    ProductSearchRequest searchRequest = ProductSearchRequest.builder()
+        .keyword("levvis")
+        .build();
+
+    given(productSearchIndex.isReady()).willReturn(true);
+    given(productSearchIndex.search(searchRequest)).willReturn(List.of());
+    given(productFuzzyIndex.correctKeyword("levvis")).willReturn("levis");
+    given(productSearchIndex.search(argThat(request -> request != null
+        && "levis".equals(request.getKeyword())))).willReturn(List.of(1L));
+    given(productRepository.findListResponsesByIdInOrder(List.of(1L)))
+        .willReturn(List.of(testListResponse()));
+
+    // when
+    Page<ProductListResponse> result = productService.getProducts(searchRequest);
+
+    // then
+    assertThat(result.getTotalElements()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("상품 목록 조회 - 가격 범위만 있어도 인메모리 인덱스 사용")
+  void getProducts_WithPriceRange_UsesSearchIndex() {
+    // given
+    ProductSearchRequest searchRequest = ProductSearchRequest.builder()
+        .minPrice(new BigDecimal("10000"))
+        .maxPrice(new BigDecimal("100000"))
+        .build();
+
+    given(productSearchIndex.isReady()).willReturn(true);
+    given(productSearchIndex.search(searchRequest)).willReturn(List.of(1L));
+    given(productRepository.findListResponsesByIdInOrder(List.of(1L)))
+        .willReturn(List.of(testListResponse()));
+
+    // when
+    Page<ProductListResponse> result = productService.getProducts(searchRequest);
+
+    // then
+    assertThat(result.getTotalElements()).isEqualTo(1);
+    verify(productRepository, never()).search(any(), any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("최소 가격이 최대 가격보다 크면 예외 발생")
+  void getProducts_InvalidPriceRange_ThrowsException() {
+    // given
+    ProductSearchRequest searchRequest = ProductSearchRequest.builder()
+        .minPrice(new BigDecimal("50000"))
+        .maxPrice(new BigDecimal("10000"))
+        .build();
+
+    // when & then
+    assertThatThrownBy(() -> productService.getProducts(searchRequest))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining("가격 범위가 올바르지 않습니다");
   }
 
   @Test
@@ -274,8 +467,8 @@ class ProductServiceTest {
         .size(20)
         .build();
 
-    Page<Product> productPage = new PageImpl<>(List.of(testProduct));
-    given(productRepository.searchByFilters(eq(searchRequest), any(Pageable.class)))
+    Page<ProductListResponse> productPage = new PageImpl<>(List.of(testListResponse()));
+    given(productRepository.search(eq(searchRequest), any(Pageable.class)))
         .willReturn(productPage);
 
     // when
@@ -285,7 +478,7 @@ class ProductServiceTest {
     assertThat(result).isNotNull();
     assertThat(result.getContent()).hasSize(1);
 
-    verify(productRepository).searchByFilters(eq(searchRequest), any(Pageable.class));
+    verify(productRepository).search(eq(searchRequest), any(Pageable.class));
   }
 
   @Test
@@ -300,8 +493,8 @@ class ProductServiceTest {
         .size(20)
         .build();
 
-    Page<Product> productPage = new PageImpl<>(List.of(testProduct));
-    given(productRepository.searchProducts(eq(searchRequest), any(Pageable.class)))
+    Page<ProductListResponse> productPage = new PageImpl<>(List.of(testListResponse()));
+    given(productRepository.search(eq(searchRequest), any(Pageable.class)))
         .willReturn(productPage);
 
     // when
@@ -311,13 +504,166 @@ class ProductServiceTest {
     assertThat(result).isNotNull();
     assertThat(result.getContent()).hasSize(1);
 
-    verify(productRepository).searchProducts(eq(searchRequest), any(Pageable.class));
+    verify(productRepository).search(eq(searchRequest), any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("상품 목록 조회 - 같은 조건 반복 조회 시 캐시된 ID 로 현재 페이지만 조회")
+  void getProducts_RepeatedQuery_UsesResultCache() {
+    // given
+    ProductSearchRequest searchRequest = ProductSearchRequest.builder()
+        .status(ProductStatus.ACTIVE)
+        .build();
+    ProductSearchRequest sameRequest = ProductSearchRequest.builder()
+        .status(ProductStatus.ACTIVE)
+        .sortBy("latest")
+        .build();
+
+    given(productRepository.search(eq(searchRequest), any(Pageable.class)))
+        .willReturn(new PageImpl<>(List.of(testListResponse())));
+    given(productRepository.findListResponsesByIdInOrder(List.of(1L)))
+        .willReturn(List.of(testListResponse()));
+
+    // when
+    productService.getProducts(searchRequest);
+    Page<ProductListResponse> result = productService.getProducts(sameRequest);
+
+    // then
+    assertThat(result.getTotalElements()).isEqualTo(1);
+    assertThat(result.getContent().get(0).getId()).isEqualTo(1L);
+    verify(productRepository).search(any(), any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("상품 목록 조회 - 카탈로그 버전 증가 후에는 다시 조회")
+  void getProducts_AfterVersionBump_ReloadsResult() {
+    // given
+    ProductSearchRequest searchRequest = ProductSearchRequest.builder().build();
+
+    given(productRepository.search(eq(searchRequest), any(Pageable.class)))
+        .willReturn(new PageImpl<>(List.of(testListResponse())));
+
+    // when
+    productService.getProducts(searchRequest);
+    productSearchResultCache.bumpVersion();
+    productService.getProducts(searchRequest);
+
+    // then
+    verify(productRepository, times(2)).search(eq(searchRequest), any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("상품 목록 조회 - 다른 인스턴스의 무효화 메시지 수신 후에는 다시 조회")
+  void getProducts_AfterRemoteInvalidation_ReloadsResult() {
+    // given
+    ProductSearchRequest searchRequest = ProductSearchRequest.builder().build();
+
+    given(productRepository.search(eq(searchRequest), any(Pageable.class)))
+        .willReturn(new PageImpl<>(List.of(testListResponse())));
+
+    // when
+    productService.getProducts(searchRequest);
+    productSearchResultCache.onMessage(new DefaultMessage(
+        ProductSearchResultCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+        "catalog".getBytes(StandardCharsets.UTF_8)), null);
+    productService.getProducts(searchRequest);
+
+    // then
+    verify(productRepository, times(2)).search(eq(searchRequest), any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("상품 목록 Slice 조회 - count 없이 다음 페이지 여부 반환")
+  void getProductSlice_Success() {
+    // given
+    ProductSearchRequest searchRequest = ProductSearchRequest.builder()
+        .status(ProductStatus.ACTIVE)
+        .page(0)
+        .size(1)
+        .build();
+
+    Slice<ProductListResponse> productSlice = new SliceImpl<>(List.of(testListResponse()),
+        PageRequest.of(0, 1), true);
+    given(productRepository.searchProductSlice(eq(searchRequest), any(Pageable.class)))
+        .willReturn(productSlice);
+
+    // when
+    Slice<ProductListResponse> result = productService.getProductSlice(searchRequest);
+
+    // then
+    assertThat(result.getContent()).hasSize(1);
+    assertThat(result.hasNext()).isTrue();
+
+    verify(productRepository, never()).search(any(), any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("상품 목록 커서 조회 - 다음 페이지 커서 생성")
+  void getProductsByCursor_HasNext_ReturnsNextCursor() {
+    // given
+    ProductListResponse secondProduct = ProductListResponse.builder()
+        .id(2L)
+        .name("두번째 상품")
+        .price(new BigDecimal("50000"))
+        .productStatus(ProductStatus.ACTIVE)
+        .views(3)
+        .build();
+    ProductSearchRequest searchRequest = ProductSearchRequest.builder()
+        .sortBy("views")
+        .size(1)
+        .build();
+
+    given(productRepository.searchProductsAfter(searchRequest, null, 2))
+        .willReturn(List.of(secondProduct, testListResponse()));
+
+    // when
+    CursorPageResponse<ProductListResponse> result =
+        productService.getProductsByCursor(searchRequest, "");
+
+    // then
+    assertThat(result.getContent()).hasSize(1);
+    assertThat(result.isHasNext()).isTrue();
+
+    ProductCursor nextCursor = ProductCursor.decode(result.getNextCursor(), ProductSortType.VIEWS);
+    assertThat(nextCursor.getId()).isEqualTo(2L);
+    assertThat(nextCursor.getViews()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("정렬 기준이 다른 커서로 조회 시 예외 발생")
+  void getProductsByCursor_SortMismatch_ThrowsException() {
+    // given
+    String cursor = ProductCursor.of(ProductSortType.VIEWS, testProduct).encode();
+    ProductSearchRequest searchRequest = ProductSearchRequest.builder()
+        .sortBy("price_asc")
+        .build();
+
+    // when & then
+    assertThatThrownBy(() -> productService.getProductsByCursor(searchRequest, cursor))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining("커서의 정렬 기준이 요청과 일치하지 않습니다");
+  }
+
+  @Test
+  @DisplayName("관련도순 정렬로 커서 조회 시 예외 발생")
+  void getProductsByCursor_Relevance_ThrowsException() {
+    // given
+    ProductSearchRequest searchRequest = ProductSearchRequest.builder()
+        .keyword("데님")
+        .sortBy("relevance")
+        .build();
+
+    // when & then
+    assertThatThrownBy(() -> productService.getProductsByCursor(searchRequest, null))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining("관련도순 정렬은 커서 조회를 지원하지 않습니다");
   }
 
   @Test
   @DisplayName("상품 상세 조회 성공")
   void getProduct_Success() {
     // given
+    givenDetailCacheMiss();
     given(productRepository.findByIdExcludingInactive(1L)).willReturn(Optional.of(testProduct));
 
     // when
@@ -329,13 +675,15 @@ class ProductServiceTest {
     assertThat(result.getName()).isEqualTo(testProduct.getName());
 
     verify(productRepository).findByIdExcludingInactive(1L);
-    verify(productRepository).incrementViews(1L);
+    verify(productViewCountAggregator).increment(1L);
+    verify(productRepository, never()).incrementViews(1L);
   }
 
   @Test
   @DisplayName("존재하지 않는 상품 상세 조회 시 예외 발생")
   void getProduct_ProductNotFound_ThrowsException() {
     // given
+    givenDetailCacheMiss();
     given(productRepository.findByIdExcludingInactive(1L)).willReturn(Optional.empty());
 
     // when & then
@@ -344,13 +692,35 @@ class ProductServiceTest {
         .hasMessageContaining("상품을 찾을 수 없습니다: 1");
   }
 
+  @Test
+  @DisplayName("상품 상세 조회 - 캐시 적중 시 상품 미조회, 조회수는 DB 값 + 반영 대기분으로 덮어씀")
+  void getProduct_CacheHit_SkipsRepository() {
+    // given
+    ProductResponse cached = ProductResponse.builder()
+        .id(1L)
+        .name(testProduct.getName())
+        .views(3)
+        .build();
+    given(productDetailCache.get(eq(1L), any())).willReturn(cached);
+    given(productRepository.findViewsById(1L)).willReturn(Optional.of(10));
+    given(productViewCountAggregator.getPendingViews(1L)).willReturn(2L);
+
+    // when
+    ProductResponse result = productService.getProductDetail(1L);
+
+    // then
+    assertThat(result.getName()).isEqualTo(testProduct.getName());
+    assertThat(result.getViews()).isEqualTo(12);
+    verify(productRepository, never()).findByIdExcludingInactive(anyLong());
+    verify(productViewCountAggregator).increment(1L);
+  }
+
   @Test
   @DisplayName("인기 상품 목록 조회")
   void getPopularProducts_Success() {
     // given
-    List<Product> products = List.of(testProduct);
-    given(productRepository.findTopByViewsExcludingInactive(any(Pageable.class)))
-        .willReturn(products);
+    given(productRepository.findPopularListResponses(10))
+        .willReturn(List.of(testListResponse()));
 
     // when
     List<ProductListResponse> result = productService.getPopularProducts(10);
@@ -360,16 +730,63 @@ class ProductServiceTest {
     assertThat(result).hasSize(1);
     assertThat(result.get(0).getName()).isEqualTo(testProduct.getName());
 
-    verify(productRepository).findTopByViewsExcludingInactive(any(Pageable.class));
+    verify(productRepository).findPopularListResponses(10);
+  }
+
+  @Test
+  @DisplayName("인기 상품 목록 조회 - 인메모리 랭킹 (DB 미조회)")
+  void getPopularProducts_FromRanking_Success() {
+    // given
+    given(popularProductRanking.isReady()).willReturn(true);
+    given(popularProductRanking.getTop(10)).willReturn(List.of(ProductDocument.from(testProduct)));
+
+    // when
+    List<ProductListResponse> result = productService.getPopularProducts(10);
+
+    // then
+    assertThat(result).hasSize(1);
+    assertThat(result.get(0).getId()).isEqualTo(testProduct.getId());
+
+    verify(productRepository, never()).findPopularListResponses(anyInt());
+  }
+
+  @Test
+  @DisplayName("인기 상품 목록 조회 - 개수는 1~100 으로 제한")
+  void getPopularProducts_LimitOutOfRange_IsClamped() {
+    // given
+    given(popularProductRanking.isReady()).willReturn(true);
+    given(popularProductRanking.getTop(anyInt())).willReturn(List.of());
+
+    // when
+    productService.getPopularProducts(-5);
+    productService.getPopularProducts(100000);
+
+    // then
+    verify(popularProductRanking).getTop(1);
+    verify(popularProductRanking).getTop(100);
+  }
+
+  @Test
+  @DisplayName("트렌딩 상품 목록 조회 - 개수는 1~100 으로 제한")
+  void getTrendingProducts_LimitOutOfRange_IsClamped() {
+    // given
+    given(trendingProductEngine.getTop(anyInt())).willReturn(List.of());
+
+    // when
+    productService.getTrendingProducts(-5);
+    productService.getTrendingProducts(100000);
+
+    // then
+    verify(trendingProductEngine).getTop(1);
+    verify(trendingProductEngine).getTop(100);
   }
 
   @Test
   @DisplayName("최신 상품 목록 조회")
   void getLatestProducts_Success() {
     // given
-    List<Product> products = List.of(testProduct);
-    given(productRepository.findLatestProductsExcludingInactive(any(Pageable.class)))
-        .willReturn(products);
+    given(productRepository.findLatestListResponses(10))
+        .willReturn(List.of(testListResponse()));
 
     // when
     List<ProductListResponse> result = productService.getLatestProducts(10);
@@ -379,7 +796,28 @@ class ProductServiceTest {
     assertThat(result).hasSize(1);
     assertThat(result.get(0).getName()).isEqualTo(testProduct.getName());
 
-    verify(productRepository).findLatestProductsExcludingInactive(any(Pageable.class));
+    verify(productRepository).findLatestListResponses(10);
+  }
+
+  @Test
+  @DisplayName("상품 일괄 조회 - 중복 제거 후 요청 순서로 조회, INACTIVE 제외, 조회수 미증가")
+  void getProductsByIds_Success() {
+    // given
+    ProductListResponse inactive = ProductListResponse.builder()
+        .id(2L)
+        .name("비활성 상품")
+        .productStatus(ProductStatus.INACTIVE)
+        .build();
+    given(productRepository.findListResponsesByIdInOrder(List.of(1L, 2L, 3L)))
+        .willReturn(List.of(testListResponse(), inactive));
+
+    // when
+    List<ProductListResponse> result = productService.getProductsByIds(List.of(1L, 2L, 1L, 3L));
+
+    // then
+    assertThat(result).extracting(ProductListResponse::getId).containsExactly(1L);
+    verify(productViewCountAggregator, never()).increment(anyLong());
+    verify(productRepository, never()).incrementViews(anyLong());
   }
 
   @Test
@@ -388,8 +826,8 @@ class ProductServiceTest {
     // given
     ProductSearchRequest searchRequest = ProductSearchRequest.builder().build();
 
-    Page<Product> productPage = new PageImpl<>(List.of(testProduct));
-    given(productRepository.findAllExcludingStatus(eq(ProductStatus.INACTIVE), any(Pageable.class)))
+    Page<ProductListResponse> productPage = new PageImpl<>(List.of(testListResponse()));
+    given(productRepository.search(eq(searchRequest), any(Pageable.class)))
         .willReturn(productPage);
 
     // when
@@ -399,7 +837,7 @@ class ProductServiceTest {
     assertThat(result).isNotNull();
 
     // 기본값 확인을 위한 ArgumentCaptor 사용
-    verify(productRepository).findAllExcludingStatus(eq(ProductStatus.INACTIVE),
+    verify(productRepository).search(eq(searchRequest),
         argThat(pageable -> {
           return pageable.getPageNumber() == 0 && pageable.getPageSize() == 20;
         }));
@@ -557,4 +995,22 @@ class ProductServiceTest {
         .isInstanceOf(CustomException.class)
         .hasMessageContaining("이미 비활성화된 상품입니다");
   }
+
+  private ProductListResponse testListResponse() {
+    return ProductListResponse.builder()
+        .id(testProduct.getId())
+        .name(testProduct.getName())
+        .price(testProduct.getPrice())
+        .productStatus(testProduct.getProductStatus())
+        .brand(testProduct.getBrand())
+        .condition(testProduct.getCondition())
+        .views(testProduct.getViews())
+        .build();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void givenDetailCacheMiss() {
+    given(productDetailCache.get(eq(1L), any()))
+        .willAnswer(invocation -> ((Supplier<ProductResponse>) invocation.getArgument(1)).get());
+  }
 }
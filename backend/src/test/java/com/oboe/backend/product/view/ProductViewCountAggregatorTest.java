@@ -0,0 +1,121 @@
+package com.oboe.backend.product.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.oboe.backend.product.event.ProductViewsFlushedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductViewCountAggregator 테스트")
+class ProductViewCountAggregatorTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private SimpleMeterRegistry meterRegistry;
+  private ProductViewCountAggregator aggregator;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    aggregator = new ProductViewCountAggregator(jdbcTemplate, eventPublisher, meterRegistry, 500);
+  }
+
+  @Test
+  @DisplayName("누적된 조회수를 UPDATE CASE 한 문장으로 반영")
+  void flush_Success() {
+    // given
+    aggregator.increment(1L);
+    aggregator.increment(1L);
+    aggregator.increment(2L);
+
+    // when
+    aggregator.flush();
+
+    // then
+    ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+    ArgumentCaptor<Object[]> arguments = ArgumentCaptor.forClass(Object[].class);
+    verify(jdbcTemplate).update(sql.capture(), arguments.capture());
+
+    assertThat(sql.getValue()).contains("CASE id WHEN ? THEN ? WHEN ? THEN ?")
+        .contains("WHERE id IN (?, ?)");
+    assertThat(arguments.getValue()).containsExactlyInAnyOrder(1L, 2L, 2L, 1L, 1L, 2L);
+    assertThat(aggregator.getPendingDelta()).isZero();
+    assertThat(meterRegistry.get("product.views.flushed").counter().count()).isEqualTo(3.0);
+
+    ArgumentCaptor<ProductViewsFlushedEvent> event =
+        ArgumentCaptor.forClass(ProductViewsFlushedEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertThat(event.getValue().getViewDeltas()).containsEntry(1L, 2L).containsEntry(2L, 1L);
+  }
+
+  @Test
+  @DisplayName("누적분이 없으면 DB 를 갱신하지 않음")
+  void flush_NoPendingViews_SkipsUpdate() {
+    // when
+    aggregator.flush();
+
+    // then
+    verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+  }
+
+  @Test
+  @DisplayName("반영 실패 시 누적분 복원")
+  void flush_Failure_RestoresPendingViews() {
+    // given
+    aggregator.increment(1L);
+    aggregator.increment(1L);
+    given(jdbcTemplate.update(anyString(), any(Object[].class)))
+        .willThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+
+    // when
+    aggregator.flush();
+
+    // then
+    assertThat(aggregator.getPendingDelta()).isEqualTo(2);
+    assertThat(aggregator.getPendingViews(1L)).isEqualTo(2);
+    assertThat(aggregator.getPendingViews(2L)).isZero();
+    verify(eventPublisher, never()).publishEvent(any());
+    assertThat(meterRegistry.get("product.views.pending.delta").gauge().value()).isEqualTo(2.0);
+  }
+
+  @Test
+  @DisplayName("증가가 없는 상품은 다음 반영 주기에 집계 맵에서 제거")
+  void flush_IdleProducts_AreRemoved() {
+    // given
+    aggregator.increment(1L);
+    aggregator.increment(2L);
+    aggregator.flush();
+    aggregator.increment(2L);
+
+    // when
+    aggregator.flush();
+
+    // then
+    assertThat(aggregator.getTrackedProductCount()).isEqualTo(1);
+    aggregator.flush();
+    assertThat(aggregator.getTrackedProductCount()).isZero();
+
+    // 제거 후 다시 조회되면 새로 누적
+    aggregator.increment(1L);
+    assertThat(aggregator.getPendingDelta()).isEqualTo(1);
+  }
+}